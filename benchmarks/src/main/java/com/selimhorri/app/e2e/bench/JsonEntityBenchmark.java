@@ -0,0 +1,62 @@
+package com.selimhorri.app.e2e.bench;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.e2e.util.JwtTestHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request serialization path of MultiServiceIntegrationE2ETest.createJsonEntity
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonEntityBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Object> userRequest = SamplePayloads.userRequest();
+    private final Map<String, Object> productRequest = SamplePayloads.productRequest();
+    private final Map<String, Object> orderRequest = SamplePayloads.orderRequest();
+
+    @Benchmark
+    public String writeUserRequest() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(userRequest);
+    }
+
+    @Benchmark
+    public String writeProductRequest() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(productRequest);
+    }
+
+    @Benchmark
+    public String writeOrderRequest() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(orderRequest);
+    }
+
+    @Benchmark
+    public HttpEntity<String> createJsonEntity() throws JsonProcessingException {
+        String json = objectMapper.writeValueAsString(userRequest);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        String jwtToken = JwtTestHelper.getToken("testuser");
+        headers.set("Authorization", "Bearer " + jwtToken);
+        return new HttpEntity<>(json, headers);
+    }
+}
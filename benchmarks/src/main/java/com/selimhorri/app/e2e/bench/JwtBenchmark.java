@@ -0,0 +1,33 @@
+package com.selimhorri.app.e2e.bench;
+
+import com.selimhorri.app.e2e.util.JwtTestHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of obtaining the Bearer token attached to every E2E request
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    @Benchmark
+    public String generateToken() {
+        return JwtTestHelper.generateToken("testuser");
+    }
+
+    @Benchmark
+    public String cachedToken() {
+        return JwtTestHelper.getToken("testuser");
+    }
+}
@@ -0,0 +1,58 @@
+package com.selimhorri.app.e2e.bench;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response parsing path of parseJsonResponse (ObjectMapper.readTree) in the E2E tests
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseParsingBenchmark {
+
+    @Param({"user", "product", "order", "productList"})
+    private String body;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private String responseBody;
+
+    @Setup
+    public void setUp() {
+        switch (body) {
+            case "user":
+                responseBody = SamplePayloads.USER_RESPONSE;
+                break;
+            case "product":
+                responseBody = SamplePayloads.PRODUCT_RESPONSE;
+                break;
+            case "order":
+                responseBody = SamplePayloads.ORDER_RESPONSE;
+                break;
+            default:
+                responseBody = SamplePayloads.PRODUCT_LIST_RESPONSE;
+        }
+    }
+
+    @Benchmark
+    public JsonNode parseJsonResponse() throws JsonProcessingException {
+        return objectMapper.readTree(responseBody);
+    }
+}
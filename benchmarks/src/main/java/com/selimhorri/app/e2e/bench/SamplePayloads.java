@@ -0,0 +1,123 @@
+package com.selimhorri.app.e2e.bench;
+
+import com.selimhorri.app.e2e.model.CartDto;
+import com.selimhorri.app.e2e.model.CategoryDto;
+import com.selimhorri.app.e2e.model.OrderDto;
+import com.selimhorri.app.e2e.model.ProductDto;
+import com.selimhorri.app.e2e.model.UserDto;
+import com.selimhorri.app.e2e.util.UserDataHelper;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Request and response bodies shaped like the ones exchanged by the E2E tests
+ */
+public final class SamplePayloads {
+
+    public static final String USER_RESPONSE = "{"
+            + "\"userId\":1523,\"firstName\":\"Shopper1a2b3c4d\",\"lastName\":\"Customer\","
+            + "\"imageUrl\":\"https://example.com/shopper.jpg\",\"email\":\"shopper1a2b3c4d@example.com\","
+            + "\"phone\":\"+15551a2b3c4\",\"credential\":{\"credentialId\":1523,\"username\":\"shopper1a2b3c4d\","
+            + "\"password\":\"$2a$04$K7a0vT0yoKj4wq8x1Vt0O.9h1oUQx9b6k0S8W2XlYqS3a9dT1eZ2u\","
+            + "\"roleBasedAuthority\":\"ROLE_USER\",\"isEnabled\":true,\"isAccountNonExpired\":true,"
+            + "\"isAccountNonLocked\":true,\"isCredentialsNonExpired\":true}}";
+
+    public static final String PRODUCT_RESPONSE = product(4711);
+
+    public static final String ORDER_RESPONSE = "{"
+            + "\"orderId\":982,\"orderDate\":\"16-10-2026__10:15:30:123456\","
+            + "\"orderDesc\":\"E2E test order for shopping flow 1a2b3c4d\",\"orderFee\":34.99,"
+            + "\"cart\":{\"cartId\":611,\"userId\":1523}}";
+
+    public static final String PRODUCT_LIST_RESPONSE = productList(100);
+
+    private SamplePayloads() {
+    }
+
+    public static Map<String, Object> userRequest() {
+        return UserDataHelper.createUserRequest(
+                "Shopper1a2b3c4d",
+                "Customer",
+                "shopper1a2b3c4d@example.com",
+                "+15551a2b3c4",
+                "shopper1a2b3c4d",
+                "ShopSecure123!");
+    }
+
+    public static Map<String, Object> productRequest() {
+        Map<String, Object> product = new HashMap<>();
+        product.put("productTitle", "E2ETestProduct1a2b3c4d");
+        product.put("imageUrl", "https://example.com/product.jpg");
+        product.put("sku", "E2E1a2b3c4d");
+        product.put("priceUnit", 29.99);
+        product.put("quantity", 100);
+
+        Map<String, Object> category = new HashMap<>();
+        category.put("categoryId", 1);
+        product.put("category", category);
+        return product;
+    }
+
+    public static Map<String, Object> orderRequest() {
+        Map<String, Object> order = new HashMap<>();
+        order.put("orderDate", "16-10-2026__10:15:30:123456");
+        order.put("orderDesc", "E2E test order for shopping flow 1a2b3c4d");
+        order.put("orderFee", 34.99);
+
+        Map<String, Object> cart = new HashMap<>();
+        cart.put("cartId", 611);
+        order.put("cart", cart);
+        return order;
+    }
+
+    public static UserDto user() {
+        return UserDataHelper.createUser(
+                "Shopper1a2b3c4d",
+                "Customer",
+                "shopper1a2b3c4d@example.com",
+                "+15551a2b3c4",
+                "shopper1a2b3c4d",
+                "ShopSecure123!",
+                "https://example.com/default.jpg");
+    }
+
+    public static ProductDto product() {
+        ProductDto product = new ProductDto();
+        product.setProductTitle("E2ETestProduct1a2b3c4d");
+        product.setImageUrl("https://example.com/product.jpg");
+        product.setSku("E2E1a2b3c4d");
+        product.setPriceUnit(29.99);
+        product.setQuantity(100);
+        product.setCategory(new CategoryDto(1));
+        return product;
+    }
+
+    public static OrderDto order() {
+        OrderDto order = new OrderDto();
+        order.setOrderDate("16-10-2026__10:15:30:123456");
+        order.setOrderDesc("E2E test order for shopping flow 1a2b3c4d");
+        order.setOrderFee(34.99);
+        order.setCart(CartDto.withId(611));
+        return order;
+    }
+
+    private static String product(int productId) {
+        return "{"
+                + "\"productId\":" + productId + ",\"productTitle\":\"E2ETestProduct" + productId + "\","
+                + "\"imageUrl\":\"https://example.com/product.jpg\",\"sku\":\"E2E" + productId + "\","
+                + "\"priceUnit\":29.99,\"quantity\":100,"
+                + "\"category\":{\"categoryId\":1,\"categoryTitle\":\"Computer\",\"imageUrl\":null}}";
+    }
+
+    private static String productList(int size) {
+        StringBuilder json = new StringBuilder("{\"collection\":[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(product(i + 1));
+        }
+        return json.append("]}").toString();
+    }
+}
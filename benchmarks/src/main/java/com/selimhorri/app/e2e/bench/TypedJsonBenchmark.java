@@ -0,0 +1,112 @@
+package com.selimhorri.app.e2e.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.selimhorri.app.e2e.model.OrderDto;
+import com.selimhorri.app.e2e.model.ProductDto;
+import com.selimhorri.app.e2e.model.UserDto;
+import com.selimhorri.app.e2e.util.JsonCodecs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Map/JsonNode payloads against the typed DTOs written and read through JsonCodecs
+ * "typedReflective" uses the same DTOs through a plain ObjectMapper to separate the gain
+ * of typed models from the gain of the Blackbird module.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TypedJsonBenchmark {
+
+    @Param({"user", "product", "order"})
+    private String body;
+
+    private final ObjectMapper plainMapper = new ObjectMapper();
+    private Map<String, Object> mapRequest;
+    private Object typedRequest;
+    private byte[] response;
+    private ObjectWriter reflectiveWriter;
+    private ObjectReader reflectiveReader;
+    private ObjectWriter codecsWriter;
+    private ObjectReader codecsReader;
+
+    @Setup
+    public void setUp() {
+        Class<?> type;
+        String responseBody;
+        switch (body) {
+            case "user":
+                mapRequest = SamplePayloads.userRequest();
+                typedRequest = SamplePayloads.user();
+                responseBody = SamplePayloads.USER_RESPONSE;
+                type = UserDto.class;
+                break;
+            case "product":
+                mapRequest = SamplePayloads.productRequest();
+                typedRequest = SamplePayloads.product();
+                responseBody = SamplePayloads.PRODUCT_RESPONSE;
+                type = ProductDto.class;
+                break;
+            default:
+                mapRequest = SamplePayloads.orderRequest();
+                typedRequest = SamplePayloads.order();
+                responseBody = SamplePayloads.ORDER_RESPONSE;
+                type = OrderDto.class;
+        }
+        response = responseBody.getBytes(StandardCharsets.UTF_8);
+        reflectiveWriter = plainMapper.writerFor(type);
+        reflectiveReader = plainMapper.readerFor(type);
+        codecsWriter = JsonCodecs.writerFor(type);
+        codecsReader = JsonCodecs.readerFor(type);
+    }
+
+    @Benchmark
+    public byte[] writeMap() throws IOException {
+        return plainMapper.writeValueAsBytes(mapRequest);
+    }
+
+    @Benchmark
+    public byte[] writeTypedReflective() throws IOException {
+        return reflectiveWriter.writeValueAsBytes(typedRequest);
+    }
+
+    @Benchmark
+    public byte[] writeTypedCodecs() throws IOException {
+        return codecsWriter.writeValueAsBytes(typedRequest);
+    }
+
+    @Benchmark
+    public JsonNode readTree() throws IOException {
+        return plainMapper.readTree(response);
+    }
+
+    @Benchmark
+    public Object readTypedReflective() throws IOException {
+        return reflectiveReader.readValue(response);
+    }
+
+    @Benchmark
+    public Object readTypedCodecs() throws IOException {
+        return codecsReader.readValue(response);
+    }
+}
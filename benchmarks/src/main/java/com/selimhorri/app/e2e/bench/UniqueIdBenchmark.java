@@ -0,0 +1,44 @@
+package com.selimhorri.app.e2e.bench;
+
+import com.selimhorri.app.e2e.util.UniqueIds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unique id generation of the E2E data builders: UUID prefix against the sharded UniqueIds
+ * Run at increasing thread counts to compare scaling; the UUID path serializes on
+ * SecureRandom while UniqueIds should grow linearly with cores:
+ *   java -jar target/benchmarks.jar UniqueIdBenchmark -t 1
+ *   java -jar target/benchmarks.jar UniqueIdBenchmark -t 4
+ *   java -jar target/benchmarks.jar UniqueIdBenchmark -t max
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniqueIdBenchmark {
+
+    @Benchmark
+    public String uuidPrefix() {
+        return UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Benchmark
+    public String uniqueId() {
+        return UniqueIds.next();
+    }
+
+    @Benchmark
+    public String uniquePhone() {
+        return UniqueIds.phone("+1555");
+    }
+}
@@ -0,0 +1,41 @@
+package com.selimhorri.app.e2e.bench;
+
+import com.selimhorri.app.e2e.util.UserDataHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building a user registration payload
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserDataHelperBenchmark {
+
+    @Benchmark
+    public Map<String, Object> createUserRequest() {
+        return SamplePayloads.userRequest();
+    }
+
+    @Benchmark
+    public Map<String, Object> createUserRequestWithImage() {
+        return UserDataHelper.createUserRequest(
+                "Shopper1a2b3c4d",
+                "Customer",
+                "shopper1a2b3c4d@example.com",
+                "+15551a2b3c4",
+                "shopper1a2b3c4d",
+                "ShopSecure123!",
+                "https://example.com/shopper.jpg");
+    }
+}
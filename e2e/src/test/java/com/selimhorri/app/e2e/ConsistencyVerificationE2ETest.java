@@ -0,0 +1,113 @@
+package com.selimhorri.app.e2e;
+
+import com.selimhorri.app.e2e.seed.SeedEngine;
+import com.selimhorri.app.e2e.seed.SeedResult;
+import com.selimhorri.app.e2e.seed.SeedSpec;
+import com.selimhorri.app.e2e.util.E2EEnvironment;
+import com.selimhorri.app.e2e.util.JwtTestHelper;
+import com.selimhorri.app.e2e.util.SharedHttpClient;
+import com.selimhorri.app.e2e.verify.VerificationReport;
+import com.selimhorri.app.e2e.verify.VerificationReport.MismatchKind;
+import com.selimhorri.app.e2e.verify.VerifyRunner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * E2E Test: Seeded Dataset Consistency Verification
+ * Seeds users, products, carts and orders with the seed engine, verifies the id files in full
+ * and sampled mode, then deletes one user and checks the carts left pointing at it are
+ * reported as dangling references. Runs against the stub only, where deleting is safe to do
+ * mid-suite.
+ */
+@EnabledIf(value = "com.selimhorri.app.e2e.util.E2EEnvironment#isStubMode",
+        disabledReason = "Deletes a seeded user mid-suite - run with -De2e.stub=true or -Pe2e-offline")
+@DisplayName("Consistency Verification E2E Tests")
+public class ConsistencyVerificationE2ETest {
+
+    private static final int USERS = 20;
+    private static final int PRODUCTS = 10;
+    private static final int CARTS = 40;
+    private static final int ORDERS = 80;
+    private static final int TOTAL = USERS + PRODUCTS + CARTS + ORDERS;
+    private static final long SEED = 42;
+
+    @TempDir
+    Path seedDir;
+
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = E2EEnvironment.gatewayUrl();
+        System.out.println("🌐 Testing against Gateway: " + baseUrl);
+    }
+
+    @Test
+    @DisplayName("Full and Sampled Verification Report a Dangling Cart Reference")
+    void testVerificationReportsDanglingReference() throws InterruptedException, IOException {
+        System.out.println("🔍 Starting Consistency Verification Test");
+
+        int[] users;
+        try (SeedEngine engine = new SeedEngine(baseUrl, 16, 2)) {
+            String runId = "verify" + System.nanoTime();
+            users = seed(engine, SeedSpec.users(runId), USERS, "users.ids").getIds();
+            seed(engine, SeedSpec.products(runId), PRODUCTS, "products.ids");
+            int[] carts = seed(engine, SeedSpec.carts(users), CARTS, "carts.ids").getIds();
+            seed(engine, SeedSpec.orders(runId, carts), ORDERS, "orders.ids");
+        }
+
+        VerificationReport full = VerifyRunner.verify(baseUrl, seedDir, 1.0, 16, SEED);
+        full.print(System.out);
+        assertThat(full.getChecked()).as("Full mode checks every id").isEqualTo(TOTAL);
+        assertThat(full.getMismatches()).as("Mismatches: " + full.getExamples()).isZero();
+
+        VerificationReport sampled = VerifyRunner.verify(baseUrl, seedDir, 0.5, 16, SEED);
+        sampled.print(System.out);
+        assertThat(sampled.getChecked()).as("Sampled mode checks part of the ids").isBetween(1L, TOTAL - 1L);
+        assertThat(sampled.getMismatches()).isZero();
+        assertThat(VerifyRunner.verify(baseUrl, seedDir, 0.5, 16, SEED).getChecked())
+                .as("The same seed samples the same ids").isEqualTo(sampled.getChecked());
+
+        // Carts are spread round-robin over the users, so CARTS / USERS of them reference the first one
+        deleteUser(users[0]);
+        VerificationReport broken = VerifyRunner.verify(baseUrl, seedDir, 1.0, 16, SEED);
+        broken.print(System.out);
+        assertThat(broken.getMismatchesByKind().get(MismatchKind.MISSING)).as("Deleted user").isEqualTo(1L);
+        assertThat(broken.getMismatchesByKind().get(MismatchKind.DANGLING_REFERENCE)).as("Carts of the deleted user")
+                .isEqualTo((long) CARTS / USERS);
+        assertThat(broken.getExamples()).anyMatch(example -> example.contains("-> missing user " + users[0]));
+
+        System.out.println("🎉 Consistency Verification Test PASSED!");
+    }
+
+    private SeedResult seed(SeedEngine engine, SeedSpec<?> spec, int count, String idFile)
+            throws InterruptedException {
+        SeedResult result = engine.seed(spec, count, seedDir.resolve(idFile));
+        System.out.println("✅ " + result);
+        assertThat(result.getFailed()).as(spec.getEntity() + " that could not be seeded").isZero();
+        assertThat(Arrays.stream(result.getIds()).distinct().count()).isEqualTo(count);
+        return result;
+    }
+
+    private void deleteUser(int userId) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", JwtTestHelper.getAuthorizationHeader("testuser"));
+        ResponseEntity<String> response = SharedHttpClient.testRestTemplate().exchange(
+                baseUrl + SeedSpec.USERS + "/" + userId, HttpMethod.DELETE, new HttpEntity<>(headers), String.class);
+        assertThat(response.getStatusCode().is2xxSuccessful()).as("Delete of user " + userId).isTrue();
+    }
+}
@@ -0,0 +1,87 @@
+package com.selimhorri.app.e2e;
+
+import com.selimhorri.app.e2e.cleanup.CreatedResources;
+import com.selimhorri.app.e2e.distributed.LoadCoordinator;
+import com.selimhorri.app.e2e.distributed.LoadWorker;
+import com.selimhorri.app.e2e.distributed.WorkPlan;
+import com.selimhorri.app.e2e.load.EndpointSummary;
+import com.selimhorri.app.e2e.load.LoadProfile;
+import com.selimhorri.app.e2e.load.LoadResult;
+import com.selimhorri.app.e2e.load.UserRegistrationScenario;
+import com.selimhorri.app.e2e.util.E2EEnvironment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * E2E Test: Distributed Load
+ * Runs the coordinator in this JVM and two LoadWorker JVMs against the in-process stub gateway,
+ * then checks the merged result covers both workers' traffic.
+ */
+@DisplayName("Distributed Load E2E Tests")
+@EnabledIf(value = "com.selimhorri.app.e2e.util.E2EEnvironment#isStubMode",
+        disabledReason = "Workers are spawned on this host against the stub gateway - run with -Pe2e-offline")
+public class DistributedLoadE2ETest {
+
+    private static final int WORKERS = 2;
+
+    @Test
+    @DisplayName("Registration Flow from Two Worker JVMs")
+    void testRegistrationFlowFromTwoWorkers() throws IOException, InterruptedException {
+        System.out.println("🌍 Starting Distributed Load Test");
+
+        WorkPlan plan = new WorkPlan("registration", "ramp:4:1s,hold:2s", LoadProfile.Mode.CONCURRENCY,
+                E2EEnvironment.gatewayUrl());
+
+        List<Process> workers = new ArrayList<>();
+        LoadResult result;
+        try (LoadCoordinator coordinator = new LoadCoordinator(0)) {
+            for (int i = 0; i < WORKERS; i++) {
+                workers.add(new ProcessBuilder(
+                        Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                        "-cp", System.getProperty("java.class.path"),
+                        "-Dworker.coordinator=localhost:" + coordinator.getPort(),
+                        "-Dworker.id=worker-" + i,
+                        // Workers must not delete what they created on exit, the suite still reads it
+                        "-D" + CreatedResources.ENABLED_PROPERTY + "=false",
+                        LoadWorker.class.getName())
+                        .redirectErrorStream(true)
+                        .redirectOutput(new File(System.getProperty("java.io.tmpdir"), "load-worker-" + i + ".log"))
+                        .start());
+            }
+            try {
+                result = coordinator.run(plan, WORKERS, Duration.ofSeconds(60));
+            } finally {
+                for (Process worker : workers) {
+                    if (!worker.waitFor(30, TimeUnit.SECONDS)) {
+                        worker.destroyForcibly();
+                    }
+                }
+            }
+        }
+        result.print(System.out);
+
+        for (Process worker : workers) {
+            assertThat(worker.exitValue()).as("Workers should exit cleanly").isZero();
+        }
+        assertThat(result.getPeakSessions()).as("Both workers' sessions should add up").isGreaterThanOrEqualTo(WORKERS);
+        assertThat(result.getIterations()).as("Registrations should complete").isPositive();
+        assertThat(result.getFailedIterations()).as("No registration should fail").isZero();
+        assertThat(result.getEndpoints())
+                .extracting(EndpointSummary::getName)
+                .contains(UserRegistrationScenario.USERS, UserRegistrationScenario.USER_BY_ID);
+        assertThat(result.getTotalRequests()).as("Every iteration makes at least one request").isGreaterThanOrEqualTo(result.getIterations());
+
+        System.out.println("🎉 Distributed Load Test PASSED!");
+    }
+}
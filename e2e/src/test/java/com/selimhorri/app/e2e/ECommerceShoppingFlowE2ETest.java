@@ -2,12 +2,15 @@ package com.selimhorri.app.e2e;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.e2e.util.E2EEnvironment;
+import com.selimhorri.app.e2e.util.JsonCodecs;
 import com.selimhorri.app.e2e.util.JwtTestHelper;
+import com.selimhorri.app.e2e.util.SharedHttpClient;
+import com.selimhorri.app.e2e.util.UniqueIds;
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.junit.jupiter.api.condition.EnabledIf;
 import org.springframework.http.*;
 import org.springframework.web.client.RestTemplate;
 
@@ -15,7 +18,6 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -25,9 +27,11 @@ import static org.assertj.core.api.Assertions.*;
  * checkout → order history
  * 
  * NOTE: These tests require inter-service communication through Eureka discovery.
- * If Eureka discovery is not fully operational, these tests may fail.
+ * If Eureka discovery is not fully operational, these tests may fail; they run by default
+ * only against the offline stub gateway (-Pe2e-offline) or with -De2e.discovery.enabled=true.
  */
-@Disabled("Requires inter-service communication through Eureka discovery - enable when discovery is fully operational")
+@EnabledIf(value = "com.selimhorri.app.e2e.util.E2EEnvironment#crossServiceFlowsEnabled",
+        disabledReason = "Requires inter-service communication through Eureka discovery - run with -De2e.discovery.enabled=true or -Pe2e-offline")
 @DisplayName("eCommerce Shopping Flow E2E Tests")
 public class ECommerceShoppingFlowE2ETest {
 
@@ -45,14 +49,12 @@ public class ECommerceShoppingFlowE2ETest {
 
         @BeforeEach
         void setUp() {
-                restTemplate = new RestTemplateBuilder()
-                                .setConnectTimeout(java.time.Duration.ofSeconds(10))
-                                .setReadTimeout(java.time.Duration.ofSeconds(30))
-                                .build();
+                restTemplate = SharedHttpClient.restTemplate();
+                System.out.println("🔌 " + SharedHttpClient.poolStats());
 
-                objectMapper = new ObjectMapper();
-                apiGatewayUrl = System.getProperty("api.gateway.url", "http://localhost:9090");
-                uniqueId = UUID.randomUUID().toString().substring(0, 8);
+                objectMapper = JsonCodecs.mapper();
+                apiGatewayUrl = E2EEnvironment.gatewayUrl();
+                uniqueId = UniqueIds.next();
 
                 // Setup test user with nested credential structure
                 testUser = new HashMap<>();
@@ -60,7 +62,7 @@ public class ECommerceShoppingFlowE2ETest {
                 testUser.put("lastName", "Customer");
                 testUser.put("imageUrl", "https://example.com/shopper.jpg");
                 testUser.put("email", "shopper" + uniqueId + "@example.com");
-                testUser.put("phone", "+1555" + uniqueId.substring(0, 7));
+                testUser.put("phone", UniqueIds.phone("+1555"));
 
                 // Nested credential object
                 Map<String, Object> credential = new HashMap<>();
@@ -90,7 +92,7 @@ public class ECommerceShoppingFlowE2ETest {
         private HttpHeaders createHeadersWithJwt() {
                 HttpHeaders headers = new HttpHeaders();
                 headers.setContentType(MediaType.APPLICATION_JSON);
-                String jwtToken = JwtTestHelper.generateToken("testuser");
+                String jwtToken = JwtTestHelper.getToken("testuser");
                 headers.set("Authorization", "Bearer " + jwtToken);
                 return headers;
         }
@@ -260,7 +262,8 @@ public class ECommerceShoppingFlowE2ETest {
 
                 assertThat(orderHistoryResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
 
-                JsonNode allOrders = parseJsonResponse(orderHistoryResponse.getBody());
+                // List endpoints return a wrapped {"collection": [...]} object
+                JsonNode allOrders = parseJsonResponse(orderHistoryResponse.getBody()).path("collection");
                 assertThat(allOrders.isArray()).as("Order history should be an array").isTrue();
 
                 // Find our order in the history
@@ -1,7 +1,19 @@
 package com.selimhorri.app.e2e;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.e2e.contention.ContentionEngine;
+import com.selimhorri.app.e2e.contention.ContentionReport;
+import com.selimhorri.app.e2e.contention.HotProductStockWorkload;
+import com.selimhorri.app.e2e.contention.HotUserWorkload;
+import com.selimhorri.app.e2e.util.E2EEnvironment;
+import com.selimhorri.app.e2e.util.JsonCodecs;
 import com.selimhorri.app.e2e.util.JwtTestHelper;
+import com.selimhorri.app.e2e.util.LatencyBudget;
+import com.selimhorri.app.e2e.util.LatencyRecorder;
+import com.selimhorri.app.e2e.util.SharedHttpClient;
+import com.selimhorri.app.e2e.util.SteadyStateRecorder;
+import com.selimhorri.app.e2e.util.StreamingCollectionReader;
+import com.selimhorri.app.e2e.util.UniqueIds;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -28,6 +40,13 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 public class ErrorHandlingAndResilienceE2ETest {
 
     private static final DateTimeFormatter ORDER_DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy__HH:mm:ss:SSSSSS");
+    // Warm-up ends when SteadyStateRecorder sees stable latencies; this only caps the calls spent waiting for it
+    // -De2e.latency.warmup, its former name, is still read when the new one is not set
+    private static final int LATENCY_MAX_WARMUP_ITERATIONS = Integer.getInteger("e2e.latency.maxWarmup",
+            Integer.getInteger("e2e.latency.warmup", 60));
+    private static final int LATENCY_ITERATIONS = Integer.getInteger("e2e.latency.iterations", 50);
+    // Default per-endpoint budget for list endpoints (ms): p50, p95, p99, p99.9, max
+    private static final LatencyBudget LIST_ENDPOINT_BUDGET = new LatencyBudget(500, 1500, 3000, 5000, 5000);
     
     private TestRestTemplate restTemplate;
     private ObjectMapper objectMapper;
@@ -35,17 +54,18 @@ public class ErrorHandlingAndResilienceE2ETest {
 
     @BeforeEach
     void setUp() {
-        restTemplate = new TestRestTemplate();
-        objectMapper = new ObjectMapper();
-        // Read from system property passed by Maven: -Dapi.gateway.url=http://10.22.10.27
-        baseUrl = System.getProperty("api.gateway.url", "http://localhost:9090");
+        restTemplate = SharedHttpClient.testRestTemplate();
+        objectMapper = JsonCodecs.mapper();
+        // Read from system property passed by Maven: -Dapi.gateway.url=http://10.22.10.27 (or the stub with -De2e.stub=true)
+        baseUrl = E2EEnvironment.gatewayUrl();
         System.out.println("🌐 Testing against Gateway: " + baseUrl);
+        System.out.println("🔌 " + SharedHttpClient.poolStats());
     }
     
     private HttpHeaders createHeadersWithJwt() {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
-        String jwtToken = JwtTestHelper.generateToken("testuser");
+        String jwtToken = JwtTestHelper.getToken("testuser");
         headers.set("Authorization", "Bearer " + jwtToken);
         return headers;
     }
@@ -292,7 +312,7 @@ public class ErrorHandlingAndResilienceE2ETest {
     
     @Test
     @Order(4)
-    void testConcurrentModificationHandling() {
+    void testConcurrentModificationHandling() throws InterruptedException {
         System.out.println("🔄 Testing Concurrent Modification Handling");
 
         // Create test data
@@ -317,43 +337,29 @@ public class ErrorHandlingAndResilienceE2ETest {
         assertThat(productResponse.getStatusCode()).isIn(HttpStatus.OK, HttpStatus.CREATED);
         Integer productId = (Integer) productResponse.getBody().get("productId");
 
-        // Test concurrent updates
+        // Fire truly parallel updates at the same user and product and check the final states
         @SuppressWarnings("unchecked")
         Map<String, Object> originalCred = (Map<String, Object>) userRequest.get("credential");
-        
-        Map<String, Object> updateRequest1 = new HashMap<>();
-        updateRequest1.put("userId", userId);
-        updateRequest1.put("firstName", "UpdatedFirstName1");
-        updateRequest1.put("lastName", "UpdatedLastName1");
-        updateRequest1.put("email", userRequest.get("email"));
-        updateRequest1.put("credential", originalCred);
-
-        Map<String, Object> updateRequest2 = new HashMap<>();
-        updateRequest2.put("userId", userId);
-        updateRequest2.put("firstName", "UpdatedFirstName2");
-        updateRequest2.put("lastName", "UpdatedLastName2");
-        updateRequest2.put("email", userRequest.get("email"));
-        updateRequest2.put("credential", originalCred);
-
-        // Execute concurrent updates
-        ResponseEntity<Map> update1 = restTemplate.exchange(
-                baseUrl + "/user-service/api/users",
-                HttpMethod.PUT,
-                createJsonEntity(updateRequest1),
-                Map.class
-        );
 
-        ResponseEntity<Map> update2 = restTemplate.exchange(
-                baseUrl + "/user-service/api/users",
-                HttpMethod.PUT,
-                createJsonEntity(updateRequest2),
-                Map.class
-        );
+        Map<String, Object> userUpdate = new HashMap<>();
+        userUpdate.put("userId", userId);
+        userUpdate.put("email", userRequest.get("email"));
+        userUpdate.put("credential", originalCred);
+
+        ContentionEngine engine = ContentionEngine.fromSystemProperties();
+        ContentionReport users = engine.run(
+                new HotUserWorkload(restTemplate, baseUrl, createHeadersWithJwt(), userUpdate));
+        users.print(System.out);
+        ContentionReport stock = engine.run(
+                new HotProductStockWorkload(restTemplate, baseUrl, createHeadersWithJwt(), productId));
+        stock.print(System.out);
 
         // At least one should succeed
-        boolean atLeastOneSucceeded = update1.getStatusCode().is2xxSuccessful() || 
-                                     update2.getStatusCode().is2xxSuccessful();
-        assertThat(atLeastOneSucceeded).isTrue();
+        assertThat(users.getAcknowledged()).as("Acknowledged user updates").isPositive();
+        assertThat(stock.getAcknowledged()).as("Acknowledged stock updates").isPositive();
+        // Blind writes of the last writer must win intact; lost read-modify-write increments are only reported
+        assertThat(users.getCheck().getAnomalies()).as("User final state anomalies").isEmpty();
+        assertThat(users.getCheck().getLostUpdates()).as("Lost user updates").isZero();
 
         System.out.println("✅ Concurrent modification handling tested");
     }
@@ -461,58 +467,28 @@ public class ErrorHandlingAndResilienceE2ETest {
     
     @Test
     @Order(6)
-    @Disabled("Test expects List response but API returns wrapped object")
-    void testTimeoutAndResponseTimeHandling() {
+    void testTimeoutAndResponseTimeHandling() throws Exception {
         System.out.println("⏱️ Testing Timeout and Response Time Handling");
 
-        long startTime = System.currentTimeMillis();
-
-        // Test basic response times
-        ResponseEntity<List> usersResponse = restTemplate.exchange(
-                baseUrl + "/user-service/api/users",
-                HttpMethod.GET,
-                createJsonEntity(null, true),
-                List.class
-        );
-
-        long responseTime = System.currentTimeMillis() - startTime;
-
-        assertThat(usersResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(responseTime).isLessThan(5000); // Should respond within 5 seconds
-
-        System.out.println("✅ User list response time: " + responseTime + "ms");
-
-        // Test product list response time
-        startTime = System.currentTimeMillis();
-        ResponseEntity<List> productsResponse = restTemplate.exchange(
-                baseUrl + "/product-service/api/products",
-                HttpMethod.GET,
-                createJsonEntity(null, true),
-                List.class
-        );
-
-        responseTime = System.currentTimeMillis() - startTime;
-
-        assertThat(productsResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(responseTime).isLessThan(5000);
-
-        System.out.println("✅ Product list response time: " + responseTime + "ms");
-
-        // Test order list response time
-        startTime = System.currentTimeMillis();
-        ResponseEntity<List> ordersResponse = restTemplate.exchange(
-                baseUrl + "/order-service/api/orders",
-                HttpMethod.GET,
-                createJsonEntity(null, true),
-                List.class
-        );
-
-        responseTime = System.currentTimeMillis() - startTime;
-
-        assertThat(ordersResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(responseTime).isLessThan(5000);
-
-        System.out.println("✅ Order list response time: " + responseTime + "ms");
+        // Test user list response times
+        LatencyRecorder usersLatency = measureListEndpoint("users", "/user-service/api/users",
+                StreamingCollectionReader.requiring("userId"));
+        System.out.println("📈 " + usersLatency);
+        usersLatency.assertWithin(LatencyBudget.forEndpoint("users", LIST_ENDPOINT_BUDGET));
+
+        // Test product list response times
+        LatencyRecorder productsLatency = measureListEndpoint("products", "/product-service/api/products",
+                StreamingCollectionReader.requiring("productId", "productTitle").aggregating("priceUnit", "quantity"));
+        System.out.println("📈 " + productsLatency);
+        productsLatency.assertWithin(LatencyBudget.forEndpoint("products", LIST_ENDPOINT_BUDGET));
+
+        // Test order list response times
+        LatencyRecorder ordersLatency = measureListEndpoint("orders", "/order-service/api/orders",
+                StreamingCollectionReader.requiring("orderId"));
+        System.out.println("📈 " + ordersLatency);
+        ordersLatency.assertWithin(LatencyBudget.forEndpoint("orders", LIST_ENDPOINT_BUDGET));
+
+        System.out.println("✅ List endpoints within latency budgets");
     }
 
 
@@ -559,14 +535,40 @@ public class ErrorHandlingAndResilienceE2ETest {
     }
 
     // Helper Methods
+    /**
+     * Measure a list endpoint by streaming its collection instead of materializing it, so heap
+     * and GC pressure stay flat as the collection grows. The returned recorder holds the time
+     * to the last element; time to first byte is recorded and reported separately.
+     */
+    private LatencyRecorder measureListEndpoint(String name, String path, StreamingCollectionReader reader)
+            throws Exception {
+        HttpHeaders headers = createHeadersWithJwt();
+        SteadyStateRecorder firstByte = SteadyStateRecorder.fromSystemProperties(name + " TTFB");
+        SteadyStateRecorder lastElement = SteadyStateRecorder.fromSystemProperties(name);
+        StreamingCollectionReader.CollectionScan scan = lastElement.repeat(LATENCY_MAX_WARMUP_ITERATIONS,
+                LATENCY_ITERATIONS, () -> {
+                    StreamingCollectionReader.CollectionScan next =
+                            reader.fetch(restTemplate.getRestTemplate(), baseUrl + path, headers);
+                    assertThat(next.getInvalidCount())
+                            .as(name + " elements missing required fields: " + next.getMissingByField())
+                            .isZero();
+                    firstByte.recordNanos(next.getTimeToFirstByteNanos());
+                    return next;
+                }, StreamingCollectionReader.CollectionScan::getTimeToLastElementNanos);
+        System.out.println("📦 " + name + ": " + scan);
+        System.out.println("🔥 " + lastElement);
+        System.out.println("📈 " + firstByte.measured());
+        return lastElement.measured();
+    }
+
     private Map<String, Object> createValidUserRequest(String namePrefix) {
-        String uniqueId = UUID.randomUUID().toString().substring(0, 8);
+        String uniqueId = UniqueIds.next();
         Map<String, Object> userRequest = new HashMap<>();
         userRequest.put("firstName", namePrefix);
         userRequest.put("lastName", "TestUser");
         userRequest.put("imageUrl", "https://example.com/error.jpg");
         userRequest.put("email", namePrefix.toLowerCase() + uniqueId + "@errortest.com");
-        userRequest.put("phone", "+1555" + uniqueId.substring(0, 7));
+        userRequest.put("phone", UniqueIds.phone("+1555"));
         
         // Nested credential object
         Map<String, Object> credential = new HashMap<>();
@@ -579,7 +581,7 @@ public class ErrorHandlingAndResilienceE2ETest {
     }
 
     private Map<String, Object> createValidProductRequest(String namePrefix) {
-        String uniqueId = UUID.randomUUID().toString().substring(0, 8);
+        String uniqueId = UniqueIds.next();
         Random random = new Random();
         Map<String, Object> productRequest = new HashMap<>();
         productRequest.put("productTitle", namePrefix);
@@ -0,0 +1,89 @@
+package com.selimhorri.app.e2e;
+
+import com.selimhorri.app.e2e.fault.FaultImpact;
+import com.selimhorri.app.e2e.fault.FaultImpactReport;
+import com.selimhorri.app.e2e.fault.FaultProfile;
+import com.selimhorri.app.e2e.fault.FaultProxy;
+import com.selimhorri.app.e2e.util.E2EEnvironment;
+import com.selimhorri.app.e2e.util.JwtTestHelper;
+import com.selimhorri.app.e2e.util.SharedHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * E2E Test: Fault Injection
+ * Sends the product list request through a local fault proxy in front of the gateway under
+ * increasingly degraded networks, and checks each fault shows up where expected: latency in
+ * the median, stalls in the tail, resets as errors.
+ */
+@DisplayName("Fault Injection E2E Tests")
+public class FaultInjectionE2ETest {
+
+    private static final int ITERATIONS = Integer.getInteger("e2e.fault.iterations", 40);
+
+    private FaultProxy proxy;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        proxy = FaultProxy.start(E2EEnvironment.gatewayUrl());
+        System.out.println("🌩️ Fault proxy at " + proxy.getUrl() + " in front of " + E2EEnvironment.gatewayUrl());
+    }
+
+    @AfterEach
+    void tearDown() {
+        proxy.close();
+    }
+
+    @Test
+    @DisplayName("Latency, Stalls and Resets per Fault Profile")
+    void testDegradationPerFaultProfile() {
+        System.out.println("🌩️ Starting Fault Injection Test");
+
+        RestTemplate restTemplate = SharedHttpClient.restTemplate();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", JwtTestHelper.getAuthorizationHeader("testuser"));
+        String url = proxy.getUrl() + "/product-service/api/products";
+
+        FaultProfile latency = FaultProfile.parse("latency=50,jitter=10");
+        FaultProfile stalls = FaultProfile.parse("stall=0.2:500");
+        FaultProfile resets = FaultProfile.parse("reset=0.2");
+        FaultProfile slowLink = FaultProfile.parse("bandwidth=16k");
+        FaultImpactReport report = FaultImpactReport.measure(proxy,
+                Arrays.asList(FaultProfile.none(), latency, stalls, resets, slowLink), ITERATIONS,
+                () -> restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class));
+        report.print(System.out);
+
+        FaultImpact baseline = report.get(FaultProfile.none().getName());
+        assertThat(baseline.getErrors()).as("Requests through a clean proxy should succeed").isZero();
+
+        FaultImpact delayed = report.get(latency.getName());
+        assertThat(delayed.getErrors()).isZero();
+        assertThat(delayed.getLatencies().getPercentileMillis(50.0)).as("Injected latency should move the median")
+                .isGreaterThanOrEqualTo(baseline.getLatencies().getPercentileMillis(50.0) + 35);
+
+        FaultImpact stalled = report.get(stalls.getName());
+        assertThat(stalled.getErrors()).as("Stalls shorter than the read timeout only slow requests down").isZero();
+        assertThat(stalled.getLatencies().getMaxMillis()).as("Stalls should show up in the tail")
+                .isGreaterThanOrEqualTo(500);
+
+        FaultImpact reset = report.get(resets.getName());
+        assertThat(reset.getErrors()).as("Resets should fail requests").isPositive();
+        assertThat(reset.getErrorRate()).isLessThan(0.6);
+        assertThat(proxy.getResetCount()).isEqualTo(reset.getErrors());
+
+        assertThat(report.get(slowLink.getName()).getErrors()).isZero();
+
+        System.out.println("🎉 Fault Injection Test PASSED!");
+    }
+}
@@ -0,0 +1,87 @@
+package com.selimhorri.app.e2e;
+
+import com.selimhorri.app.e2e.load.EndpointSummary;
+import com.selimhorri.app.e2e.load.LoadEngine;
+import com.selimhorri.app.e2e.load.LoadProfile;
+import com.selimhorri.app.e2e.load.LoadShapeResult;
+import com.selimhorri.app.e2e.load.LoadShapeScheduler;
+import com.selimhorri.app.e2e.load.ShoppingJourneyScenario;
+import com.selimhorri.app.e2e.load.UserRegistrationScenario;
+import com.selimhorri.app.e2e.util.E2EEnvironment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * E2E Test: Load Shapes
+ * Drives the registration and shopping flows through declarative load profiles and checks that
+ * the scheduler followed the shape: every stage was sampled and the peak target was reached.
+ * Override the short default shapes with -Dload.shape.sessions and -Dload.shape.rate.
+ */
+@DisplayName("Load Shape E2E Tests")
+public class LoadShapeE2ETest {
+
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = E2EEnvironment.gatewayUrl();
+        System.out.println("🌐 Testing against Gateway: " + baseUrl);
+    }
+
+    @Test
+    @DisplayName("Registration Flow under Ramp, Spike and Hold")
+    void testRegistrationFlowFollowsConcurrencyShape() throws InterruptedException {
+        System.out.println("📐 Starting Registration Flow Load Shape Test");
+
+        LoadProfile profile = LoadProfile.parse(
+                System.getProperty("load.shape.sessions", "ramp:5:1s,jump:15:1s,jump:5:1s"),
+                LoadProfile.Mode.CONCURRENCY);
+
+        LoadShapeResult result;
+        try (LoadEngine engine = new LoadEngine(baseUrl, new UserRegistrationScenario())) {
+            result = new LoadShapeScheduler(engine).run(profile);
+        }
+        result.print(System.out);
+
+        assertThat(result.getSamples()).as("One sample per second of the profile").hasSizeGreaterThanOrEqualTo(
+                (int) profile.getDuration().getSeconds() - 1);
+        assertThat(result.getLoad().getPeakSessions()).as("The spike should be reached")
+                .isGreaterThanOrEqualTo((int) profile.getPeak());
+        assertThat(result.getLoad().getIterations()).as("Registrations should complete").isPositive();
+        assertThat(result.getLoad().getFailedIterations()).as("No registration should fail").isZero();
+        assertThat(result.getLoad().getEndpoints())
+                .extracting(EndpointSummary::getName)
+                .contains(UserRegistrationScenario.USERS, UserRegistrationScenario.USER_BY_ID);
+
+        System.out.println("🎉 Registration Flow Load Shape Test PASSED!");
+    }
+
+    @Test
+    @DisplayName("Shopping Journey at a Stepped Arrival Rate")
+    @EnabledIf(value = "com.selimhorri.app.e2e.util.E2EEnvironment#crossServiceFlowsEnabled",
+            disabledReason = "Requires inter-service communication through Eureka discovery - run with -De2e.discovery.enabled=true or -Pe2e-offline")
+    void testShoppingJourneyFollowsArrivalRateShape() throws InterruptedException {
+        System.out.println("📐 Starting Shopping Journey Arrival Rate Shape Test");
+
+        LoadProfile profile = LoadProfile.parse(
+                System.getProperty("load.shape.rate", "steps:5:3:1s"), LoadProfile.Mode.ARRIVAL_RATE);
+
+        LoadShapeResult result;
+        try (LoadEngine engine = new LoadEngine(baseUrl, new ShoppingJourneyScenario())) {
+            result = new LoadShapeScheduler(engine, Duration.ofMillis(50), Duration.ofMillis(500), 1_000).run(profile);
+        }
+        result.print(System.out);
+
+        assertThat(result.getDropped()).as("No arrival should be dropped").isZero();
+        assertThat(result.getLoad().getIterations()).as("Journeys should complete").isPositive();
+        assertThat(result.getLoad().getFailedIterations()).as("No journey should fail").isZero();
+
+        System.out.println("🎉 Shopping Journey Arrival Rate Shape Test PASSED!");
+    }
+}
@@ -1,13 +1,30 @@
 package com.selimhorri.app.e2e;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.e2e.corpus.TestDataCorpus;
+import com.selimhorri.app.e2e.load.BurstEngine;
+import com.selimhorri.app.e2e.load.EndpointSummary;
+import com.selimhorri.app.e2e.load.LoadResult;
+import com.selimhorri.app.e2e.load.LocustStatsExporter;
+import com.selimhorri.app.e2e.load.MultiServiceCreationScenario;
+import com.selimhorri.app.e2e.seed.SeedEngine;
+import com.selimhorri.app.e2e.seed.SeedResult;
+import com.selimhorri.app.e2e.seed.SeedSpec;
+import com.selimhorri.app.e2e.util.E2EEnvironment;
+import com.selimhorri.app.e2e.util.JsonCodecs;
 import com.selimhorri.app.e2e.util.JwtTestHelper;
+import com.selimhorri.app.e2e.util.SharedHttpClient;
+import com.selimhorri.app.e2e.util.StreamingCollectionReader;
+import com.selimhorri.app.e2e.util.UniqueIds;
+import com.selimhorri.app.e2e.util.UserDataHelper;
+import com.selimhorri.app.e2e.verify.ConsistencyVerifier;
+import com.selimhorri.app.e2e.verify.VerificationReport;
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
 import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.condition.EnabledIf;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.http.*;
 
@@ -15,8 +32,10 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -33,34 +52,37 @@ public class MultiServiceIntegrationE2ETest {
     private ObjectMapper objectMapper;
     private String baseUrl;
 
-    // Test data storage
-    private final List<Integer> createdUserIds = new ArrayList<>();
-    private final List<Integer> createdProductIds = new ArrayList<>();
-    private final List<Integer> createdCartIds = new ArrayList<>();
-    private final List<Integer> createdOrderIds = new ArrayList<>();
+    // Test data storage; filled from concurrent tasks too. CreatedResources records the same
+    // entities for the cleanup at the end of the run.
+    private final List<Integer> createdUserIds = new CopyOnWriteArrayList<>();
+    private final List<Integer> createdProductIds = new CopyOnWriteArrayList<>();
+    private final List<Integer> createdCartIds = new CopyOnWriteArrayList<>();
+    private final List<Integer> createdOrderIds = new CopyOnWriteArrayList<>();
 
     @BeforeEach
     void setUp() {
-        restTemplate = new TestRestTemplate();
-        objectMapper = new ObjectMapper();
-        // Read from system property passed by Maven: -Dapi.gateway.url=http://10.22.10.27
-        baseUrl = System.getProperty("api.gateway.url", "http://localhost:9090");
+        restTemplate = SharedHttpClient.testRestTemplate();
+        objectMapper = JsonCodecs.mapper();
+        // Read from system property passed by Maven: -Dapi.gateway.url=http://10.22.10.27 (or the stub with -De2e.stub=true)
+        baseUrl = E2EEnvironment.gatewayUrl();
         
         System.out.println("🌐 Testing against Gateway: " + baseUrl);
+        System.out.println("🔌 " + SharedHttpClient.poolStats());
     }
     
     private HttpHeaders createHeadersWithJwt() {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
-        String jwtToken = JwtTestHelper.generateToken("testuser");
+        String jwtToken = JwtTestHelper.getToken("testuser");
         headers.set("Authorization", "Bearer " + jwtToken);
         return headers;
     }
 
     @Test
     @Order(1)
-    @Disabled("Requires inter-service communication through Eureka discovery for cart/order verification")
-    void testCompleteSystemIntegrationWorkflow() {
+    @EnabledIf(value = "com.selimhorri.app.e2e.util.E2EEnvironment#crossServiceFlowsEnabled",
+            disabledReason = "Requires inter-service communication through Eureka discovery for cart/order verification - run with -De2e.discovery.enabled=true or -Pe2e-offline")
+    void testCompleteSystemIntegrationWorkflow() throws InterruptedException {
         System.out.println("🚀 Starting Complete System Integration Test");
 
         // PHASE 1: User Service Integration
@@ -161,6 +183,7 @@ public class MultiServiceIntegrationE2ETest {
                 );
                 
                 assertThat(response.getStatusCode()).isIn(HttpStatus.OK, HttpStatus.CREATED);
+                createdUserIds.add((Integer) response.getBody().get("userId"));
                 System.out.println("✅ Concurrent user " + userIndex + " created");
             }, executorService);
             
@@ -180,6 +203,7 @@ public class MultiServiceIntegrationE2ETest {
                 );
                 
                 assertThat(response.getStatusCode()).isIn(HttpStatus.OK, HttpStatus.CREATED);
+                createdProductIds.add((Integer) response.getBody().get("productId"));
                 System.out.println("✅ Concurrent product " + productIndex + " created");
             }, executorService);
             
@@ -189,6 +213,8 @@ public class MultiServiceIntegrationE2ETest {
         // Wait for all concurrent operations to complete
         CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
         executorService.shutdown();
+        assertThat(createdUserIds).as("Concurrently created users").hasSize(3);
+        assertThat(createdProductIds).as("Concurrently created products").hasSize(3);
 
         System.out.println("✅ All concurrent operations completed successfully");
     }
@@ -252,7 +278,8 @@ public class MultiServiceIntegrationE2ETest {
 
     @Test
     @Order(4)
-    @Disabled("Requires inter-service communication through Eureka discovery for cart/order operations")
+    @EnabledIf(value = "com.selimhorri.app.e2e.util.E2EEnvironment#crossServiceFlowsEnabled",
+            disabledReason = "Requires inter-service communication through Eureka discovery for cart/order operations - run with -De2e.discovery.enabled=true or -Pe2e-offline")
     void testDataIntegrityAcrossServices() {
         System.out.println("🔒 Testing Data Integrity Across Services");
 
@@ -334,57 +361,56 @@ public class MultiServiceIntegrationE2ETest {
                 Map.class
         );
         assertThat(orderCheck.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(orderCheck.getBody().get("cartId")).isEqualTo(cartId);
+        // The order nests its cart, as in ECommerceShoppingFlowE2ETest
+        assertThat(((Map<?, ?>) orderCheck.getBody().get("cart")).get("cartId")).isEqualTo(cartId);
 
         System.out.println("✅ Data integrity verified across all services");
     }
 
     @Test
     @Order(5)
-    @Disabled("Test expects List response but API returns wrapped object - needs test adjustment")
-    void testHighVolumeDataOperations() {
+    void testHighVolumeDataOperations() throws InterruptedException {
         System.out.println("📊 Testing High Volume Data Operations");
 
-        final int BULK_SIZE = 10;
-        List<Integer> bulkUserIds = new ArrayList<>();
-        List<Integer> bulkProductIds = new ArrayList<>();
-
-        // Bulk user creation
-        System.out.println("Creating " + BULK_SIZE + " users in bulk...");
-        for (int i = 0; i < BULK_SIZE; i++) {
-            Map<String, Object> user = createSingleUser("BulkUser" + i);
-            bulkUserIds.add((Integer) user.get("userId"));
-        }
-        assertThat(bulkUserIds).hasSize(BULK_SIZE);
-
-        // Bulk product creation
-        System.out.println("Creating " + BULK_SIZE + " products in bulk...");
-        for (int i = 0; i < BULK_SIZE; i++) {
-            Map<String, Object> product = createSingleProduct("BulkProduct" + i);
-            bulkProductIds.add((Integer) product.get("productId"));
+        // Raise e2e.bulkSize to seed realistic volumes; requests stay bounded by e2e.bulkConcurrency
+        final int BULK_SIZE = Integer.getInteger("e2e.bulkSize", 10);
+        final int BULK_CONCURRENCY = Integer.getInteger("e2e.bulkConcurrency", 8);
+        String runId = UniqueIds.next();
+
+        try (SeedEngine seedEngine = new SeedEngine(baseUrl, BULK_CONCURRENCY, 3)) {
+            // Bulk user creation
+            System.out.println("Creating " + BULK_SIZE + " users in bulk...");
+            SeedResult bulkUsers = seedEngine.seed(SeedSpec.users(runId), BULK_SIZE, null);
+            System.out.println("🌱 " + bulkUsers);
+            assertThat(bulkUsers.getIds()).hasSize(BULK_SIZE);
+
+            // Bulk product creation
+            System.out.println("Creating " + BULK_SIZE + " products in bulk...");
+            SeedResult bulkProducts = seedEngine.seed(SeedSpec.products(runId), BULK_SIZE, null);
+            System.out.println("🌱 " + bulkProducts);
+            assertThat(bulkProducts.getIds()).hasSize(BULK_SIZE);
         }
-        assertThat(bulkProductIds).hasSize(BULK_SIZE);
 
         // Verify bulk retrieval operations
         System.out.println("Verifying bulk data retrieval...");
         
-        ResponseEntity<List> allUsers = restTemplate.exchange(
-                baseUrl + "/user-service/api/users",
-                HttpMethod.GET,
-                createJsonEntity(null),
-                List.class
-        );
-        assertThat(allUsers.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(allUsers.getBody()).hasSizeGreaterThanOrEqualTo(BULK_SIZE);
-
-        ResponseEntity<List> allProducts = restTemplate.exchange(
-                baseUrl + "/product-service/api/products",
-                HttpMethod.GET,
-                createJsonEntity(null),
-                List.class
-        );
-        assertThat(allProducts.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(allProducts.getBody()).hasSizeGreaterThanOrEqualTo(BULK_SIZE);
+        // Stream the collections so retrieval stays in constant memory however large they grow
+        HttpHeaders headers = createHeadersWithJwt();
+        StreamingCollectionReader.CollectionScan allUsers = StreamingCollectionReader
+                .requiring("userId", "credential")
+                .fetch(restTemplate.getRestTemplate(), baseUrl + "/user-service/api/users", headers);
+        System.out.println("📦 Users: " + allUsers);
+        assertThat(allUsers.getElementCount()).isGreaterThanOrEqualTo(BULK_SIZE);
+        assertThat(allUsers.getInvalidCount()).as("Users missing " + allUsers.getMissingByField()).isZero();
+
+        StreamingCollectionReader.CollectionScan allProducts = StreamingCollectionReader
+                .requiring("productId", "productTitle")
+                .aggregating("priceUnit", "quantity")
+                .fetch(restTemplate.getRestTemplate(), baseUrl + "/product-service/api/products", headers);
+        System.out.println("📦 Products: " + allProducts);
+        assertThat(allProducts.getElementCount()).isGreaterThanOrEqualTo(BULK_SIZE);
+        assertThat(allProducts.getInvalidCount()).as("Products missing " + allProducts.getMissingByField()).isZero();
+        assertThat(allProducts.getAggregate("priceUnit").getCount()).isGreaterThanOrEqualTo(BULK_SIZE);
 
         System.out.println("✅ High volume operations completed successfully");
         System.out.println("   - Created " + BULK_SIZE + " users");
@@ -392,6 +418,39 @@ public class MultiServiceIntegrationE2ETest {
         System.out.println("   - Verified bulk retrieval operations");
     }
 
+    @Test
+    @Order(6)
+    void testNonBlockingConcurrentMultiServiceOperations() throws InterruptedException {
+        System.out.println("⚡ Testing Non-Blocking Concurrent Multi-Service Operations");
+
+        // Raise e2e.nonBlocking.operations into the thousands to probe gateway concurrency limits
+        final int OPERATIONS = Integer.getInteger("e2e.nonBlocking.operations", 20);
+        final int MAX_IN_FLIGHT = Integer.getInteger("e2e.nonBlocking.maxInFlight", 10);
+        boolean includeOrders = E2EEnvironment.crossServiceFlowsEnabled();
+
+        LoadResult result;
+        try (BurstEngine engine = new BurstEngine(baseUrl, new MultiServiceCreationScenario(includeOrders))) {
+            result = engine.run(OPERATIONS, MAX_IN_FLIGHT);
+            LocustStatsExporter.writeIfConfigured("multi_service_burst_stats.json", engine.getStats(),
+                    result.getElapsed(), MAX_IN_FLIGHT);
+        }
+        result.print(System.out);
+
+        assertThat(result.getIterations()).isEqualTo(OPERATIONS);
+        assertThat(result.getFailedIterations()).as("No concurrent operation should fail").isZero();
+        assertThat(result.getPeakSessions()).isLessThanOrEqualTo(MAX_IN_FLIGHT);
+        List<String> expectedEndpoints = includeOrders
+                ? List.of(MultiServiceCreationScenario.USERS, MultiServiceCreationScenario.PRODUCTS,
+                        MultiServiceCreationScenario.CARTS, MultiServiceCreationScenario.ORDERS)
+                : List.of(MultiServiceCreationScenario.USERS, MultiServiceCreationScenario.PRODUCTS);
+        assertThat(result.getEndpoints())
+                .extracting(EndpointSummary::getName)
+                .containsAll(expectedEndpoints);
+
+        System.out.println("✅ " + OPERATIONS + " non-blocking operations completed with at most "
+                + result.getPeakSessions() + " in flight");
+    }
+
     // Helper Methods
     private List<Map<String, Object>> createMultipleUsers(int count) {
         List<Map<String, Object>> users = new ArrayList<>();
@@ -412,7 +471,7 @@ public class MultiServiceIntegrationE2ETest {
     }
 
     private Map<String, Object> createSingleUser(String namePrefix) {
-        String uniqueId = UUID.randomUUID().toString().substring(0, 8);
+        String uniqueId = UniqueIds.next();
         Map<String, Object> userRequest = createUserRequest(namePrefix + uniqueId);
 
         ResponseEntity<Map> response = restTemplate.postForEntity(
@@ -426,7 +485,7 @@ public class MultiServiceIntegrationE2ETest {
     }
 
     private Map<String, Object> createSingleProduct(String namePrefix) {
-        String uniqueId = UUID.randomUUID().toString().substring(0, 8);
+        String uniqueId = UniqueIds.next();
         Map<String, Object> productRequest = createProductRequest(namePrefix + uniqueId);
 
         ResponseEntity<Map> response = restTemplate.postForEntity(
@@ -440,13 +499,18 @@ public class MultiServiceIntegrationE2ETest {
     }
 
     private Map<String, Object> createUserRequest(String namePrefix) {
-        String uniqueId = UUID.randomUUID().toString().substring(0, 8);
+        if (TestDataCorpus.isConfigured()) {
+            Map<String, Object> userRequest = UserDataHelper.nextCorpusUserRequest();
+            userRequest.put("firstName", namePrefix);
+            return userRequest;
+        }
+        String uniqueId = UniqueIds.next();
         Map<String, Object> userRequest = new HashMap<>();
         userRequest.put("firstName", namePrefix);
         userRequest.put("lastName", "TestUser");
         userRequest.put("imageUrl", "https://example.com/multi.jpg");
         userRequest.put("email", namePrefix.toLowerCase() + uniqueId + "@multitest.com");
-        userRequest.put("phone", "+1555" + uniqueId.substring(0, 7));
+        userRequest.put("phone", UniqueIds.phone("+1555"));
         
         // Nested credential object
         Map<String, Object> credential = new HashMap<>();
@@ -459,66 +523,45 @@ public class MultiServiceIntegrationE2ETest {
     }
 
     private Map<String, Object> createProductRequest(String namePrefix) {
-        String uniqueId = UUID.randomUUID().toString().substring(0, 8);
-        Random random = new Random();
         Map<String, Object> productRequest = new HashMap<>();
         productRequest.put("productTitle", namePrefix);
         productRequest.put("imageUrl", "https://example.com/multiproduct.jpg");
+        Map<String, Object> category = new HashMap<>();
+        if (TestDataCorpus.isConfigured()) {
+            // SKU, price, stock and category come from the pre-generated corpus record
+            TestDataCorpus corpus = TestDataCorpus.shared();
+            long record = corpus.next();
+            productRequest.put("sku", corpus.sku(record));
+            productRequest.put("priceUnit", corpus.priceCents(record) / 100.0);
+            productRequest.put("quantity", corpus.quantity(record));
+            category.put("categoryId", corpus.categoryId(record));
+            productRequest.put("category", category);
+            return productRequest;
+        }
+        String uniqueId = UniqueIds.next();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
         productRequest.put("sku", "MULTI" + uniqueId.toUpperCase());
         productRequest.put("priceUnit", Math.round((random.nextDouble() * 100 + 10) * 100.0) / 100.0);
         productRequest.put("quantity", random.nextInt(50) + 10);
         
         // Use nested category structure
-        Map<String, Object> category = new HashMap<>();
         category.put("categoryId", random.nextInt(3) + 1);
         productRequest.put("category", category);
         return productRequest;
     }
 
-    private void verifyDataConsistency() {
-        // Verify all created users still exist
-        for (Integer userId : createdUserIds) {
-            ResponseEntity<Map> userResponse = restTemplate.exchange(
-                    baseUrl + "/user-service/api/users/" + userId,
-                    HttpMethod.GET,
-                    createJsonEntity(null),
-                    Map.class
-            );
-            assertThat(userResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
-        }
-
-        // Verify all created products still exist
-        for (Integer productId : createdProductIds) {
-            ResponseEntity<Map> productResponse = restTemplate.exchange(
-                    baseUrl + "/product-service/api/products/" + productId,
-                    HttpMethod.GET,
-                    createJsonEntity(null),
-                    Map.class
-            );
-            assertThat(productResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
-        }
-
-        // Verify all created carts still exist
-        for (Integer cartId : createdCartIds) {
-            ResponseEntity<Map> cartResponse = restTemplate.exchange(
-                    baseUrl + "/order-service/api/carts/" + cartId,
-                    HttpMethod.GET,
-                    createJsonEntity(null),
-                    Map.class
-            );
-            assertThat(cartResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
-        }
-
-        // Verify all created orders still exist
-        for (Integer orderId : createdOrderIds) {
-            ResponseEntity<Map> orderResponse = restTemplate.exchange(
-                    baseUrl + "/order-service/api/orders/" + orderId,
-                    HttpMethod.GET,
-                    createJsonEntity(null),
-                    Map.class
-            );
-            assertThat(orderResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+    private void verifyDataConsistency() throws InterruptedException {
+        // Parallel GETs with cart -> user and order -> cart reference checks; -Dverify.sample=0.01 samples 1%,
+        // the same properties as VerifyRunner
+        double sampleRate = Double.parseDouble(System.getProperty("verify.sample", "1.0"));
+        int concurrency = Integer.getInteger("verify.concurrency", 32);
+        VerificationReport report;
+        try (ConsistencyVerifier verifier = new ConsistencyVerifier(baseUrl, concurrency)) {
+            report = verifier.verify(toIntArray(createdUserIds), toIntArray(createdProductIds),
+                    toIntArray(createdCartIds), toIntArray(createdOrderIds), sampleRate, System.nanoTime());
         }
+        report.print(System.out);
+        assertThat(report.getMismatches()).as("consistency mismatches: %s", report.getExamples()).isZero();
 
         System.out.println("✅ Data consistency verified:");
         System.out.println("   - " + createdUserIds.size() + " users verified");
@@ -527,6 +570,10 @@ public class MultiServiceIntegrationE2ETest {
         System.out.println("   - " + createdOrderIds.size() + " orders verified");
     }
 
+    private static int[] toIntArray(List<Integer> ids) {
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+
     private void printTestSummary() {
         System.out.println("\n📊 INTEGRATION TEST SUMMARY:");
         System.out.println("=====================================");
@@ -544,7 +591,7 @@ public class MultiServiceIntegrationE2ETest {
             String json = objectMapper.writeValueAsString(body);
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
-            String jwtToken = JwtTestHelper.generateToken("testuser");
+            String jwtToken = JwtTestHelper.getToken("testuser");
             headers.set("Authorization", "Bearer " + jwtToken);
             return new HttpEntity<>(json, headers);
         } catch (Exception e) {
@@ -554,7 +601,7 @@ public class MultiServiceIntegrationE2ETest {
     
     private HttpEntity<Void> createAuthHeaders() {
         HttpHeaders headers = new HttpHeaders();
-        String jwtToken = JwtTestHelper.generateToken("testuser");
+        String jwtToken = JwtTestHelper.getToken("testuser");
         headers.set("Authorization", "Bearer " + jwtToken);
         return new HttpEntity<>(headers);
     }
@@ -0,0 +1,88 @@
+package com.selimhorri.app.e2e;
+
+import com.selimhorri.app.e2e.baseline.BaselineStore;
+import com.selimhorri.app.e2e.baseline.GateReport;
+import com.selimhorri.app.e2e.baseline.RegressionGate;
+import com.selimhorri.app.e2e.baseline.RunSnapshot;
+import com.selimhorri.app.e2e.load.LoadEngine;
+import com.selimhorri.app.e2e.load.LoadResult;
+import com.selimhorri.app.e2e.load.UserRegistrationScenario;
+import com.selimhorri.app.e2e.stub.LatencyDistribution;
+import com.selimhorri.app.e2e.stub.StubGateway;
+import com.selimhorri.app.e2e.util.E2EEnvironment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.zip.DataFormatException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * E2E Test: Performance Regression Gate
+ * Records a registration load run against the stub gateway as the baseline, then checks the
+ * gate passes a rerun under the same user-service latency and fails one where it tripled.
+ * The injected latency sits well above the stub's own 30-40 ms floor so tripling it shows in
+ * the percentiles, and a discarded warm-up run keeps the cold JVM out of the baseline.
+ */
+@DisplayName("Performance Regression Gate E2E Tests")
+@EnabledIf(value = "com.selimhorri.app.e2e.util.E2EEnvironment#isStubMode",
+        disabledReason = "Injects latency into the stub gateway - run with -Pe2e-offline")
+public class PerformanceRegressionGateE2ETest {
+
+    private static final String RUN_NAME = "user_registration";
+    private static final int SESSIONS = 16;
+    private static final LatencyDistribution BASELINE_LATENCY = LatencyDistribution.logNormal(50, 0.3);
+    private static final LatencyDistribution TRIPLED_LATENCY = LatencyDistribution.logNormal(150, 0.3);
+
+    @TempDir
+    Path storeDir;
+
+    @AfterEach
+    void tearDown() {
+        E2EEnvironment.stub().setLatency(StubGateway.USER_SERVICE, LatencyDistribution.none());
+    }
+
+    @Test
+    @DisplayName("Gate Flags a Slower User Service")
+    void testGateFlagsSlowerUserService() throws InterruptedException, IOException, DataFormatException {
+        System.out.println("🚦 Starting Performance Regression Gate Test");
+
+        BaselineStore store = new BaselineStore(storeDir);
+        RegressionGate gate = new RegressionGate(0.20, 0.30, 0.15, 0.01, 50, 2.0, Collections.singletonList("users"));
+
+        // Warm-up, not recorded: JIT, connection pools and the stub's first requests
+        registrationRun(BASELINE_LATENCY);
+        store.record(registrationRun(BASELINE_LATENCY));
+        RunSnapshot baseline = store.baseline(RUN_NAME).orElseThrow(AssertionError::new);
+
+        GateReport unchanged = gate.compare(baseline, registrationRun(BASELINE_LATENCY));
+        unchanged.print(System.out);
+        assertThat(unchanged.getComparisons()).as("User endpoints should be compared").isNotEmpty();
+        assertThat(unchanged.isPassed()).as("Same latency should pass: " + unchanged.getRegressions()).isTrue();
+
+        GateReport slower = gate.compare(baseline, registrationRun(TRIPLED_LATENCY));
+        slower.print(System.out);
+        assertThat(slower.isPassed()).as("Tripled latency should fail the gate").isFalse();
+        assertThat(slower.getRegressions())
+                .anyMatch(regression -> regression.contains(UserRegistrationScenario.USERS + " p95"))
+                .anyMatch(regression -> regression.contains(UserRegistrationScenario.USERS + " p99"));
+
+        System.out.println("🎉 Performance Regression Gate Test PASSED!");
+    }
+
+    private RunSnapshot registrationRun(LatencyDistribution userServiceLatency) throws InterruptedException {
+        E2EEnvironment.stub().setLatency(StubGateway.USER_SERVICE, userServiceLatency);
+        try (LoadEngine engine = new LoadEngine(E2EEnvironment.gatewayUrl(), new UserRegistrationScenario())) {
+            LoadResult result = engine.run(SESSIONS, Duration.ofMillis(500), Duration.ofSeconds(5));
+            assertThat(result.getFailedIterations()).as("No registration should fail").isZero();
+            return RunSnapshot.of(RUN_NAME, engine.getStats(), result.getElapsed(), SESSIONS);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.selimhorri.app.e2e;
+
+import com.selimhorri.app.e2e.stub.LatencyDistribution;
+import com.selimhorri.app.e2e.stub.StubGateway;
+import com.selimhorri.app.e2e.util.E2EEnvironment;
+import com.selimhorri.app.e2e.util.JwtTestHelper;
+import com.selimhorri.app.e2e.util.OrderDataHelper;
+import com.selimhorri.app.e2e.util.RequestPhase;
+import com.selimhorri.app.e2e.util.RequestPhaseSummary;
+import com.selimhorri.app.e2e.util.SharedHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * E2E Test: Request Phase Timing
+ * Makes the stub's order-service slow and checks the shared client attributes the delay to
+ * time-to-first-byte, not to pool acquire, connect, write or body read. The timed request is
+ * the lookup of one order created by the test, so the body read does not grow with the orders
+ * the rest of the suite created.
+ */
+@DisplayName("Request Phase Timing E2E Tests")
+@EnabledIf(value = "com.selimhorri.app.e2e.util.E2EEnvironment#isStubMode",
+        disabledReason = "Injects latency into the stub gateway - run with -Pe2e-offline")
+public class RequestPhaseTimingE2ETest {
+
+    private static final String ORDERS = "/order-service/api/orders";
+    private static final String ORDER_BY_ID = ORDERS + "/[id]";
+    private static final double SERVICE_MILLIS = 50;
+    private static final int REQUESTS = 20;
+
+    @AfterEach
+    void tearDown() {
+        E2EEnvironment.stub().setLatency(StubGateway.ORDER_SERVICE, LatencyDistribution.none());
+    }
+
+    @Test
+    @DisplayName("Server Delay Shows Up as TTFB")
+    void testServerDelayShowsUpAsTtfb() {
+        System.out.println("⏱️ Starting Request Phase Timing Test");
+
+        TestRestTemplate restTemplate = SharedHttpClient.testRestTemplate();
+        int orderId = OrderDataHelper.createOrder(restTemplate, E2EEnvironment.gatewayUrl(), 1);
+        E2EEnvironment.stub().setLatency(StubGateway.ORDER_SERVICE, LatencyDistribution.fixed(SERVICE_MILLIS));
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", JwtTestHelper.getAuthorizationHeader("testuser"));
+
+        // Stats are suite-wide, so only the difference made by this test's requests is judged
+        RequestPhaseSummary before = orderPhases();
+        for (int i = 0; i < REQUESTS; i++) {
+            ResponseEntity<String> response = restTemplate.exchange(E2EEnvironment.gatewayUrl() + ORDERS + "/" + orderId,
+                    HttpMethod.GET, new HttpEntity<>(headers), String.class);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        }
+        RequestPhaseSummary after = orderPhases();
+        SharedHttpClient.phaseStats().print(System.out);
+
+        assertThat(after.getRequests() - requests(before)).isEqualTo(REQUESTS);
+        double ttfb = meanOfNew(before, after, RequestPhase.TTFB);
+        assertThat(ttfb).as("Injected service time should be in TTFB").isGreaterThanOrEqualTo(SERVICE_MILLIS * 0.9);
+        assertThat(meanOfNew(before, after, RequestPhase.ACQUIRE)).as("Idle pool should lease at once")
+                .isLessThan(ttfb / 5);
+        assertThat(meanOfNew(before, after, RequestPhase.WRITE)).isLessThan(ttfb / 5);
+        assertThat(meanOfNew(before, after, RequestPhase.BODY)).isLessThan(ttfb / 5);
+        assertThat(after.getConnections()).as("Keep-alive should reuse connections")
+                .isLessThan(after.getRequests());
+
+        System.out.println("🎉 Request Phase Timing Test PASSED!");
+    }
+
+    private static RequestPhaseSummary orderPhases() {
+        return SharedHttpClient.phaseStats().summaries().stream()
+                .filter(summary -> summary.getMethod().equals("GET") && summary.getName().equals(ORDER_BY_ID))
+                .findFirst().orElse(null);
+    }
+
+    private static long requests(RequestPhaseSummary summary) {
+        return summary != null ? summary.getRequests() : 0;
+    }
+
+    /**
+     * @return Mean of the phase over the requests recorded between the two summaries, in ms
+     */
+    private static double meanOfNew(RequestPhaseSummary before, RequestPhaseSummary after, RequestPhase phase) {
+        double total = after.getMeanMillis(phase) * after.getRequests();
+        if (before != null) {
+            total -= before.getMeanMillis(phase) * before.getRequests();
+        }
+        return total / (after.getRequests() - requests(before));
+    }
+}
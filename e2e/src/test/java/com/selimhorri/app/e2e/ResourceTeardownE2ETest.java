@@ -0,0 +1,129 @@
+package com.selimhorri.app.e2e;
+
+import com.selimhorri.app.e2e.cleanup.CreatedResources;
+import com.selimhorri.app.e2e.cleanup.ResourceType;
+import com.selimhorri.app.e2e.cleanup.Teardown;
+import com.selimhorri.app.e2e.cleanup.TeardownReport;
+import com.selimhorri.app.e2e.load.LoadEngine;
+import com.selimhorri.app.e2e.load.LoadHttpClient;
+import com.selimhorri.app.e2e.load.LoadRequestException;
+import com.selimhorri.app.e2e.load.LoadResult;
+import com.selimhorri.app.e2e.load.ShoppingJourneyScenario;
+import com.selimhorri.app.e2e.load.StatsRegistry;
+import com.selimhorri.app.e2e.util.E2EEnvironment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * E2E Test: Created Resource Registry and Teardown
+ * Runs a short shopping journey load, checks that every entity it created was recorded in the
+ * shared CreatedResources registry, then deletes them with a rate-limited Teardown and checks
+ * they are gone. Runs against the stub only, where deleting is safe to do mid-suite.
+ */
+@EnabledIf(value = "com.selimhorri.app.e2e.util.E2EEnvironment#isStubMode",
+        disabledReason = "Deletes entities mid-suite - run with -De2e.stub=true or -Pe2e-offline")
+@DisplayName("Resource Teardown E2E Tests")
+public class ResourceTeardownE2ETest {
+
+    private static final double RATE = 400.0;
+
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = E2EEnvironment.gatewayUrl();
+        System.out.println("🌐 Testing against Gateway: " + baseUrl);
+    }
+
+    @Test
+    @DisplayName("Parallel Rate-Limited Teardown in Dependency Order")
+    void testCreatedResourcesAreRecordedAndTornDown() throws InterruptedException {
+        System.out.println("🧹 Starting Resource Teardown Test");
+
+        CreatedResources shared = CreatedResources.shared(baseUrl);
+        Map<ResourceType, Set<Integer>> before = snapshot(shared);
+        LoadResult load;
+        try (LoadEngine engine = new LoadEngine(baseUrl, new ShoppingJourneyScenario())) {
+            load = engine.run(4, Duration.ZERO, Duration.ofSeconds(1));
+        }
+        assertThat(load.getIterations()).as("Journeys completed").isPositive();
+
+        // Only this run's entities, other tests' entities stay in the shared registry
+        CreatedResources created = new CreatedResources();
+        for (ResourceType type : ResourceType.values()) {
+            Arrays.stream(shared.ids(type)).filter(id -> !before.get(type).contains(id))
+                    .forEach(id -> created.record(type, id));
+            assertThat(created.size(type)).as("Recorded " + type + "s").isGreaterThanOrEqualTo(
+                    (int) (load.getIterations() - load.getFailedIterations()));
+        }
+        int[] sample = new int[ResourceType.values().length];
+        for (ResourceType type : ResourceType.values()) {
+            sample[type.ordinal()] = created.ids(type)[0];
+        }
+
+        TeardownReport report;
+        try (Teardown teardown = new Teardown(baseUrl, 16, RATE)) {
+            report = teardown.run(created);
+        }
+        report.print(System.out);
+
+        assertThat(report.getFailed()).as("Failed deletes").isZero();
+        assertThat(created.size()).as("Ids left in the registry").isZero();
+        for (TeardownReport.TypeCounts counts : report.getTypes()) {
+            assertThat(counts.getDeleted()).as(counts.getType() + "s deleted").isEqualTo(counts.getRequested());
+        }
+        // One request per rate interval, plus one second of slack for the first request and scheduling
+        assertThat(report.getRequested()).as("Deletes within the rate limit")
+                .isLessThanOrEqualTo((long) (RATE * (report.getSeconds() + 1)));
+        assertGone(sample);
+
+        System.out.println("🎉 Resource Teardown Test PASSED!");
+    }
+
+    private void assertGone(int[] sample) {
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "teardown-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            LoadHttpClient client = new LoadHttpClient(baseUrl, new StatsRegistry(), 1, executor, 1);
+            for (ResourceType type : ResourceType.values()) {
+                int id = sample[type.ordinal()];
+                int status;
+                try {
+                    client.get(0, type.getItemEndpoint(), type.getCollectionPath() + "/" + id).join();
+                    status = 200;
+                } catch (CompletionException e) {
+                    status = e.getCause() instanceof LoadRequestException
+                            ? ((LoadRequestException) e.getCause()).getStatusCode() : -1;
+                }
+                assertThat(status).as(type + " " + id + " after teardown").isEqualTo(404);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Map<ResourceType, Set<Integer>> snapshot(CreatedResources resources) {
+        Map<ResourceType, Set<Integer>> ids = new EnumMap<>(ResourceType.class);
+        for (ResourceType type : ResourceType.values()) {
+            ids.put(type, Arrays.stream(resources.ids(type)).boxed().collect(Collectors.toSet()));
+        }
+        return ids;
+    }
+}
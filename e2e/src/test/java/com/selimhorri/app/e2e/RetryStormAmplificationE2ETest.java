@@ -0,0 +1,101 @@
+package com.selimhorri.app.e2e;
+
+import com.selimhorri.app.e2e.load.LoadEngine;
+import com.selimhorri.app.e2e.load.OrderLookupScenario;
+import com.selimhorri.app.e2e.load.RetryPolicy;
+import com.selimhorri.app.e2e.load.RetryStormBenchmark;
+import com.selimhorri.app.e2e.load.RetryStormBenchmark.Phase;
+import com.selimhorri.app.e2e.load.RetryStormResult;
+import com.selimhorri.app.e2e.stub.LatencyDistribution;
+import com.selimhorri.app.e2e.stub.StubGateway;
+import com.selimhorri.app.e2e.util.E2EEnvironment;
+import com.selimhorri.app.e2e.util.OrderDataHelper;
+import com.selimhorri.app.e2e.util.SharedHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * E2E Test: Retry Storm Amplification
+ * Drives steady lookups of one order with client retries through the stub, whose gateway hop
+ * retries as well, while order-service is healthy, then failing, then slow, then healthy again.
+ * Checks how many requests order-service receives per request issued in each phase, and that
+ * goodput collapses while slow and comes back once the backend recovers. A single order keeps
+ * the response size fixed however many orders the suite created, and a first warm-up phase,
+ * left out of the checks, keeps JIT and connection setup from tripping the client timeout.
+ */
+@DisplayName("Retry Storm Amplification E2E Tests")
+@EnabledIf(value = "com.selimhorri.app.e2e.util.E2EEnvironment#isStubMode",
+        disabledReason = "Needs the stub's arrival counters - run with -Pe2e-offline")
+public class RetryStormAmplificationE2ETest {
+
+    private static final double RATE = 40;
+    private static final String WARMUP = "warmup";
+    private static final String HEALTHY = "healthy";
+    private static final String FAILING = "failing";
+    private static final String SLOW = "slow";
+    private static final String RECOVERED = "recovered";
+
+    @AfterEach
+    void tearDown() {
+        StubGateway stub = E2EEnvironment.stub();
+        stub.setLatency(StubGateway.ORDER_SERVICE, LatencyDistribution.none());
+        stub.setErrorRate(StubGateway.ORDER_SERVICE, 0.0);
+        stub.setGatewayRetries(StubGateway.ORDER_SERVICE, 0, Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("Client and Gateway Retries Multiply Load on a Degraded Backend")
+    void testRetriesMultiplyLoadOnDegradedBackend() throws InterruptedException {
+        System.out.println("🌪️ Starting Retry Storm Amplification Test");
+
+        StubGateway stub = E2EEnvironment.stub();
+        int orderId = OrderDataHelper.createOrder(SharedHttpClient.testRestTemplate(), E2EEnvironment.gatewayUrl(), 1);
+        // Gateway retries twice and gives up on a call after 250ms; the client after 200ms
+        stub.setGatewayRetries(StubGateway.ORDER_SERVICE, 2, Duration.ofMillis(250));
+        RetryPolicy retryPolicy = new RetryPolicy(2, Duration.ofMillis(200), Duration.ofMillis(20));
+        Map<String, LongSupplier> hops = new LinkedHashMap<>();
+        hops.put("gateway", () -> stub.getGatewayRequestCount(StubGateway.ORDER_SERVICE));
+        hops.put(StubGateway.ORDER_SERVICE, () -> stub.getRequestCount(StubGateway.ORDER_SERVICE));
+
+        RetryStormResult result;
+        try (LoadEngine engine = new LoadEngine(E2EEnvironment.gatewayUrl(),
+                new OrderLookupScenario(retryPolicy, orderId))) {
+            result = new RetryStormBenchmark(engine, retryPolicy, RATE, hops).run(Arrays.asList(
+                    new Phase(WARMUP, Duration.ofSeconds(2), () -> { }),
+                    new Phase(HEALTHY, Duration.ofSeconds(2), () -> { }),
+                    new Phase(FAILING, Duration.ofSeconds(3),
+                            () -> stub.setErrorRate(StubGateway.ORDER_SERVICE, 0.5)),
+                    new Phase(SLOW, Duration.ofSeconds(3), () -> {
+                        stub.setErrorRate(StubGateway.ORDER_SERVICE, 0.0);
+                        stub.setLatency(StubGateway.ORDER_SERVICE, LatencyDistribution.fixed(300));
+                    }),
+                    new Phase(RECOVERED, Duration.ofSeconds(3),
+                            () -> stub.setLatency(StubGateway.ORDER_SERVICE, LatencyDistribution.none()))));
+        }
+        result.print(System.out);
+
+        assertThat(result.getAmplification(HEALTHY, StubGateway.ORDER_SERVICE))
+                .as("A healthy backend should see one request per request issued").isBetween(0.9, 1.1);
+        // Each gateway call fails half the time and is retried up to twice: 1 + 0.5 + 0.25 calls
+        assertThat(result.getAmplification(FAILING, StubGateway.ORDER_SERVICE)).isGreaterThan(1.5);
+        // Every client attempt times out and each one costs three gateway calls
+        assertThat(result.getAmplification(SLOW, StubGateway.ORDER_SERVICE)).isGreaterThan(3.0);
+        assertThat(result.getAmplification(SLOW, "client")).isGreaterThan(2.0);
+        assertThat(result.getPhase(SLOW).getGoodput()).as("Goodput should collapse while the backend is slow")
+                .isLessThan(result.getPhase(HEALTHY).getGoodput() / 2);
+        assertThat(result.getPhase(RECOVERED).getGoodput()).as("Goodput should come back after recovery")
+                .isGreaterThan(RATE * 0.6);
+
+        System.out.println("🎉 Retry Storm Amplification Test PASSED!");
+    }
+}
@@ -0,0 +1,84 @@
+package com.selimhorri.app.e2e;
+
+import com.selimhorri.app.e2e.baseline.GateReport;
+import com.selimhorri.app.e2e.baseline.RegressionGate;
+import com.selimhorri.app.e2e.load.EndpointSummary;
+import com.selimhorri.app.e2e.load.IntervalHistogramLogger;
+import com.selimhorri.app.e2e.load.LoadEngine;
+import com.selimhorri.app.e2e.load.LoadResult;
+import com.selimhorri.app.e2e.load.LocustStatsExporter;
+import com.selimhorri.app.e2e.load.ShoppingJourneyScenario;
+import com.selimhorri.app.e2e.load.SteadyStateMonitor;
+import com.selimhorri.app.e2e.load.WarmupReport;
+import com.selimhorri.app.e2e.util.E2EEnvironment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * E2E Test: Shopping Journey under Load
+ * Drives the complete shopping journey from many concurrent sessions through the Java load engine
+ * and checks that every endpoint of the flow was exercised without failures. With
+ * -De2e.baseline.dir set, it also fails on latency or throughput regressions against the baseline.
+ */
+@EnabledIf(value = "com.selimhorri.app.e2e.util.E2EEnvironment#crossServiceFlowsEnabled",
+        disabledReason = "Requires inter-service communication through Eureka discovery - run with -De2e.discovery.enabled=true or -Pe2e-offline")
+@DisplayName("Shopping Journey Load E2E Tests")
+public class ShoppingJourneyLoadE2ETest {
+
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = E2EEnvironment.gatewayUrl();
+        System.out.println("🌐 Testing against Gateway: " + baseUrl);
+    }
+
+    @Test
+    @DisplayName("Concurrent Shopping Journeys")
+    void testConcurrentShoppingJourneys() throws InterruptedException {
+        System.out.println("🚀 Starting Concurrent Shopping Journey Load Test");
+
+        int sessions = Integer.getInteger("load.sessions", 20);
+        Duration duration = Duration.ofSeconds(Long.getLong("load.duration", 5L));
+
+        LoadResult result;
+        GateReport gate;
+        WarmupReport warmup;
+        try (LoadEngine engine = new LoadEngine(baseUrl, new ShoppingJourneyScenario());
+             IntervalHistogramLogger histogramLog = IntervalHistogramLogger.startIfConfigured(
+                     "shopping_journey.hlog", engine.getStats());
+             SteadyStateMonitor steadyState = SteadyStateMonitor.start(engine.getStats())) {
+            result = engine.run(sessions, Duration.ofSeconds(1), duration);
+            warmup = steadyState.report();
+            LocustStatsExporter.writeIfConfigured("shopping_journey_stats.json", engine.getStats(),
+                    result.getElapsed(), sessions);
+            gate = RegressionGate.checkIfConfigured("shopping_journey", engine.getStats(), result.getElapsed(), sessions);
+        }
+        result.print(System.out);
+        warmup.print(System.out);
+
+        assertThat(result.getPeakSessions()).as("All sessions should have been started").isEqualTo(sessions);
+        assertThat(result.getIterations()).as("At least one journey should complete").isPositive();
+        assertThat(result.getFailedIterations()).as("No journey should fail").isZero();
+        assertThat(result.getEndpoints())
+                .extracting(EndpointSummary::getName)
+                .as("Every step of the journey should be recorded")
+                .contains(
+                        ShoppingJourneyScenario.USERS,
+                        ShoppingJourneyScenario.PRODUCT_BY_ID,
+                        ShoppingJourneyScenario.CART_BY_ID,
+                        ShoppingJourneyScenario.ORDER_BY_ID);
+        if (gate != null) {
+            gate.print(System.out);
+            assertThat(gate.isPassed()).as("No regression against the baseline: " + gate.getRegressions()).isTrue();
+        }
+
+        System.out.println("🎉 Concurrent Shopping Journey Load Test PASSED!");
+    }
+}
@@ -2,19 +2,21 @@ package com.selimhorri.app.e2e;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.e2e.util.E2EEnvironment;
+import com.selimhorri.app.e2e.util.JsonCodecs;
 import com.selimhorri.app.e2e.util.JwtTestHelper;
+import com.selimhorri.app.e2e.util.SharedHttpClient;
+import com.selimhorri.app.e2e.util.UniqueIds;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.*;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -33,14 +35,12 @@ public class UserRegistrationFlowE2ETest {
 
         @BeforeEach
         void setUp() {
-                restTemplate = new RestTemplateBuilder()
-                                .setConnectTimeout(java.time.Duration.ofSeconds(10))
-                                .setReadTimeout(java.time.Duration.ofSeconds(30))
-                                .build();
+                restTemplate = SharedHttpClient.restTemplate();
+                System.out.println("🔌 " + SharedHttpClient.poolStats());
 
-                objectMapper = new ObjectMapper();
-                apiGatewayUrl = System.getProperty("api.gateway.url", "http://localhost:9090");
-                uniqueId = UUID.randomUUID().toString().substring(0, 8);
+                objectMapper = JsonCodecs.mapper();
+                apiGatewayUrl = E2EEnvironment.gatewayUrl();
+                uniqueId = UniqueIds.next();
 
                 // Setup test user data with nested credential structure
                 testUser = new HashMap<>();
@@ -48,7 +48,7 @@ public class UserRegistrationFlowE2ETest {
                 testUser.put("lastName", "User");
                 testUser.put("imageUrl", "https://example.com/e2e.jpg");
                 testUser.put("email", "e2etest" + uniqueId + "@example.com");
-                testUser.put("phone", "+1555" + uniqueId.substring(0, 7));
+                testUser.put("phone", UniqueIds.phone("+1555"));
 
                 // Credential as nested object - key must match @JsonProperty("credential") in
                 // UserDto
@@ -66,7 +66,7 @@ public class UserRegistrationFlowE2ETest {
         private HttpHeaders createHeadersWithJwt() {
                 HttpHeaders headers = new HttpHeaders();
                 headers.setContentType(MediaType.APPLICATION_JSON);
-                String jwtToken = JwtTestHelper.generateToken("testuser");
+                String jwtToken = JwtTestHelper.getToken("testuser");
                 headers.set("Authorization", "Bearer " + jwtToken);
                 return headers;
         }
@@ -143,7 +143,7 @@ public class UserRegistrationFlowE2ETest {
                 updateData.put("firstName", "Updated" + uniqueId);
                 updateData.put("lastName", "UpdatedUser");
                 updateData.put("email", testUser.get("email")); // Keep original email
-                updateData.put("phone", "+1999" + uniqueId.substring(0, 7));
+                updateData.put("phone", UniqueIds.phone("+1999"));
                 updateData.put("imageUrl", "https://example.com/updated_avatar.jpg");
 
                 // Include credential data (required by backend)
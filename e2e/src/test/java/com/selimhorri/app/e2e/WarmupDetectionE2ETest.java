@@ -0,0 +1,74 @@
+package com.selimhorri.app.e2e;
+
+import com.selimhorri.app.e2e.load.EndpointSummary;
+import com.selimhorri.app.e2e.load.LoadEngine;
+import com.selimhorri.app.e2e.load.SteadyStateMonitor;
+import com.selimhorri.app.e2e.load.UserRegistrationScenario;
+import com.selimhorri.app.e2e.load.WarmupReport;
+import com.selimhorri.app.e2e.stub.LatencyDistribution;
+import com.selimhorri.app.e2e.stub.StubGateway;
+import com.selimhorri.app.e2e.util.E2EEnvironment;
+import com.selimhorri.app.e2e.util.SteadyStateDetector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * E2E Test: Warm-up Detection
+ * Simulates a cold start by making the stub's user-service slow for the first seconds of a
+ * registration load run, then checks the monitor puts the steady state after it and keeps the
+ * slow requests out of the steady-state percentiles.
+ */
+@DisplayName("Warm-up Detection E2E Tests")
+@EnabledIf(value = "com.selimhorri.app.e2e.util.E2EEnvironment#isStubMode",
+        disabledReason = "Injects latency into the stub gateway - run with -Pe2e-offline")
+public class WarmupDetectionE2ETest {
+
+    private static final Duration COLD_START = Duration.ofMillis(1500);
+
+    @AfterEach
+    void tearDown() {
+        E2EEnvironment.stub().setLatency(StubGateway.USER_SERVICE, LatencyDistribution.none());
+    }
+
+    @Test
+    @DisplayName("Cold Start Excluded from Steady State")
+    void testColdStartExcludedFromSteadyState() throws InterruptedException {
+        System.out.println("🔥 Starting Warm-up Detection Test");
+
+        StubGateway stub = E2EEnvironment.stub();
+        stub.setLatency(StubGateway.USER_SERVICE, LatencyDistribution.logNormal(80, 0.1));
+
+        WarmupReport report;
+        try (LoadEngine engine = new LoadEngine(E2EEnvironment.gatewayUrl(), new UserRegistrationScenario());
+             SteadyStateMonitor monitor = new SteadyStateMonitor(engine.getStats(),
+                     new SteadyStateDetector(4, 0.25, 0.5), Duration.ofMillis(500))) {
+            engine.start();
+            engine.setConcurrency(4);
+            Thread.sleep(COLD_START.toMillis());
+            stub.setLatency(StubGateway.USER_SERVICE, LatencyDistribution.logNormal(20, 0.1));
+            Thread.sleep(6_000);
+            engine.stop(Duration.ofSeconds(1));
+            report = monitor.report();
+        }
+        report.print(System.out);
+
+        assertThat(report.isSteady()).as("Steady state should be reached after the cold start").isTrue();
+        assertThat(report.getWarmup()).as("Warm-up should cover the cold start").isGreaterThanOrEqualTo(COLD_START);
+        EndpointSummary cold = report.getWarmupEndpoints().stream()
+                .filter(endpoint -> endpoint.getName().equals(UserRegistrationScenario.USERS))
+                .findFirst().orElseThrow(AssertionError::new);
+        EndpointSummary warm = report.getSteadyEndpoints().stream()
+                .filter(endpoint -> endpoint.getName().equals(UserRegistrationScenario.USERS))
+                .findFirst().orElseThrow(AssertionError::new);
+        assertThat(warm.getP50Millis()).as("Steady-state latencies should exclude the cold start")
+                .isLessThan(cold.getP50Millis());
+
+        System.out.println("🎉 Warm-up Detection Test PASSED!");
+    }
+}
@@ -0,0 +1,144 @@
+package com.selimhorri.app.e2e.baseline;
+
+import com.selimhorri.app.e2e.load.StatsRegistry;
+import com.selimhorri.app.e2e.util.JsonCodecs;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Local store of run results, one directory per run name:
+ *   [dir]/[runName]/baseline.json          the run new results are compared against
+ *   [dir]/[runName]/runs/[timestamp].json  every recorded run
+ * The first run of a name becomes its baseline; later runs only replace it when recorded with
+ * -De2e.baseline.update=true, i.e. when a slowdown is accepted on purpose.
+ */
+public class BaselineStore {
+
+    public static final String DIR_PROPERTY = "e2e.baseline.dir";
+    public static final String UPDATE_PROPERTY = "e2e.baseline.update";
+
+    private static final String BASELINE_FILE = "baseline.json";
+    private static final String RUNS_DIR = "runs";
+    // Same timestamp format as run_performance_tests.sh, plus milliseconds so quick reruns do not collide
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSS");
+
+    private final Path dir;
+
+    public BaselineStore(Path dir) {
+        this.dir = dir;
+    }
+
+    /**
+     * @return Store in -De2e.baseline.dir, or null when that property is not set
+     */
+    public static BaselineStore fromConfiguration() {
+        String dir = System.getProperty(DIR_PROPERTY);
+        return dir == null || dir.isEmpty() ? null : new BaselineStore(Paths.get(dir));
+    }
+
+    /**
+     * Record the stats of a finished run when -De2e.baseline.dir is set, without comparing it;
+     * RegressionGate.checkIfConfigured records and compares in one go
+     * @return Recorded run, or null when the store is not configured or could not be written
+     */
+    public static RunSnapshot recordIfConfigured(String runName, StatsRegistry stats, Duration elapsed, int userCount) {
+        BaselineStore store = fromConfiguration();
+        if (store == null) {
+            return null;
+        }
+        RunSnapshot run = RunSnapshot.of(runName, stats, elapsed, userCount);
+        try {
+            store.record(run);
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not record run " + runName + " in " + store.dir + ": " + e.getMessage());
+            return null;
+        }
+        return run;
+    }
+
+    public Path getDir() {
+        return dir;
+    }
+
+    /**
+     * Save a run under its name, making it the baseline if there is none yet or the update
+     * property is set
+     * @return File of the recorded run
+     */
+    public Path record(RunSnapshot run) throws IOException {
+        Path runs = dir.resolve(run.getRunName()).resolve(RUNS_DIR);
+        Files.createDirectories(runs);
+        Path file = runs.resolve(LocalDateTime.now().format(TIMESTAMP) + ".json");
+        JsonCodecs.mapper().writerWithDefaultPrettyPrinter().writeValue(file.toFile(), run);
+        System.out.println("📄 Run " + run.getRunName() + " recorded in " + file);
+        if (Boolean.getBoolean(UPDATE_PROPERTY) || !Files.exists(baselineFile(run.getRunName()))) {
+            promote(run);
+        }
+        return file;
+    }
+
+    public void promote(RunSnapshot run) throws IOException {
+        Path file = baselineFile(run.getRunName());
+        Files.createDirectories(file.getParent());
+        JsonCodecs.mapper().writerWithDefaultPrettyPrinter().writeValue(file.toFile(), run);
+        System.out.println("📌 Run " + run.getRunName() + " of " + run.getRecordedAt() + " is now the baseline");
+    }
+
+    public Optional<RunSnapshot> baseline(String runName) throws IOException {
+        return read(baselineFile(runName));
+    }
+
+    /**
+     * @return Most recently recorded run of that name
+     */
+    public Optional<RunSnapshot> latest(String runName) throws IOException {
+        Path runs = dir.resolve(runName).resolve(RUNS_DIR);
+        if (!Files.isDirectory(runs)) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.list(runs)) {
+            Optional<Path> latest = files
+                    .filter(file -> file.getFileName().toString().endsWith(".json"))
+                    .max(Path::compareTo);
+            return latest.isPresent() ? read(latest.get()) : Optional.empty();
+        }
+    }
+
+    /**
+     * @return Names of every run with a baseline, sorted
+     */
+    public List<String> runNames() throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> entries = Files.list(dir)) {
+            return entries
+                    .filter(entry -> Files.exists(entry.resolve(BASELINE_FILE)))
+                    .map(entry -> entry.getFileName().toString())
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private Path baselineFile(String runName) {
+        return dir.resolve(runName).resolve(BASELINE_FILE);
+    }
+
+    private static Optional<RunSnapshot> read(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        return Optional.of(JsonCodecs.readerFor(RunSnapshot.class).readValue(file.toFile()));
+    }
+}
@@ -0,0 +1,120 @@
+package com.selimhorri.app.e2e.baseline;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One-sided significance tests used by the RegressionGate, all asking "is the current run
+ * worse than the baseline, beyond what sampling noise explains?"
+ * Histograms are compared at their bucket boundaries, which with 3 significant digits is well
+ * inside the precision of the latencies themselves.
+ */
+final class DistributionTests {
+
+    private DistributionTests() {
+    }
+
+    /**
+     * One-sided two-sample Kolmogorov-Smirnov test for the current latencies being shifted
+     * towards slower values, anywhere in the distribution
+     * @return D+ statistic and its asymptotic p-value, exp(-2 * n*m/(n+m) * D^2)
+     */
+    static double[] slowerShift(Histogram baseline, Histogram current) {
+        long n = baseline.getTotalCount();
+        long m = current.getTotalCount();
+        if (n == 0 || m == 0) {
+            return new double[] {0.0, 1.0};
+        }
+        List<long[]> base = steps(baseline);
+        List<long[]> curr = steps(current);
+        long baseCumulative = 0;
+        long currCumulative = 0;
+        double maxGap = 0.0;
+        int i = 0;
+        int j = 0;
+        // Walk both step functions in value order; a slower current run has a lower CDF
+        while (i < base.size() || j < curr.size()) {
+            long value = Math.min(i < base.size() ? base.get(i)[0] : Long.MAX_VALUE,
+                    j < curr.size() ? curr.get(j)[0] : Long.MAX_VALUE);
+            while (i < base.size() && base.get(i)[0] == value) {
+                baseCumulative += base.get(i++)[1];
+            }
+            while (j < curr.size() && curr.get(j)[0] == value) {
+                currCumulative += curr.get(j++)[1];
+            }
+            maxGap = Math.max(maxGap, (double) baseCumulative / n - (double) currCumulative / m);
+        }
+        double effective = (double) n * m / (n + m);
+        return new double[] {maxGap, Math.min(1.0, Math.exp(-2.0 * effective * maxGap * maxGap))};
+    }
+
+    /**
+     * Two-proportion z-test on the share of requests slower than the baseline's percentile: if
+     * the tail has not moved, the current run should exceed the baseline's p95 about as often
+     * as the baseline itself did (5%). Focused on one tail, so it notices a p99 regression that
+     * the whole-distribution KS test would dilute.
+     * @return p-value of the current run exceeding the threshold more often than the baseline
+     */
+    static double tailExceedance(Histogram baseline, Histogram current, long thresholdMicros) {
+        long n = baseline.getTotalCount();
+        long m = current.getTotalCount();
+        if (n == 0 || m == 0) {
+            return 1.0;
+        }
+        long baseAbove = n - baseline.getCountBetweenValues(0, thresholdMicros);
+        long currAbove = m - current.getCountBetweenValues(0, thresholdMicros);
+        double pooled = (double) (baseAbove + currAbove) / (n + m);
+        double variance = pooled * (1.0 - pooled) * (1.0 / n + 1.0 / m);
+        if (variance <= 0.0) {
+            return currAbove * n > baseAbove * m ? 0.0 : 1.0;
+        }
+        double z = ((double) currAbove / m - (double) baseAbove / n) / Math.sqrt(variance);
+        return upperTail(z);
+    }
+
+    /**
+     * Test for a lower request rate, treating each run's request count as Poisson over its
+     * duration
+     * @return p-value of the current rate being below the baseline rate
+     */
+    static double rateDrop(long baseRequests, double baseSeconds, long currRequests, double currSeconds) {
+        if (baseSeconds <= 0 || currSeconds <= 0) {
+            return 1.0;
+        }
+        double variance = baseRequests / (baseSeconds * baseSeconds) + currRequests / (currSeconds * currSeconds);
+        if (variance <= 0.0) {
+            return 1.0;
+        }
+        double z = (baseRequests / baseSeconds - currRequests / currSeconds) / Math.sqrt(variance);
+        return upperTail(z);
+    }
+
+    /**
+     * @return P(Z > z) for a standard normal Z
+     */
+    static double upperTail(double z) {
+        return 0.5 * erfc(z / Math.sqrt(2.0));
+    }
+
+    /**
+     * Complementary error function, Chebyshev fit from Numerical Recipes (relative error < 1.2e-7)
+     */
+    private static double erfc(double x) {
+        double t = 1.0 / (1.0 + 0.5 * Math.abs(x));
+        double y = t * Math.exp(-x * x - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418
+                + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587
+                + t * (-0.82215223 + t * 0.17087277)))))))));
+        return x >= 0 ? y : 2.0 - y;
+    }
+
+    private static List<long[]> steps(Histogram histogram) {
+        List<long[]> steps = new ArrayList<>();
+        for (HistogramIterationValue value : histogram.recordedValues()) {
+            steps.add(new long[] {value.getValueIteratedTo(), value.getCountAddedInThisIterationStep()});
+        }
+        return steps;
+    }
+}
@@ -0,0 +1,229 @@
+package com.selimhorri.app.e2e.baseline;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Outcome of comparing one run against its baseline: a row per gated endpoint plus the list of
+ * regressions that fail the gate
+ */
+public class GateReport {
+
+    private final String runName;
+    private final String baselineRecordedAt;
+    private final String currentRecordedAt;
+    private final List<Comparison> comparisons = new ArrayList<>();
+    private final List<String> notes = new ArrayList<>();
+    private boolean accepted;
+
+    public GateReport(String runName, String baselineRecordedAt, String currentRecordedAt) {
+        this.runName = runName;
+        this.baselineRecordedAt = baselineRecordedAt;
+        this.currentRecordedAt = currentRecordedAt;
+    }
+
+    public String getRunName() {
+        return runName;
+    }
+
+    /**
+     * @return When the baseline was recorded, or null if this run had none to compare with
+     */
+    public String getBaselineRecordedAt() {
+        return baselineRecordedAt;
+    }
+
+    public String getCurrentRecordedAt() {
+        return currentRecordedAt;
+    }
+
+    public List<Comparison> getComparisons() {
+        return comparisons;
+    }
+
+    /**
+     * @return Endpoints skipped or metrics not compared, with the reason
+     */
+    public List<String> getNotes() {
+        return notes;
+    }
+
+    /**
+     * @return Whether the run was made the new baseline with -De2e.baseline.update=true
+     */
+    public boolean isAccepted() {
+        return accepted;
+    }
+
+    public void setAccepted(boolean accepted) {
+        this.accepted = accepted;
+    }
+
+    /**
+     * @return One line per regressed metric, e.g. "GET /user-service/api/users/[id] p95 12.0 -> 19.5 ms (+62%, p=1.2e-05)"
+     */
+    public List<String> getRegressions() {
+        List<String> regressions = new ArrayList<>();
+        for (Comparison comparison : comparisons) {
+            regressions.addAll(comparison.getRegressions());
+        }
+        return regressions;
+    }
+
+    /**
+     * @return True when nothing regressed, or the run was accepted as the new baseline
+     */
+    public boolean isPassed() {
+        return accepted || getRegressions().isEmpty();
+    }
+
+    public void print(PrintStream out) {
+        out.println();
+        out.println("🚦 PERFORMANCE GATE: " + runName);
+        out.println("=====================================");
+        if (baselineRecordedAt == null) {
+            out.println("No baseline yet; this run is the baseline from now on");
+        } else {
+            out.println("Baseline: " + baselineRecordedAt + ", current: " + currentRecordedAt);
+            out.println(String.format(Locale.ROOT, "%-6s  %-38s  %22s  %22s  %22s  %15s",
+                    "Method", "Name", "p95 ms (p-value)", "p99 ms (p-value)", "req/s (p-value)", "KS D+ (p-value)"));
+            for (Comparison comparison : comparisons) {
+                out.println(comparison);
+            }
+        }
+        for (String note : notes) {
+            out.println("ℹ️ " + note);
+        }
+        List<String> regressions = getRegressions();
+        if (regressions.isEmpty()) {
+            out.println("✅ No regression against the baseline");
+        } else {
+            for (String regression : regressions) {
+                out.println("❌ " + regression);
+            }
+            if (accepted) {
+                out.println("📌 Accepted: this run replaces the baseline");
+            }
+        }
+        out.println("=====================================");
+    }
+
+    /**
+     * Baseline and current values of one endpoint; throughput values are NaN when not compared
+     */
+    public static final class Comparison {
+
+        private final String method;
+        private final String name;
+        private final double[] p95Millis;
+        private final double p95PValue;
+        private final double[] p99Millis;
+        private final double p99PValue;
+        private final double[] throughput;
+        private final double throughputPValue;
+        private final double shift;
+        private final double shiftPValue;
+        private final List<String> regressions = new ArrayList<>();
+
+        /**
+         * Value pairs are {baseline, current}
+         */
+        Comparison(String method, String name, double[] p95Millis, double p95PValue, double[] p99Millis,
+                   double p99PValue, double[] throughput, double throughputPValue, double shift, double shiftPValue) {
+            this.method = method;
+            this.name = name;
+            this.p95Millis = p95Millis;
+            this.p95PValue = p95PValue;
+            this.p99Millis = p99Millis;
+            this.p99PValue = p99PValue;
+            this.throughput = throughput;
+            this.throughputPValue = throughputPValue;
+            this.shift = shift;
+            this.shiftPValue = shiftPValue;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getBaselineP95Millis() {
+            return p95Millis[0];
+        }
+
+        public double getCurrentP95Millis() {
+            return p95Millis[1];
+        }
+
+        public double getP95PValue() {
+            return p95PValue;
+        }
+
+        public double getBaselineP99Millis() {
+            return p99Millis[0];
+        }
+
+        public double getCurrentP99Millis() {
+            return p99Millis[1];
+        }
+
+        public double getP99PValue() {
+            return p99PValue;
+        }
+
+        public double getBaselineThroughput() {
+            return throughput[0];
+        }
+
+        public double getCurrentThroughput() {
+            return throughput[1];
+        }
+
+        public double getThroughputPValue() {
+            return throughputPValue;
+        }
+
+        /**
+         * @return Largest gap between the baseline and current latency CDFs towards slower values
+         */
+        public double getShift() {
+            return shift;
+        }
+
+        public double getShiftPValue() {
+            return shiftPValue;
+        }
+
+        public List<String> getRegressions() {
+            return regressions;
+        }
+
+        void addRegression(String metric, double[] values, String unit, double pValue) {
+            regressions.add(String.format(Locale.ROOT, "%s %s %s %.1f -> %.1f %s (%+.0f%%, p=%.2g)", method, name,
+                    metric, values[0], values[1], unit, change(values) * 100.0, pValue));
+        }
+
+        static double change(double[] values) {
+            return values[0] > 0 ? values[1] / values[0] - 1.0 : 0.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-6s  %-38s  %22s  %22s  %22s  %6.3f (%6.2g)%s",
+                    method, name, pair(p95Millis, p95PValue), pair(p99Millis, p99PValue), pair(throughput, throughputPValue),
+                    shift, shiftPValue, regressions.isEmpty() ? "" : "  ❌");
+        }
+
+        private static String pair(double[] values, double pValue) {
+            if (Double.isNaN(values[0])) {
+                return "-";
+            }
+            return String.format(Locale.ROOT, "%.1f→%.1f (%.2g)", values[0], values[1], pValue);
+        }
+    }
+}
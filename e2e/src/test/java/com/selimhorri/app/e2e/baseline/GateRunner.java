@@ -0,0 +1,51 @@
+package com.selimhorri.app.e2e.baseline;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.DataFormatException;
+
+/**
+ * Command-line gate over runs already recorded in the baseline store, for runs that cannot fail
+ * the build themselves, like the E2E suite whose stats are only complete at JVM shutdown
+ * Usage: mvn test -De2e.baseline.dir=perf-baselines
+ *        mvn -Pperf-gate test-compile exec:java -De2e.baseline.dir=perf-baselines [-Dgate.runs=e2e_suite]
+ * Compares the latest run of each name (every name in the store by default) with its baseline
+ * and fails the build on any regression; see RegressionGate for the thresholds.
+ */
+public class GateRunner {
+
+    public static void main(String[] args) throws IOException, DataFormatException {
+        BaselineStore store = BaselineStore.fromConfiguration();
+        if (store == null) {
+            throw new IllegalArgumentException("Set -D" + BaselineStore.DIR_PROPERTY + " to the baseline store directory");
+        }
+        String runs = System.getProperty("gate.runs");
+        List<String> runNames = runs != null ? Arrays.asList(runs.split(",")) : store.runNames();
+        RegressionGate gate = RegressionGate.fromSystemProperties();
+
+        List<String> regressions = new ArrayList<>();
+        for (String runName : runNames) {
+            Optional<RunSnapshot> baseline = store.baseline(runName.trim());
+            Optional<RunSnapshot> latest = store.latest(runName.trim());
+            if (!baseline.isPresent() || !latest.isPresent()) {
+                System.out.println("⚠️ No recorded run named " + runName + " in " + store.getDir());
+                continue;
+            }
+            if (baseline.get().getRecordedAt().equals(latest.get().getRecordedAt())) {
+                System.out.println("ℹ️ Latest " + runName + " run is the baseline itself, nothing to compare");
+                continue;
+            }
+            GateReport report = gate.compare(baseline.get(), latest.get());
+            report.print(System.out);
+            regressions.addAll(report.getRegressions());
+        }
+
+        if (!regressions.isEmpty()) {
+            throw new IllegalStateException(regressions.size() + " performance regression(s) against the baseline:\n  "
+                    + String.join("\n  ", regressions));
+        }
+    }
+}
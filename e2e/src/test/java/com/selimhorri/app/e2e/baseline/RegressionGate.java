@@ -0,0 +1,164 @@
+package com.selimhorri.app.e2e.baseline;
+
+import com.selimhorri.app.e2e.load.StatsRegistry;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.DataFormatException;
+
+/**
+ * Compares a run against its baseline and flags p95, p99 and throughput regressions of the
+ * user, product, cart and order endpoints
+ * A metric regresses only when it is worse by more than its threshold and a one-sided test
+ * says the difference is not sampling noise: the share of requests above the baseline's
+ * percentile for p95/p99, a Poisson rate test for throughput. The whole-distribution KS
+ * shift is reported alongside for context. Thresholds, as fractions of the baseline value:
+ *   -De2e.gate.p95=0.20 -De2e.gate.p99=0.30 -De2e.gate.throughput=0.15
+ *   -De2e.gate.alpha=0.01          significance level of every test
+ *   -De2e.gate.minRequests=50      endpoints with fewer requests on either side are skipped
+ *   -De2e.gate.minDeltaMs=2        smaller latency increases never fail the gate
+ *   -De2e.gate.resources=users,products,carts,orders
+ */
+public class RegressionGate {
+
+    private final double p95Increase;
+    private final double p99Increase;
+    private final double throughputDrop;
+    private final double alpha;
+    private final long minRequests;
+    private final double minDeltaMillis;
+    private final List<String> resources;
+
+    public RegressionGate(double p95Increase, double p99Increase, double throughputDrop, double alpha,
+                          long minRequests, double minDeltaMillis, List<String> resources) {
+        this.p95Increase = p95Increase;
+        this.p99Increase = p99Increase;
+        this.throughputDrop = throughputDrop;
+        this.alpha = alpha;
+        this.minRequests = minRequests;
+        this.minDeltaMillis = minDeltaMillis;
+        this.resources = resources;
+    }
+
+    public static RegressionGate fromSystemProperties() {
+        return new RegressionGate(
+                Double.parseDouble(System.getProperty("e2e.gate.p95", "0.20")),
+                Double.parseDouble(System.getProperty("e2e.gate.p99", "0.30")),
+                Double.parseDouble(System.getProperty("e2e.gate.throughput", "0.15")),
+                Double.parseDouble(System.getProperty("e2e.gate.alpha", "0.01")),
+                Long.getLong("e2e.gate.minRequests", 50L),
+                Double.parseDouble(System.getProperty("e2e.gate.minDeltaMs", "2")),
+                Arrays.asList(System.getProperty("e2e.gate.resources", "users,products,carts,orders").split(",")));
+    }
+
+    /**
+     * Record a finished run in the store of -De2e.baseline.dir and compare it with the baseline
+     * it had before; does nothing when that property is not set
+     * @param runName Name shared by runs that should be compared, e.g. the stats file prefix
+     * @return Gate outcome, or null when the store is not configured or unreadable
+     */
+    public static GateReport checkIfConfigured(String runName, StatsRegistry stats, Duration elapsed, int userCount) {
+        BaselineStore store = BaselineStore.fromConfiguration();
+        if (store == null) {
+            return null;
+        }
+        RunSnapshot current = RunSnapshot.of(runName, stats, elapsed, userCount);
+        try {
+            Optional<RunSnapshot> baseline = store.baseline(runName);
+            store.record(current);
+            GateReport report = baseline.isPresent()
+                    ? fromSystemProperties().compare(baseline.get(), current)
+                    : new GateReport(runName, null, current.getRecordedAt());
+            report.setAccepted(Boolean.getBoolean(BaselineStore.UPDATE_PROPERTY));
+            return report;
+        } catch (IOException | DataFormatException e) {
+            System.out.println("⚠️ Could not compare run " + runName + " with its baseline in " + store.getDir() + ": "
+                    + e.getMessage());
+            return null;
+        }
+    }
+
+    public GateReport compare(RunSnapshot baseline, RunSnapshot current) throws DataFormatException {
+        GateReport report = new GateReport(current.getRunName(), baseline.getRecordedAt(), current.getRecordedAt());
+        boolean compareThroughput = baseline.getUserCount() == current.getUserCount();
+        if (!compareThroughput) {
+            report.getNotes().add("Throughput not compared: " + baseline.getUserCount() + " users in the baseline, "
+                    + current.getUserCount() + " now");
+        }
+        for (RunSnapshot.EndpointSample base : baseline.getEndpoints()) {
+            if (!isGated(base.getName())) {
+                continue;
+            }
+            RunSnapshot.EndpointSample curr = current.endpoint(base.getMethod(), base.getName());
+            String endpoint = base.getMethod() + " " + base.getName();
+            if (curr == null) {
+                report.getNotes().add(endpoint + " was not called in this run");
+                continue;
+            }
+            if (base.getRequests() < minRequests || curr.getRequests() < minRequests) {
+                report.getNotes().add(endpoint + " skipped: " + base.getRequests() + " requests in the baseline, "
+                        + curr.getRequests() + " now, " + minRequests + " needed");
+                continue;
+            }
+            report.getComparisons().add(compare(base, baseline.getElapsedSeconds(), curr, current.getElapsedSeconds(),
+                    compareThroughput));
+        }
+        return report;
+    }
+
+    private GateReport.Comparison compare(RunSnapshot.EndpointSample base, double baseSeconds,
+                                          RunSnapshot.EndpointSample curr, double currSeconds,
+                                          boolean compareThroughput) throws DataFormatException {
+        Histogram baseMicros = base.decodeHistogram();
+        Histogram currMicros = curr.decodeHistogram();
+
+        long baseP95 = baseMicros.getValueAtPercentile(95.0);
+        long baseP99 = baseMicros.getValueAtPercentile(99.0);
+        double[] p95 = {baseP95 / 1000.0, currMicros.getValueAtPercentile(95.0) / 1000.0};
+        double[] p99 = {baseP99 / 1000.0, currMicros.getValueAtPercentile(99.0) / 1000.0};
+        double p95PValue = DistributionTests.tailExceedance(baseMicros, currMicros, baseP95);
+        double p99PValue = DistributionTests.tailExceedance(baseMicros, currMicros, baseP99);
+
+        double[] throughput = {Double.NaN, Double.NaN};
+        double throughputPValue = Double.NaN;
+        if (compareThroughput && baseSeconds > 0 && currSeconds > 0) {
+            throughput = new double[] {base.getRequests() / baseSeconds, curr.getRequests() / currSeconds};
+            throughputPValue = DistributionTests.rateDrop(base.getRequests(), baseSeconds, curr.getRequests(), currSeconds);
+        }
+        double[] shift = DistributionTests.slowerShift(baseMicros, currMicros);
+
+        GateReport.Comparison comparison = new GateReport.Comparison(base.getMethod(), base.getName(),
+                p95, p95PValue, p99, p99PValue, throughput, throughputPValue, shift[0], shift[1]);
+        if (isSlower(p95, p95Increase, p95PValue)) {
+            comparison.addRegression("p95", p95, "ms", p95PValue);
+        }
+        if (isSlower(p99, p99Increase, p99PValue)) {
+            comparison.addRegression("p99", p99, "ms", p99PValue);
+        }
+        if (!Double.isNaN(throughputPValue) && -GateReport.Comparison.change(throughput) > throughputDrop
+                && throughputPValue < alpha) {
+            comparison.addRegression("throughput", throughput, "req/s", throughputPValue);
+        }
+        return comparison;
+    }
+
+    private boolean isSlower(double[] millis, double threshold, double pValue) {
+        return GateReport.Comparison.change(millis) > threshold
+                && millis[1] - millis[0] >= minDeltaMillis
+                && pValue < alpha;
+    }
+
+    private boolean isGated(String name) {
+        for (String resource : resources) {
+            String path = "/api/" + resource.trim();
+            if (name.endsWith(path) || name.contains(path + "/")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
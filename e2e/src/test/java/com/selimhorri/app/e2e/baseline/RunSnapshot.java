@@ -0,0 +1,210 @@
+package com.selimhorri.app.e2e.baseline;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.selimhorri.app.e2e.load.EndpointStats;
+import com.selimhorri.app.e2e.load.HistogramCodec;
+import com.selimhorri.app.e2e.load.StatsRegistry;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+
+/**
+ * Per-endpoint results of one E2E or load run as kept in the BaselineStore
+ * Besides the headline numbers, each endpoint keeps its full latency histogram so later runs
+ * can be compared distribution against distribution.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RunSnapshot {
+
+    private String runName;
+    private String recordedAt;
+    private double elapsedSeconds;
+    private int userCount;
+    private List<EndpointSample> endpoints = new ArrayList<>();
+
+    public RunSnapshot() {
+    }
+
+    /**
+     * @param userCount Concurrent sessions of the run; throughput is only compared between runs
+     *                  with the same count
+     */
+    public static RunSnapshot of(String runName, StatsRegistry stats, Duration elapsed, int userCount) {
+        RunSnapshot run = new RunSnapshot();
+        run.setRunName(runName);
+        run.setRecordedAt(Instant.now().toString());
+        run.setElapsedSeconds(elapsed.toNanos() / 1_000_000_000.0);
+        run.setUserCount(userCount);
+        for (EndpointStats endpoint : stats.all()) {
+            run.getEndpoints().add(new EndpointSample(endpoint.getMethod(), endpoint.getName(),
+                    endpoint.getRequests(), endpoint.getFailures(), endpoint.snapshot()));
+        }
+        return run;
+    }
+
+    public String getRunName() {
+        return runName;
+    }
+
+    public void setRunName(String runName) {
+        this.runName = runName;
+    }
+
+    /**
+     * @return ISO-8601 instant the run was recorded
+     */
+    public String getRecordedAt() {
+        return recordedAt;
+    }
+
+    public void setRecordedAt(String recordedAt) {
+        this.recordedAt = recordedAt;
+    }
+
+    public double getElapsedSeconds() {
+        return elapsedSeconds;
+    }
+
+    public void setElapsedSeconds(double elapsedSeconds) {
+        this.elapsedSeconds = elapsedSeconds;
+    }
+
+    public int getUserCount() {
+        return userCount;
+    }
+
+    public void setUserCount(int userCount) {
+        this.userCount = userCount;
+    }
+
+    public List<EndpointSample> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(List<EndpointSample> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    /**
+     * @return The endpoint with this method and name, or null if the run did not call it
+     */
+    public EndpointSample endpoint(String method, String name) {
+        for (EndpointSample endpoint : endpoints) {
+            if (endpoint.getMethod().equals(method) && endpoint.getName().equals(name)) {
+                return endpoint;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Counters and latency distribution of one endpoint over the whole run
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class EndpointSample {
+
+        private String method;
+        private String name;
+        private long requests;
+        private long failures;
+        private double p50Millis;
+        private double p95Millis;
+        private double p99Millis;
+        private String histogram;
+
+        public EndpointSample() {
+        }
+
+        /**
+         * @param micros Latencies in microseconds
+         */
+        public EndpointSample(String method, String name, long requests, long failures, Histogram micros) {
+            this.method = method;
+            this.name = name;
+            this.requests = requests;
+            this.failures = failures;
+            this.p50Millis = micros.getValueAtPercentile(50.0) / 1000.0;
+            this.p95Millis = micros.getValueAtPercentile(95.0) / 1000.0;
+            this.p99Millis = micros.getValueAtPercentile(99.0) / 1000.0;
+            this.histogram = HistogramCodec.encode(micros);
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public void setMethod(String method) {
+            this.method = method;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public long getRequests() {
+            return requests;
+        }
+
+        public void setRequests(long requests) {
+            this.requests = requests;
+        }
+
+        public long getFailures() {
+            return failures;
+        }
+
+        public void setFailures(long failures) {
+            this.failures = failures;
+        }
+
+        /**
+         * Headline percentiles, kept for people reading the JSON; the gate works on the histogram
+         */
+        public double getP50Millis() {
+            return p50Millis;
+        }
+
+        public void setP50Millis(double p50Millis) {
+            this.p50Millis = p50Millis;
+        }
+
+        public double getP95Millis() {
+            return p95Millis;
+        }
+
+        public void setP95Millis(double p95Millis) {
+            this.p95Millis = p95Millis;
+        }
+
+        public double getP99Millis() {
+            return p99Millis;
+        }
+
+        public void setP99Millis(double p99Millis) {
+            this.p99Millis = p99Millis;
+        }
+
+        /**
+         * @return Latencies in microseconds, see HistogramCodec
+         */
+        public String getHistogram() {
+            return histogram;
+        }
+
+        public void setHistogram(String histogram) {
+            this.histogram = histogram;
+        }
+
+        public Histogram decodeHistogram() throws DataFormatException {
+            return HistogramCodec.decode(histogram);
+        }
+    }
+}
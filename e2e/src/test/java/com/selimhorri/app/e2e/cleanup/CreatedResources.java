@@ -0,0 +1,161 @@
+package com.selimhorri.app.e2e.cleanup;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.selimhorri.app.e2e.util.E2EEnvironment;
+import com.selimhorri.app.e2e.util.JsonCodecs;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of the entities created during a run, so they can be deleted afterwards
+ * One registry holds the entities of one gateway. The shared registries are fed automatically:
+ * SharedHttpClient and LoadHttpClient record the id of every successful POST to a tracked
+ * collection (see ResourceType) in the registry of the gateway it was sent to, which covers
+ * every E2E class, load run and benchmark, unless -De2e.cleanup=false. Each type is a lock-free
+ * queue, so recording from many load threads only costs a CAS. When the JVM exits, Teardown
+ * deletes every shared registry's entities on the gateway that created them; stub runs keep
+ * everything in memory and skip it.
+ */
+public class CreatedResources {
+
+    public static final String ENABLED_PROPERTY = "e2e.cleanup";
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"));
+
+    private final Map<ResourceType, ConcurrentLinkedQueue<Integer>> ids = new EnumMap<>(ResourceType.class);
+
+    public CreatedResources() {
+        for (ResourceType type : ResourceType.values()) {
+            ids.put(type, new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    /**
+     * @param baseUrl Gateway URL the entities were created on
+     * @return Registry fed by the shared HTTP clients for that gateway
+     */
+    public static CreatedResources shared(String baseUrl) {
+        return SharedHolder.SHARED.computeIfAbsent(normalize(baseUrl), url -> new CreatedResources());
+    }
+
+    /**
+     * @return False with -De2e.cleanup=false, in which case the shared clients record nothing
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * @param id Id of the created entity; null is ignored
+     */
+    public void record(ResourceType type, Integer id) {
+        if (id != null) {
+            ids.get(type).add(id);
+        }
+    }
+
+    /**
+     * Record the entity created by a successful POST in the shared registry of its gateway,
+     * reading its id from the response body
+     * Only the top-level id field is looked for, without building a tree.
+     * @param uri Request URI of the POST
+     */
+    public static void recordCreated(URI uri, byte[] body) {
+        String path = uri.getPath();
+        ResourceType type = ResourceType.forCollectionPath(path);
+        if (type == null || body == null || body.length == 0) {
+            return;
+        }
+        Integer id = readId(type, body);
+        if (id != null) {
+            // Whatever precedes the collection path is the gateway, path prefix included
+            String prefix = path.substring(0, path.lastIndexOf(type.getCollectionPath()));
+            shared(uri.getScheme() + "://" + uri.getRawAuthority() + prefix).record(type, id);
+        }
+    }
+
+    /**
+     * @return Ids recorded and not yet drained, in recording order
+     */
+    public int[] ids(ResourceType type) {
+        return ids.get(type).stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Remove and return every id recorded so far; ids recorded meanwhile stay for the next drain
+     */
+    public int[] drain(ResourceType type) {
+        ConcurrentLinkedQueue<Integer> queue = ids.get(type);
+        int[] drained = new int[queue.size()];
+        int count = 0;
+        Integer id;
+        while (count < drained.length && (id = queue.poll()) != null) {
+            drained[count++] = id;
+        }
+        return count == drained.length ? drained : Arrays.copyOf(drained, count);
+    }
+
+    public int size(ResourceType type) {
+        return ids.get(type).size();
+    }
+
+    public int size() {
+        return ids.values().stream().mapToInt(ConcurrentLinkedQueue::size).sum();
+    }
+
+    private static Integer readId(ResourceType type, byte[] body) {
+        try (JsonParser parser = JsonCodecs.mapper().getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                token = parser.nextToken();
+                if (field.equals(type.getIdField()) && token == JsonToken.VALUE_NUMBER_INT) {
+                    return parser.getIntValue();
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            // Not JSON, nothing to clean up
+            return null;
+        }
+    }
+
+    private static String normalize(String baseUrl) {
+        return baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    private static final class SharedHolder {
+
+        private static final ConcurrentMap<String, CreatedResources> SHARED = createShared();
+
+        private static ConcurrentMap<String, CreatedResources> createShared() {
+            ConcurrentMap<String, CreatedResources> registries = new ConcurrentHashMap<>();
+            if (ENABLED && !E2EEnvironment.isStubMode()) {
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                    registries.forEach((baseUrl, resources) -> {
+                        // Straight to the gateway behind a fault proxy, the proxy may already be closing
+                        try (Teardown teardown = Teardown.fromSystemProperties(E2EEnvironment.gatewayBehind(baseUrl))) {
+                            System.out.println("🧹 Cleaning up entities created on " + baseUrl);
+                            teardown.run(resources).print(System.out);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    });
+                }, "e2e-cleanup"));
+            }
+            return registries;
+        }
+    }
+}
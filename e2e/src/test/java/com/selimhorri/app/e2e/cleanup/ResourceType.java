@@ -0,0 +1,57 @@
+package com.selimhorri.app.e2e.cleanup;
+
+/**
+ * Entities the E2E tests create through the services, declared in teardown order: an entity is
+ * deleted before the entities it references (orders → carts → products → users)
+ */
+public enum ResourceType {
+
+    ORDER("/order-service/api/orders", "orderId"),
+    CART("/order-service/api/carts", "cartId"),
+    PRODUCT("/product-service/api/products", "productId"),
+    USER("/user-service/api/users", "userId");
+
+    private final String collectionPath;
+    private final String idField;
+
+    ResourceType(String collectionPath, String idField) {
+        this.collectionPath = collectionPath;
+        this.idField = idField;
+    }
+
+    /**
+     * @return Path entities are created with (POST) and deleted under (DELETE path/{id})
+     */
+    public String getCollectionPath() {
+        return collectionPath;
+    }
+
+    public String getIdField() {
+        return idField;
+    }
+
+    /**
+     * @return Endpoint name of the delete request, as recorded in a StatsRegistry
+     */
+    public String getItemEndpoint() {
+        return collectionPath + "/[id]";
+    }
+
+    /**
+     * @param path Request path, without query string
+     * @return Type created by a POST to the path, or null if the path is not a tracked collection
+     */
+    public static ResourceType forCollectionPath(String path) {
+        if (path == null) {
+            return null;
+        }
+        String normalized = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+        for (ResourceType type : values()) {
+            // endsWith, so a gateway URL with a path prefix still matches
+            if (normalized.endsWith(type.collectionPath)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
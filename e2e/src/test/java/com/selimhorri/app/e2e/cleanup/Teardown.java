@@ -0,0 +1,115 @@
+package com.selimhorri.app.e2e.cleanup;
+
+import com.selimhorri.app.e2e.load.LoadHttpClient;
+import com.selimhorri.app.e2e.load.LoadRequestException;
+import com.selimhorri.app.e2e.load.StatsRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Deletes the entities recorded in a CreatedResources registry through the service APIs
+ * Types are deleted one after the other in dependency order (orders → carts → products →
+ * users), so nothing is deleted while something still references it. Within a type, deletes
+ * run in parallel on the non-blocking LoadHttpClient with at most maxInFlight outstanding,
+ * paced to ratePerSecond so cleanup cannot swamp a shared environment. A 404 counts as already
+ * gone; ids whose delete failed go back into the registry. Defaults can be overridden with
+ *   -De2e.cleanup.concurrency=16 -De2e.cleanup.rate=200  (deletes per second, 0 = unlimited)
+ */
+public class Teardown implements AutoCloseable {
+
+    private final int maxInFlight;
+    private final double ratePerSecond;
+    private final StatsRegistry stats = new StatsRegistry();
+    private final LoadHttpClient client;
+
+    /**
+     * @param baseUrl Gateway URL
+     * @param maxInFlight Maximum deletes outstanding at any moment
+     * @param ratePerSecond Maximum deletes started per second; 0 or less for no limit
+     */
+    public Teardown(String baseUrl, int maxInFlight, double ratePerSecond) {
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.ratePerSecond = ratePerSecond;
+        int ioThreads = Math.min(this.maxInFlight, Runtime.getRuntime().availableProcessors());
+        this.client = LoadHttpClient.withDaemonExecutor(baseUrl, stats, "teardown", ioThreads, 1, true);
+    }
+
+    public static Teardown fromSystemProperties(String baseUrl) {
+        return new Teardown(baseUrl,
+                Integer.getInteger("e2e.cleanup.concurrency", 16),
+                Double.parseDouble(System.getProperty("e2e.cleanup.rate", "200")));
+    }
+
+    /**
+     * Delete everything recorded so far, type by type
+     */
+    public TeardownReport run(CreatedResources resources) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long intervalNanos = ratePerSecond > 0 ? (long) (1_000_000_000L / ratePerSecond) : 0L;
+        long nextStartNanos = System.nanoTime();
+        List<TeardownReport.TypeCounts> types = new ArrayList<>();
+        long startNanos = System.nanoTime();
+
+        for (ResourceType type : ResourceType.values()) {
+            int[] ids = resources.drain(type);
+            LongAdder deleted = new LongAdder();
+            LongAdder missing = new LongAdder();
+            LongAdder failed = new LongAdder();
+            long typeStartNanos = System.nanoTime();
+            for (int id : ids) {
+                if (intervalNanos > 0) {
+                    nextStartNanos = Math.max(nextStartNanos, System.nanoTime());
+                    LockSupport.parkNanos(nextStartNanos - System.nanoTime());
+                    nextStartNanos += intervalNanos;
+                }
+                inFlight.acquire();
+                CompletableFuture<?> future;
+                try {
+                    future = client.delete(id, type.getItemEndpoint(), type.getCollectionPath() + "/" + id);
+                } catch (RuntimeException e) {
+                    future = CompletableFuture.failedFuture(e);
+                }
+                future.whenComplete((ignored, error) -> {
+                    if (error == null) {
+                        deleted.increment();
+                    } else if (statusOf(error) == 404) {
+                        missing.increment();
+                    } else {
+                        failed.increment();
+                        resources.record(type, id);
+                    }
+                    inFlight.release();
+                });
+            }
+            // Every permit back means every delete of this type has completed
+            inFlight.acquire(maxInFlight);
+            inFlight.release(maxInFlight);
+            types.add(new TeardownReport.TypeCounts(type, ids.length, deleted.sum(), missing.sum(), failed.sum(),
+                    (System.nanoTime() - typeStartNanos) / 1_000_000_000.0));
+        }
+        return new TeardownReport(types, (System.nanoTime() - startNanos) / 1_000_000_000.0);
+    }
+
+    /**
+     * @return Per-endpoint latency of the delete requests
+     */
+    public StatsRegistry getStats() {
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+
+    private static int statusOf(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof LoadRequestException ? ((LoadRequestException) cause).getStatusCode() : -1;
+    }
+}
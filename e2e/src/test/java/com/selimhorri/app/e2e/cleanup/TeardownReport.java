@@ -0,0 +1,132 @@
+package com.selimhorri.app.e2e.cleanup;
+
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Outcome of a Teardown: per resource type, how many deletes were sent, how they ended and how
+ * fast they went
+ */
+public class TeardownReport {
+
+    private final List<TypeCounts> types;
+    private final double seconds;
+
+    public TeardownReport(List<TypeCounts> types, double seconds) {
+        this.types = List.copyOf(types);
+        this.seconds = seconds;
+    }
+
+    /**
+     * @return One row per resource type, in teardown order
+     */
+    public List<TypeCounts> getTypes() {
+        return types;
+    }
+
+    public TypeCounts get(ResourceType type) {
+        for (TypeCounts counts : types) {
+            if (counts.getType() == type) {
+                return counts;
+            }
+        }
+        throw new IllegalArgumentException("No teardown of " + type);
+    }
+
+    public double getSeconds() {
+        return seconds;
+    }
+
+    public long getRequested() {
+        return types.stream().mapToLong(TypeCounts::getRequested).sum();
+    }
+
+    public long getDeleted() {
+        return types.stream().mapToLong(TypeCounts::getDeleted).sum();
+    }
+
+    public long getFailed() {
+        return types.stream().mapToLong(TypeCounts::getFailed).sum();
+    }
+
+    /**
+     * @return Deletes completed per second over the whole teardown
+     */
+    public double getThroughput() {
+        return seconds > 0 ? (getRequested() - getFailed()) / seconds : 0.0;
+    }
+
+    public void print(PrintStream out) {
+        out.println("\n🧹 TEARDOWN");
+        out.println("=====================================");
+        out.printf("%-8s %9s %9s %9s %9s %9s %9s%n", "Type", "Requested", "Deleted", "Gone", "Failed", "Time(s)",
+                "Deletes/s");
+        for (TypeCounts counts : types) {
+            out.printf("%-8s %9d %9d %9d %9d %9.2f %9.1f%n", counts.getType(), counts.getRequested(),
+                    counts.getDeleted(), counts.getMissing(), counts.getFailed(), counts.getSeconds(),
+                    counts.getThroughput());
+        }
+        out.printf("Total: %d deleted, %d failed in %.2fs (%.1f deletes/s)%n", getDeleted(), getFailed(), seconds,
+                getThroughput());
+        out.println("=====================================");
+    }
+
+    /**
+     * Deletes of one resource type
+     */
+    public static class TypeCounts {
+
+        private final ResourceType type;
+        private final long requested;
+        private final long deleted;
+        private final long missing;
+        private final long failed;
+        private final double seconds;
+
+        public TypeCounts(ResourceType type, long requested, long deleted, long missing, long failed, double seconds) {
+            this.type = type;
+            this.requested = requested;
+            this.deleted = deleted;
+            this.missing = missing;
+            this.failed = failed;
+            this.seconds = seconds;
+        }
+
+        public ResourceType getType() {
+            return type;
+        }
+
+        public long getRequested() {
+            return requested;
+        }
+
+        public long getDeleted() {
+            return deleted;
+        }
+
+        /**
+         * @return Entities that were already gone (404)
+         */
+        public long getMissing() {
+            return missing;
+        }
+
+        /**
+         * @return Deletes that failed; their ids were put back into the registry
+         */
+        public long getFailed() {
+            return failed;
+        }
+
+        public double getSeconds() {
+            return seconds;
+        }
+
+        /**
+         * @return Deletes completed per second, already gone ones included
+         */
+        public double getThroughput() {
+            return seconds > 0 ? (requested - failed) / seconds : 0.0;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.selimhorri.app.e2e.contention;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fires updates at one hot entity from N workers at once for a fixed duration and records the
+ * history of every update with its invoke and complete time
+ * Workers are released together by a start gate, so the first updates really overlap, and each
+ * sends its next update as soon as the previous one returns. Defaults can be overridden with
+ *   -De2e.contention.workers=8 -De2e.contention.durationMs=2000
+ */
+public class ContentionEngine {
+
+    private final int workers;
+    private final Duration duration;
+
+    public ContentionEngine(int workers, Duration duration) {
+        this.workers = Math.max(1, workers);
+        this.duration = duration;
+    }
+
+    public static ContentionEngine fromSystemProperties() {
+        return new ContentionEngine(
+                Integer.getInteger("e2e.contention.workers", 8),
+                Duration.ofMillis(Long.getLong("e2e.contention.durationMs", 2_000L)));
+    }
+
+    public ContentionReport run(ContentionWorkload workload) throws InterruptedException {
+        workload.prepare();
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<List<Operation>> histories = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        long[] deadline = new long[1];
+        for (int w = 0; w < workers; w++) {
+            int worker = w;
+            List<Operation> history = new ArrayList<>();
+            histories.add(history);
+            Thread thread = new Thread(() -> {
+                try {
+                    startGate.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (long sequence = 0; System.nanoTime() < deadline[0]; sequence++) {
+                    history.add(execute(workload, new Operation(worker, sequence)));
+                }
+            }, "contention-" + worker);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+
+        long startNanos = System.nanoTime();
+        deadline[0] = startNanos + duration.toNanos();
+        startGate.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        List<Operation> history = new ArrayList<>();
+        histories.forEach(history::addAll);
+        history.sort(Comparator.comparingLong(Operation::getInvokeNanos));
+        HistoryCheck check = workload.check(history);
+        return new ContentionReport(workload.getName(), workers, TimeUnit.NANOSECONDS.toMillis(elapsedNanos) / 1000.0,
+                history, check);
+    }
+
+    private static Operation execute(ContentionWorkload workload, Operation operation) {
+        operation.invoked(System.nanoTime());
+        int status;
+        try {
+            status = workload.update(operation);
+        } catch (RuntimeException e) {
+            status = -1;
+        }
+        operation.completed(System.nanoTime(), status);
+        return operation;
+    }
+}
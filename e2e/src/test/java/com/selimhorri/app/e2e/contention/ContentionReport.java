@@ -0,0 +1,111 @@
+package com.selimhorri.app.e2e.contention;
+
+import com.selimhorri.app.e2e.util.LatencyRecorder;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Outcome of a ContentionEngine run: the update history, its latencies and status codes, the
+ * conflict rate and throughput, and the check of the final state
+ * Throughput counts acknowledged updates only.
+ */
+public class ContentionReport {
+
+    private final String workload;
+    private final int workers;
+    private final double seconds;
+    private final List<Operation> history;
+    private final HistoryCheck check;
+    private final LatencyRecorder latencies;
+    private final Map<Integer, Long> statusCounts = new TreeMap<>();
+    private final long acknowledged;
+    private final long conflicts;
+
+    public ContentionReport(String workload, int workers, double seconds, List<Operation> history, HistoryCheck check) {
+        this.workload = workload;
+        this.workers = workers;
+        this.seconds = seconds;
+        this.history = List.copyOf(history);
+        this.check = check;
+        this.latencies = new LatencyRecorder(workload);
+        long acknowledged = 0;
+        long conflicts = 0;
+        for (Operation operation : history) {
+            latencies.recordNanos(operation.getLatencyNanos());
+            statusCounts.merge(operation.getStatus(), 1L, Long::sum);
+            acknowledged += operation.isAcknowledged() ? 1 : 0;
+            conflicts += operation.isConflict() ? 1 : 0;
+        }
+        this.acknowledged = acknowledged;
+        this.conflicts = conflicts;
+    }
+
+    public String getWorkload() {
+        return workload;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public double getSeconds() {
+        return seconds;
+    }
+
+    public List<Operation> getHistory() {
+        return history;
+    }
+
+    public HistoryCheck getCheck() {
+        return check;
+    }
+
+    public LatencyRecorder getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * @return Operations per HTTP status, -1 for no response
+     */
+    public Map<Integer, Long> getStatusCounts() {
+        return statusCounts;
+    }
+
+    public long getOperations() {
+        return history.size();
+    }
+
+    public long getAcknowledged() {
+        return acknowledged;
+    }
+
+    public long getConflicts() {
+        return conflicts;
+    }
+
+    public double getConflictRate() {
+        return history.isEmpty() ? 0.0 : (double) conflicts / history.size();
+    }
+
+    /**
+     * @return Acknowledged updates per second
+     */
+    public double getThroughput() {
+        return seconds > 0 ? acknowledged / seconds : 0.0;
+    }
+
+    public void print(PrintStream out) {
+        out.println("\n🔒 CONTENTION: " + workload);
+        out.println("=====================================");
+        out.printf("Workers: %d, duration: %.1fs, updates: %d, acknowledged: %d (%.1f/s)%n",
+                workers, seconds, history.size(), acknowledged, getThroughput());
+        out.printf("Conflicts: %d (%.1f%%), statuses: %s%n", conflicts, getConflictRate() * 100, statusCounts);
+        out.printf("Latency (ms): p50=%.1f p95=%.1f p99=%.1f max=%.1f%n", latencies.getPercentileMillis(50.0),
+                latencies.getPercentileMillis(95.0), latencies.getPercentileMillis(99.0), latencies.getMaxMillis());
+        out.printf("Final state: %s%n", check);
+        out.println(check.isValid() ? "✅ No lost updates" : "⚠️ Lost updates or anomalies detected");
+    }
+}
@@ -0,0 +1,30 @@
+package com.selimhorri.app.e2e.contention;
+
+import java.util.List;
+
+/**
+ * Updates that ContentionEngine fires in parallel at a single hot entity, and the check of the
+ * entity's final state against the recorded history
+ * Implementations must be thread-safe: update() is called from every worker at once.
+ */
+public interface ContentionWorkload {
+
+    String getName();
+
+    /**
+     * Called once before the workers start, e.g. to read the entity's initial state
+     */
+    void prepare();
+
+    /**
+     * Send one update, calling operation.setValue() before writing
+     * @return HTTP status of the write; an exception counts as no response
+     */
+    int update(Operation operation);
+
+    /**
+     * Read the final state of the entity once every worker has stopped and check it
+     * @param history Every operation, in invocation order
+     */
+    HistoryCheck check(List<Operation> history);
+}
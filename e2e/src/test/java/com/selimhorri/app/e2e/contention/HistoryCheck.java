@@ -0,0 +1,126 @@
+package com.selimhorri.app.e2e.contention;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Verdict on the final state of a hot entity given the history of updates sent to it
+ * A lost update is an acknowledged write whose effect is missing from the final state; other
+ * anomalies (torn or phantom values, stale reads) are listed as messages.
+ */
+public class HistoryCheck {
+
+    private final String finalValue;
+    private final long lostUpdates;
+    private final long staleReads;
+    private final List<String> anomalies;
+
+    private HistoryCheck(String finalValue, long lostUpdates, long staleReads, List<String> anomalies) {
+        this.finalValue = finalValue;
+        this.lostUpdates = lostUpdates;
+        this.staleReads = staleReads;
+        this.anomalies = List.copyOf(anomalies);
+    }
+
+    /**
+     * Check blind writes of unique values, where the last writer should win
+     * The write that produced the final value must have been the last one applied, so every
+     * acknowledged write invoked after it completed was lost. A final value nobody wrote is a
+     * phantom, and fields of one write ending up with values of different writes are torn.
+     * @param finalFields Values of every field each write sets, read back after the run
+     */
+    public static HistoryCheck lastWriterWins(List<Operation> history, List<String> finalFields) {
+        List<String> anomalies = new ArrayList<>();
+        String finalValue = finalFields.isEmpty() ? null : finalFields.get(0);
+        if (new HashSet<>(finalFields).size() > 1) {
+            anomalies.add("Torn write: fields hold values of different writes " + finalFields);
+        }
+
+        Operation winner = null;
+        for (Operation operation : history) {
+            if (finalValue != null && finalValue.equals(operation.getValue())) {
+                winner = operation;
+            }
+        }
+        if (winner != null && !winner.isAcknowledged() && !winner.isIndeterminate()) {
+            anomalies.add("Final value " + finalValue + " comes from a rejected write " + winner);
+        }
+        boolean anyWrite = history.stream().anyMatch(o -> o.isAcknowledged() || o.isIndeterminate());
+        if (winner == null && anyWrite) {
+            anomalies.add("Final value " + finalValue + " was not written by any update");
+        }
+
+        long lost = 0;
+        for (Operation operation : history) {
+            if (operation.isAcknowledged() && operation != winner
+                    && (winner == null || operation.getInvokeNanos() > winner.getCompleteNanos())) {
+                lost++;
+            }
+        }
+        return new HistoryCheck(finalValue, lost, 0, anomalies);
+    }
+
+    /**
+     * Check read-modify-write increments of a counter
+     * Every acknowledged increment should have moved the counter by one, so the shortfall is the
+     * number of lost updates; acknowledged writes of a value another one already wrote read a
+     * stale counter.
+     */
+    public static HistoryCheck increments(List<Operation> history, long initial, long last) {
+        List<String> anomalies = new ArrayList<>();
+        long acknowledged = 0;
+        long indeterminate = 0;
+        Set<String> written = new HashSet<>();
+        long staleReads = 0;
+        for (Operation operation : history) {
+            if (operation.isAcknowledged()) {
+                acknowledged++;
+                if (!written.add(operation.getValue())) {
+                    staleReads++;
+                }
+            } else if (operation.isIndeterminate()) {
+                indeterminate++;
+            }
+        }
+        long applied = last - initial;
+        if (applied < 0 || applied > acknowledged + indeterminate) {
+            anomalies.add(String.format("Counter moved by %d with %d acknowledged and %d unknown increments",
+                    applied, acknowledged, indeterminate));
+        }
+        return new HistoryCheck(Long.toString(last), Math.max(0, acknowledged - applied), staleReads, anomalies);
+    }
+
+    public String getFinalValue() {
+        return finalValue;
+    }
+
+    public long getLostUpdates() {
+        return lostUpdates;
+    }
+
+    /**
+     * @return Acknowledged read-modify-writes based on a value another write had already replaced
+     */
+    public long getStaleReads() {
+        return staleReads;
+    }
+
+    public List<String> getAnomalies() {
+        return anomalies;
+    }
+
+    /**
+     * @return True if no update was lost and the final state is consistent
+     */
+    public boolean isValid() {
+        return lostUpdates == 0 && anomalies.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("final=%s, lost=%d, stale=%d%s", finalValue, lostUpdates, staleReads,
+                anomalies.isEmpty() ? "" : ", anomalies=" + anomalies);
+    }
+}
@@ -0,0 +1,78 @@
+package com.selimhorri.app.e2e.contention;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.selimhorri.app.e2e.util.JsonCodecs;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+/**
+ * Read-modify-write increments of one product's quantity: every update GETs the product and
+ * PUTs it back with quantity + 1, the way a stock adjustment without optimistic locking works
+ * Two updates reading the same quantity both write the same value, so one increment is lost
+ * unless the service rejects the second write (409/412) or serializes them.
+ */
+public class HotProductStockWorkload implements ContentionWorkload {
+
+    private final TestRestTemplate restTemplate;
+    private final String baseUrl;
+    private final HttpHeaders headers;
+    private final int productId;
+    private final ObjectMapper objectMapper = JsonCodecs.mapper();
+    private volatile long initialQuantity;
+
+    /**
+     * @param headers Authorization and JSON content type headers
+     */
+    public HotProductStockWorkload(TestRestTemplate restTemplate, String baseUrl, HttpHeaders headers, int productId) {
+        this.restTemplate = restTemplate;
+        this.baseUrl = baseUrl;
+        this.headers = headers;
+        this.productId = productId;
+    }
+
+    @Override
+    public String getName() {
+        return "product " + productId + " quantity (read-modify-write)";
+    }
+
+    @Override
+    public void prepare() {
+        initialQuantity = read().path("quantity").asLong();
+    }
+
+    @Override
+    public int update(Operation operation) {
+        ObjectNode product = read();
+        long quantity = product.path("quantity").asLong() + 1;
+        product.put("quantity", quantity);
+        operation.setValue(Long.toString(quantity));
+        ResponseEntity<String> response = restTemplate.exchange(baseUrl + "/product-service/api/products",
+                HttpMethod.PUT, new HttpEntity<>(product.toString(), headers), String.class);
+        return response.getStatusCodeValue();
+    }
+
+    @Override
+    public HistoryCheck check(List<Operation> history) {
+        return HistoryCheck.increments(history, initialQuantity, read().path("quantity").asLong());
+    }
+
+    private ObjectNode read() {
+        ResponseEntity<String> response = restTemplate.exchange(baseUrl + "/product-service/api/products/" + productId,
+                HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            throw new IllegalStateException("GET product " + productId + " returned " + response.getStatusCodeValue());
+        }
+        try {
+            return (ObjectNode) objectMapper.readTree(response.getBody());
+        } catch (JsonProcessingException | ClassCastException e) {
+            throw new IllegalStateException("Unreadable product " + productId + ": " + response.getBody(), e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.selimhorri.app.e2e.contention;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.e2e.util.JsonCodecs;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Blind writes to one user: every update PUTs the user with firstName and lastName both set to
+ * a tag unique to the update (w{worker}-{sequence}), without reading it first
+ * The user service keeps the last write, so the final user must carry the tag of the last
+ * applied write in both fields.
+ */
+public class HotUserWorkload implements ContentionWorkload {
+
+    private final TestRestTemplate restTemplate;
+    private final String baseUrl;
+    private final HttpHeaders headers;
+    private final Map<String, Object> user;
+    private final int userId;
+    private final ObjectMapper objectMapper = JsonCodecs.mapper();
+
+    /**
+     * @param headers Authorization and JSON content type headers
+     * @param user Update payload with userId set; firstName and lastName are overwritten
+     */
+    public HotUserWorkload(TestRestTemplate restTemplate, String baseUrl, HttpHeaders headers, Map<String, Object> user) {
+        this.restTemplate = restTemplate;
+        this.baseUrl = baseUrl;
+        this.headers = headers;
+        this.user = new HashMap<>(user);
+        this.userId = ((Number) user.get("userId")).intValue();
+    }
+
+    @Override
+    public String getName() {
+        return "user " + userId + " (blind writes)";
+    }
+
+    @Override
+    public void prepare() {
+        // Blind writes do not depend on the initial state
+    }
+
+    @Override
+    public int update(Operation operation) {
+        String tag = "w" + operation.getWorker() + "-" + operation.getSequence();
+        Map<String, Object> body = new HashMap<>(user);
+        body.put("firstName", tag);
+        body.put("lastName", tag);
+        operation.setValue(tag);
+        ResponseEntity<String> response = restTemplate.exchange(baseUrl + "/user-service/api/users",
+                HttpMethod.PUT, new HttpEntity<>(toJson(body), headers), String.class);
+        return response.getStatusCodeValue();
+    }
+
+    @Override
+    public HistoryCheck check(List<Operation> history) {
+        ResponseEntity<String> response = restTemplate.exchange(baseUrl + "/user-service/api/users/" + userId,
+                HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        JsonNode last = readTree(response.getBody());
+        return HistoryCheck.lastWriterWins(history,
+                Arrays.asList(last.path("firstName").asText(null), last.path("lastName").asText(null)));
+    }
+
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize user update", e);
+        }
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable user " + userId + ": " + json, e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.selimhorri.app.e2e.contention;
+
+/**
+ * One update in a contention history: who sent it, when it was invoked and when its response
+ * came back (System.nanoTime), the HTTP status and the value it wrote
+ * Status -1 means no response, so the write may or may not have been applied.
+ */
+public class Operation {
+
+    private final int worker;
+    private final long sequence;
+    private long invokeNanos;
+    private long completeNanos;
+    private int status;
+    private String value;
+
+    Operation(int worker, long sequence) {
+        this.worker = worker;
+        this.sequence = sequence;
+    }
+
+    public int getWorker() {
+        return worker;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getInvokeNanos() {
+        return invokeNanos;
+    }
+
+    public long getCompleteNanos() {
+        return completeNanos;
+    }
+
+    public long getLatencyNanos() {
+        return completeNanos - invokeNanos;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * @return Value the update wrote, or null if it failed before choosing one
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Set by the workload as soon as it knows what it is about to write
+     */
+    void setValue(String value) {
+        this.value = value;
+    }
+
+    /**
+     * @return True if the server confirmed the write
+     */
+    public boolean isAcknowledged() {
+        return status >= 200 && status < 300;
+    }
+
+    /**
+     * @return True if the server rejected the write because of a concurrent one
+     */
+    public boolean isConflict() {
+        return status == 409 || status == 412;
+    }
+
+    /**
+     * @return True if the write may have been applied without being acknowledged
+     */
+    public boolean isIndeterminate() {
+        return status == -1 || status >= 500;
+    }
+
+    void invoked(long nanos) {
+        this.invokeNanos = nanos;
+    }
+
+    void completed(long nanos, int status) {
+        this.completeNanos = nanos;
+        this.status = status;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("w%d#%d %s -> %d", worker, sequence, value, status);
+    }
+}
@@ -0,0 +1,55 @@
+package com.selimhorri.app.e2e.corpus;
+
+/**
+ * Binary layout shared by CorpusGenerator and TestDataCorpus
+ * Header (64 bytes, big-endian): magic "E2EC", version, record size, record count (long), seed (long).
+ * Records follow at fixed 256-byte strides so record i lives at HEADER_BYTES + i * RECORD_BYTES.
+ * Strings are ISO-8859-1 in fixed slots whose first byte holds the length; numbers are plain ints.
+ */
+final class CorpusFormat {
+
+    static final int MAGIC = 0x45324543; // "E2EC"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 64;
+    static final int RECORD_BYTES = 256;
+
+    // String slots: offset within the record and capacity including the length byte
+    static final int FIRST_NAME = 0;
+    static final int FIRST_NAME_SLOT = 16;
+    static final int LAST_NAME = FIRST_NAME + FIRST_NAME_SLOT;
+    static final int LAST_NAME_SLOT = 16;
+    static final int EMAIL = LAST_NAME + LAST_NAME_SLOT;
+    static final int EMAIL_SLOT = 40;
+    static final int PHONE = EMAIL + EMAIL_SLOT;
+    static final int PHONE_SLOT = 16;
+    static final int USERNAME = PHONE + PHONE_SLOT;
+    static final int USERNAME_SLOT = 24;
+    static final int PASSWORD = USERNAME + USERNAME_SLOT;
+    static final int PASSWORD_SLOT = 24;
+    static final int PRODUCT_TITLE = PASSWORD + PASSWORD_SLOT;
+    static final int PRODUCT_TITLE_SLOT = 32;
+    static final int SKU = PRODUCT_TITLE + PRODUCT_TITLE_SLOT;
+    static final int SKU_SLOT = 24;
+    static final int ORDER_DESC = SKU + SKU_SLOT;
+    static final int ORDER_DESC_SLOT = 40;
+
+    // Numeric fields after the string slots
+    static final int PRICE_CENTS = ORDER_DESC + ORDER_DESC_SLOT;
+    static final int QUANTITY = PRICE_CENTS + Integer.BYTES;
+    static final int CATEGORY_ID = QUANTITY + Integer.BYTES;
+    static final int ORDER_FEE_CENTS = CATEGORY_ID + Integer.BYTES;
+
+    /**
+     * Records per mapped segment: a MappedByteBuffer is limited to 2 GB
+     */
+    static final int RECORDS_PER_SEGMENT = Integer.MAX_VALUE / RECORD_BYTES;
+
+    static {
+        if (ORDER_FEE_CENTS + Integer.BYTES > RECORD_BYTES) {
+            throw new AssertionError("Corpus record layout exceeds " + RECORD_BYTES + " bytes");
+        }
+    }
+
+    private CorpusFormat() {
+    }
+}
@@ -0,0 +1,143 @@
+package com.selimhorri.app.e2e.corpus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+
+import static com.selimhorri.app.e2e.corpus.CorpusFormat.*;
+
+/**
+ * Writes a deterministic corpus of user, credential, product and order records
+ * The same seed and count always produce the same file. Every record carries a token
+ * derived from its index, so usernames, emails and SKUs are unique within the corpus.
+ * Usage: mvn -Pcorpus test-compile exec:java -Dcorpus.records=1000000 -Dcorpus.seed=42
+ *            -Dcorpus.file=target/corpus/testdata.bin
+ */
+public final class CorpusGenerator {
+
+    private static final String[] FIRST_NAMES = {
+            "Ana", "Bruno", "Carla", "Diego", "Elena", "Felipe", "Gloria", "Hector", "Irene", "Javier",
+            "Karen", "Luis", "Maria", "Nicolas", "Olga", "Pablo", "Rosa", "Sergio", "Tania", "Victor"};
+    private static final String[] LAST_NAMES = {
+            "Garcia", "Rodriguez", "Martinez", "Lopez", "Gonzalez", "Perez", "Sanchez", "Ramirez",
+            "Torres", "Flores", "Rivera", "Gomez", "Diaz", "Reyes", "Morales", "Ortiz"};
+    private static final String[] ADJECTIVES = {
+            "Compact", "Deluxe", "Eco", "Pro", "Ultra", "Smart", "Classic", "Sport", "Mini", "Max"};
+    private static final String[] NOUNS = {
+            "Laptop", "Phone", "Monitor", "Keyboard", "Mouse", "Headset", "Camera", "Speaker",
+            "Tablet", "Charger", "Router", "Watch"};
+    private static final char[] BASE36 = "0123456789abcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final int BATCH_RECORDS = 4096;
+
+    private CorpusGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        long records = Long.getLong("corpus.records", 1_000_000L);
+        long seed = Long.getLong("corpus.seed", 42L);
+        Path file = Paths.get(System.getProperty("corpus.file", "target/corpus/testdata.bin"));
+
+        long startNanos = System.nanoTime();
+        generate(file, records, seed);
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        System.out.println(String.format("🗃️ Wrote %d records (%d MB) to %s in %.1fs",
+                records, Files.size(file) >> 20, file, seconds));
+    }
+
+    /**
+     * Write count records generated from seed, replacing any existing file
+     */
+    public static void generate(Path file, long count, long seed) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putInt(VERSION).putInt(RECORD_BYTES).putLong(count).putLong(seed);
+            header.clear();
+            writeFully(channel, header);
+
+            SplittableRandom random = new SplittableRandom(seed);
+            ByteBuffer batch = ByteBuffer.allocateDirect(BATCH_RECORDS * RECORD_BYTES);
+            for (long index = 0; index < count; index++) {
+                writeRecord(batch, batch.position(), index, random);
+                batch.position(batch.position() + RECORD_BYTES);
+                if (!batch.hasRemaining()) {
+                    batch.flip();
+                    writeFully(channel, batch);
+                    batch.clear();
+                }
+            }
+            batch.flip();
+            writeFully(channel, batch);
+        }
+    }
+
+    private static void writeRecord(ByteBuffer out, int base, long index, SplittableRandom random) {
+        String token = token(index);
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        String adjective = ADJECTIVES[random.nextInt(ADJECTIVES.length)];
+        String noun = NOUNS[random.nextInt(NOUNS.length)];
+
+        putString(out, base + FIRST_NAME, FIRST_NAME_SLOT, firstName);
+        putString(out, base + LAST_NAME, LAST_NAME_SLOT, lastName);
+        putString(out, base + EMAIL, EMAIL_SLOT, firstName.toLowerCase() + "." + token + "@corpus.test");
+        putString(out, base + PHONE, PHONE_SLOT, phone(random.nextInt(10_000_000)));
+        putString(out, base + USERNAME, USERNAME_SLOT, "c" + token);
+        putString(out, base + PASSWORD, PASSWORD_SLOT, "Corpus" + token + "!");
+        putString(out, base + PRODUCT_TITLE, PRODUCT_TITLE_SLOT, adjective + " " + noun + " " + token);
+        putString(out, base + SKU, SKU_SLOT, "CORPUS" + token.toUpperCase());
+        putString(out, base + ORDER_DESC, ORDER_DESC_SLOT, "Corpus order " + token);
+        out.putInt(base + PRICE_CENTS, 1_000 + random.nextInt(99_000));
+        out.putInt(base + QUANTITY, 10 + random.nextInt(90));
+        out.putInt(base + CATEGORY_ID, 1 + random.nextInt(3));
+        out.putInt(base + ORDER_FEE_CENTS, 500 + random.nextInt(9_500));
+    }
+
+    /**
+     * Eight base-36 characters unique per index (36^8 > 2.8 trillion records)
+     */
+    private static String token(long index) {
+        char[] chars = new char[8];
+        long value = index;
+        for (int i = chars.length - 1; i >= 0; i--) {
+            chars[i] = BASE36[(int) (value % 36)];
+            value /= 36;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * "+1555" followed by seven zero-padded digits, without going through String.format
+     */
+    private static String phone(int number) {
+        char[] chars = {'+', '1', '5', '5', '5', '0', '0', '0', '0', '0', '0', '0'};
+        for (int i = chars.length - 1, value = number; value > 0; i--, value /= 10) {
+            chars[i] = (char) ('0' + value % 10);
+        }
+        return new String(chars);
+    }
+
+    private static void putString(ByteBuffer out, int offset, int slot, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.ISO_8859_1);
+        if (bytes.length >= slot) {
+            throw new IllegalArgumentException("'" + value + "' does not fit a " + slot + "-byte slot");
+        }
+        out.put(offset, (byte) bytes.length);
+        out.put(offset + 1, bytes);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
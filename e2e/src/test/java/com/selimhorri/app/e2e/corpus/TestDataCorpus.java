@@ -0,0 +1,254 @@
+package com.selimhorri.app.e2e.corpus;
+
+import com.selimhorri.app.e2e.model.CartDto;
+import com.selimhorri.app.e2e.model.CategoryDto;
+import com.selimhorri.app.e2e.model.CredentialDto;
+import com.selimhorri.app.e2e.model.OrderDto;
+import com.selimhorri.app.e2e.model.ProductDto;
+import com.selimhorri.app.e2e.model.UserDto;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.selimhorri.app.e2e.corpus.CorpusFormat.*;
+
+/**
+ * Read-only, memory-mapped view of a corpus written by CorpusGenerator
+ * Fields are read with absolute gets at fixed offsets, so records are never parsed and
+ * any number of threads can read concurrently. Workers take records in order through
+ * next(); the suite-wide instance is opened from -De2e.corpus=[file] and starts at
+ * -De2e.corpus.offset (default 0). Give each run against a persistent backend its own
+ * offset or seed, since a record's username and email can only be registered once.
+ */
+public final class TestDataCorpus {
+
+    private static final String USER_IMAGE_URL = "https://example.com/corpus-user.jpg";
+    private static final String PRODUCT_IMAGE_URL = "https://example.com/corpus-product.jpg";
+
+    private final Path file;
+    private final MappedByteBuffer[] segments;
+    private final long size;
+    private final long seed;
+    private final AtomicLong cursor;
+
+    private TestDataCorpus(Path file, MappedByteBuffer[] segments, long size, long seed, long offset) {
+        this.file = file;
+        this.segments = segments;
+        this.size = size;
+        this.seed = seed;
+        this.cursor = new AtomicLong(offset);
+    }
+
+    /**
+     * Map a corpus file
+     * @param offset Index of the first record returned by next()
+     * @throws IllegalArgumentException When the corpus holds no records
+     */
+    public static TestDataCorpus open(Path file, long offset) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    throw new IOException("Truncated corpus header: " + file);
+                }
+            }
+            header.flip();
+            if (header.getInt() != MAGIC || header.getInt() != VERSION || header.getInt() != RECORD_BYTES) {
+                throw new IOException("Not a corpus file: " + file);
+            }
+            long size = header.getLong();
+            long seed = header.getLong();
+            if (size <= 0) {
+                throw new IllegalArgumentException("Corpus has no records: " + file);
+            }
+            if (channel.size() < HEADER_BYTES + size * RECORD_BYTES) {
+                throw new IOException("Truncated corpus: " + file);
+            }
+
+            // The mappings stay valid after the channel is closed
+            int segmentCount = (int) ((size + RECORDS_PER_SEGMENT - 1) / RECORDS_PER_SEGMENT);
+            MappedByteBuffer[] segments = new MappedByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                long first = (long) i * RECORDS_PER_SEGMENT;
+                long records = Math.min(RECORDS_PER_SEGMENT, size - first);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + first * RECORD_BYTES,
+                        records * RECORD_BYTES);
+            }
+            return new TestDataCorpus(file, segments, size, seed, Math.floorMod(offset, size));
+        }
+    }
+
+    /**
+     * @return Whether -De2e.corpus points at a corpus file
+     */
+    public static boolean isConfigured() {
+        return System.getProperty("e2e.corpus") != null;
+    }
+
+    /**
+     * @return Suite-wide corpus opened from -De2e.corpus on first use
+     */
+    public static TestDataCorpus shared() {
+        if (!isConfigured()) {
+            throw new IllegalStateException("No corpus configured - generate one with -Pcorpus and pass -De2e.corpus=[file]");
+        }
+        return SharedHolder.CORPUS;
+    }
+
+    /**
+     * @return Index of the next unused record, wrapping around at the end of the corpus
+     */
+    public long next() {
+        return Math.floorMod(cursor.getAndIncrement(), size);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public String firstName(long index) {
+        return string(index, FIRST_NAME);
+    }
+
+    public String lastName(long index) {
+        return string(index, LAST_NAME);
+    }
+
+    public String email(long index) {
+        return string(index, EMAIL);
+    }
+
+    public String phone(long index) {
+        return string(index, PHONE);
+    }
+
+    public String username(long index) {
+        return string(index, USERNAME);
+    }
+
+    public String password(long index) {
+        return string(index, PASSWORD);
+    }
+
+    public String productTitle(long index) {
+        return string(index, PRODUCT_TITLE);
+    }
+
+    public String sku(long index) {
+        return string(index, SKU);
+    }
+
+    public String orderDesc(long index) {
+        return string(index, ORDER_DESC);
+    }
+
+    public int priceCents(long index) {
+        return segment(index).getInt(offset(index) + PRICE_CENTS);
+    }
+
+    public int quantity(long index) {
+        return segment(index).getInt(offset(index) + QUANTITY);
+    }
+
+    public int categoryId(long index) {
+        return segment(index).getInt(offset(index) + CATEGORY_ID);
+    }
+
+    public int orderFeeCents(long index) {
+        return segment(index).getInt(offset(index) + ORDER_FEE_CENTS);
+    }
+
+    /**
+     * @return User creation request for the record
+     */
+    public UserDto user(long index) {
+        UserDto user = new UserDto();
+        user.setFirstName(firstName(index));
+        user.setLastName(lastName(index));
+        user.setImageUrl(USER_IMAGE_URL);
+        user.setEmail(email(index));
+        user.setPhone(phone(index));
+        user.setCredential(new CredentialDto(username(index), password(index), "ROLE_USER"));
+        return user;
+    }
+
+    /**
+     * @return Product creation request for the record
+     */
+    public ProductDto product(long index) {
+        ProductDto product = new ProductDto();
+        product.setProductTitle(productTitle(index));
+        product.setImageUrl(PRODUCT_IMAGE_URL);
+        product.setSku(sku(index));
+        product.setPriceUnit(priceCents(index) / 100.0);
+        product.setQuantity(quantity(index));
+        product.setCategory(new CategoryDto(categoryId(index)));
+        return product;
+    }
+
+    /**
+     * @param cartId Existing cart the order is placed for
+     * @param orderDate Date in the order service's "dd-MM-yyyy__HH:mm:ss:SSSSSS" format
+     * @return Order creation request for the record
+     */
+    public OrderDto order(long index, Integer cartId, String orderDate) {
+        OrderDto order = new OrderDto();
+        order.setOrderDate(orderDate);
+        order.setOrderDesc(orderDesc(index));
+        order.setOrderFee(orderFeeCents(index) / 100.0);
+        order.setCart(CartDto.withId(cartId));
+        return order;
+    }
+
+    private String string(long index, int field) {
+        MappedByteBuffer segment = segment(index);
+        int position = offset(index) + field;
+        int length = segment.get(position) & 0xFF;
+        byte[] bytes = new byte[length];
+        segment.get(position + 1, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    private MappedByteBuffer segment(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Record " + index + " outside corpus of " + size);
+        }
+        return segments[(int) (index / RECORDS_PER_SEGMENT)];
+    }
+
+    private static int offset(long index) {
+        return (int) (index % RECORDS_PER_SEGMENT) * RECORD_BYTES;
+    }
+
+    private static final class SharedHolder {
+
+        private static final TestDataCorpus CORPUS = openShared();
+
+        private static TestDataCorpus openShared() {
+            Path file = Paths.get(System.getProperty("e2e.corpus"));
+            try {
+                TestDataCorpus corpus = open(file, Long.getLong("e2e.corpus.offset", 0L));
+                System.out.println("🗃️ Test data corpus " + file + ": " + corpus.size() + " records, seed " + corpus.getSeed());
+                return corpus;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to open test data corpus " + file, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.selimhorri.app.e2e.distributed;
+
+import com.selimhorri.app.e2e.load.EndpointSummary;
+import com.selimhorri.app.e2e.load.LoadProfile;
+import com.selimhorri.app.e2e.load.LoadResult;
+import com.selimhorri.app.e2e.util.E2EEnvironment;
+import com.selimhorri.app.e2e.util.JsonCodecs;
+import com.selimhorri.app.e2e.util.UniqueIds;
+import org.HdrHistogram.Histogram;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+
+/**
+ * Coordinator of a distributed load run over plain TCP
+ * Waits for the expected number of LoadWorker connections, gives each an equal share of the
+ * profile with a common start delay and a distinct UniqueIds run id, then merges the interval
+ * reports they stream back.
+ * Latency histograms are added together per endpoint, so the combined percentiles are those
+ * of every request of every worker, not an average of per-worker percentiles.
+ * Messages are one JSON document per line: WorkerReport from workers, WorkPlan to them.
+ * Usage: mvn -Pload-coordinator test-compile exec:java -Dcoordinator.workers=4 \
+ *            -Dload.profile=spike -Dload.mode=rate -Dload.scenario=shopping [-Dcoordinator.port=7400]
+ */
+public class LoadCoordinator implements AutoCloseable {
+
+    public static final int DEFAULT_PORT = 7400;
+
+    private final ServerSocket server;
+    private final Map<String, MergedEndpoint> endpoints = new TreeMap<>();
+    private final LongAdder iterations = new LongAdder();
+    private final LongAdder failedIterations = new LongAdder();
+    private final LongAdder peakSessions = new LongAdder();
+    private final AtomicLong elapsedMillis = new AtomicLong();
+
+    /**
+     * @param port Port to listen on, on every interface; 0 picks a free one
+     */
+    public LoadCoordinator(int port) throws IOException {
+        this.server = new ServerSocket();
+        server.setReuseAddress(true);
+        server.bind(new InetSocketAddress(port));
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String baseUrl = E2EEnvironment.isStubMode()
+                ? E2EEnvironment.gatewayUrl()
+                : System.getProperty("api.gateway.url", "http://localhost:8100");
+        int workers = Integer.getInteger("coordinator.workers", 2);
+        LoadProfile.Mode mode = "rate".equals(System.getProperty("load.mode", "sessions"))
+                ? LoadProfile.Mode.ARRIVAL_RATE
+                : LoadProfile.Mode.CONCURRENCY;
+        WorkPlan plan = new WorkPlan(System.getProperty("load.scenario", "shopping"),
+                System.getProperty("load.profile", "load"), mode, baseUrl);
+
+        try (LoadCoordinator coordinator = new LoadCoordinator(Integer.getInteger("coordinator.port", DEFAULT_PORT))) {
+            System.out.println("📡 Coordinator listening on " + InetAddress.getLocalHost().getHostAddress() + ":"
+                    + coordinator.getPort() + ", waiting for " + workers + " workers");
+            LoadResult result = coordinator.run(plan, workers, Duration.ofMinutes(5));
+            result.print(System.out);
+        }
+    }
+
+    public int getPort() {
+        return server.getLocalPort();
+    }
+
+    /**
+     * Accept workers, start them together and collect their reports until every worker is done
+     * or disconnected
+     * @param acceptTimeout Longest wait for all workers to connect
+     * @return Merged result; peak sessions is the sum of the workers' peaks
+     */
+    public LoadResult run(WorkPlan plan, int workers, Duration acceptTimeout) throws IOException, InterruptedException {
+        List<Socket> sockets = new ArrayList<>();
+        List<BufferedReader> readers = new ArrayList<>();
+        List<String> workerIds = new ArrayList<>();
+        long deadline = System.nanoTime() + acceptTimeout.toNanos();
+        try {
+            while (sockets.size() < workers) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    throw new SocketTimeoutException("Only " + sockets.size() + " of " + workers + " workers connected");
+                }
+                server.setSoTimeout((int) Math.min(Integer.MAX_VALUE, remaining));
+                Socket socket = server.accept();
+                socket.setTcpNoDelay(true);
+                sockets.add(socket);
+                BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                WorkerReport hello = read(reader);
+                if (hello == null || hello.getType() != WorkerReport.Type.HELLO) {
+                    throw new IOException("Expected HELLO from " + socket.getRemoteSocketAddress());
+                }
+                readers.add(reader);
+                workerIds.add(hello.getWorkerId());
+                System.out.println("🔌 Worker " + hello.getWorkerId() + " connected from " + socket.getRemoteSocketAddress());
+            }
+
+            // Every plan goes out before any worker can start, so the start delay only has to cover delivery
+            long startDelay = Long.getLong("coordinator.startDelayMs", 2_000L);
+            // Workers launched together would likely share the default run id's millisecond, so each gets its own
+            long runMillis = System.currentTimeMillis();
+            for (int i = 0; i < workers; i++) {
+                WorkPlan workerPlan = plan.forWorker(i, workers, startDelay, UniqueIds.runId(runMillis, i));
+                Writer out = new OutputStreamWriter(sockets.get(i).getOutputStream(), StandardCharsets.UTF_8);
+                out.write(JsonCodecs.writerFor(WorkPlan.class).writeValueAsString(workerPlan));
+                out.write('\n');
+                out.flush();
+            }
+
+            CountDownLatch done = new CountDownLatch(workers);
+            for (int i = 0; i < workers; i++) {
+                BufferedReader reader = readers.get(i);
+                String workerId = workerIds.get(i);
+                Thread thread = new Thread(() -> {
+                    try {
+                        collect(reader, workerId);
+                    } finally {
+                        done.countDown();
+                    }
+                }, "coordinator-" + workerId);
+                thread.setDaemon(true);
+                thread.start();
+            }
+            done.await();
+        } finally {
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+        }
+        return result(plan.getScenario() + " x" + workers + " workers");
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+    }
+
+    private void collect(BufferedReader reader, String workerId) {
+        try {
+            WorkerReport report;
+            while ((report = read(reader)) != null) {
+                merge(report);
+                if (report.getType() == WorkerReport.Type.DONE) {
+                    peakSessions.add(report.getSessions());
+                    System.out.println("🏁 Worker " + workerId + " done after " + report.getElapsedMillis() + "ms");
+                    return;
+                }
+            }
+            System.out.println("⚠️ Worker " + workerId + " disconnected before finishing; its last interval is lost");
+        } catch (IOException | DataFormatException e) {
+            System.out.println("⚠️ Reports from worker " + workerId + " failed: " + e.getMessage());
+        }
+    }
+
+    private void merge(WorkerReport report) throws DataFormatException {
+        iterations.add(report.getIterations());
+        failedIterations.add(report.getFailedIterations());
+        elapsedMillis.accumulateAndGet(report.getElapsedMillis(), Math::max);
+        for (WorkerReport.EndpointDelta delta : report.getEndpoints()) {
+            Histogram micros = delta.decodeHistogram();
+            MergedEndpoint endpoint;
+            synchronized (endpoints) {
+                endpoint = endpoints.computeIfAbsent(delta.getMethod() + " " + delta.getName(),
+                        key -> new MergedEndpoint(delta.getMethod(), delta.getName()));
+            }
+            endpoint.add(delta.getRequests(), delta.getFailures(), micros);
+        }
+    }
+
+    private LoadResult result(String name) {
+        Duration elapsed = Duration.ofMillis(elapsedMillis.get());
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        List<EndpointSummary> summaries = new ArrayList<>();
+        synchronized (endpoints) {
+            for (MergedEndpoint endpoint : endpoints.values()) {
+                summaries.add(endpoint.summary(seconds));
+            }
+        }
+        return new LoadResult(name, elapsed, (int) peakSessions.sum(), iterations.sum(), failedIterations.sum(), summaries);
+    }
+
+    private static WorkerReport read(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        return line == null ? null : JsonCodecs.readerFor(WorkerReport.class).readValue(line);
+    }
+
+    /**
+     * Counters and latencies of one endpoint across every worker
+     */
+    private static final class MergedEndpoint {
+
+        private final String method;
+        private final String name;
+        // Auto-resizing, so histograms from workers with any value range can be added
+        private final Histogram micros = new Histogram(3);
+        private long requests;
+        private long failures;
+
+        private MergedEndpoint(String method, String name) {
+            this.method = method;
+            this.name = name;
+        }
+
+        private synchronized void add(long requestDelta, long failureDelta, Histogram latencies) {
+            requests += requestDelta;
+            failures += failureDelta;
+            micros.add(latencies);
+        }
+
+        private synchronized EndpointSummary summary(double seconds) {
+            return EndpointSummary.of(method, name, requests, failures, micros, seconds);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.selimhorri.app.e2e.distributed;
+
+import com.selimhorri.app.e2e.load.EndpointStats;
+import com.selimhorri.app.e2e.load.LoadEngine;
+import com.selimhorri.app.e2e.load.LoadProfile;
+import com.selimhorri.app.e2e.load.LoadShapeResult;
+import com.selimhorri.app.e2e.load.LoadShapeScheduler;
+import com.selimhorri.app.e2e.load.Scenario;
+import com.selimhorri.app.e2e.load.ShoppingJourneyScenario;
+import com.selimhorri.app.e2e.load.UserRegistrationScenario;
+import com.selimhorri.app.e2e.util.JsonCodecs;
+import com.selimhorri.app.e2e.util.UniqueIds;
+import org.HdrHistogram.Histogram;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generator JVM of a distributed load run
+ * Connects to the LoadCoordinator, receives a WorkPlan, waits out the common start delay, runs
+ * its share of the profile through LoadShapeScheduler and streams a WorkerReport per interval:
+ * the requests, failures and latency histogram recorded since the previous report.
+ * Usage: mvn -Pload-worker test-compile exec:java -Dworker.coordinator=10.0.0.5:7400 \
+ *            [-Dapi.gateway.url=http://10.0.0.9:8100] [-Dload.ioThreads=8]
+ * The gateway URL defaults to the one in the plan, i.e. as seen by the coordinator, and so
+ * does the run id of the generated usernames, emails and SKUs (-De2e.runId).
+ */
+public class LoadWorker {
+
+    private final String workerId;
+    private final Map<String, Histogram> previousHistograms = new HashMap<>();
+    private final Map<String, long[]> previousCounters = new HashMap<>();
+    private long previousIterations;
+    private long previousFailures;
+
+    public LoadWorker(String workerId) {
+        this.workerId = workerId;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String[] address = System.getProperty("worker.coordinator", "localhost:" + LoadCoordinator.DEFAULT_PORT).split(":");
+        String workerId = System.getProperty("worker.id",
+                InetAddress.getLocalHost().getHostName() + "-" + ProcessHandle.current().pid());
+        new LoadWorker(workerId).run(address[0], Integer.parseInt(address[1]));
+    }
+
+    /**
+     * Scenario by the name used in plans: shopping (default) or registration
+     */
+    public static Scenario scenario(String name) {
+        return "registration".equals(name) ? new UserRegistrationScenario() : new ShoppingJourneyScenario();
+    }
+
+    /**
+     * Connect, run the plan received and report until done
+     */
+    public void run(String host, int port) throws IOException, InterruptedException {
+        try (Socket socket = new Socket(host, port);
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)) {
+            socket.setTcpNoDelay(true);
+            send(out, new WorkerReport(WorkerReport.Type.HELLO, workerId));
+
+            String line = in.readLine();
+            if (line == null) {
+                throw new IOException("Coordinator closed the connection before sending a plan");
+            }
+            WorkPlan plan = JsonCodecs.readerFor(WorkPlan.class).readValue(line);
+            useRunId(plan.getRunId());
+            long startNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(plan.getStartDelayMillis());
+            String baseUrl = System.getProperty("api.gateway.url", plan.getBaseUrl());
+            LoadProfile profile = LoadProfile.parse(plan.getProfile(), plan.getMode()).scaled(plan.getShare());
+            int ioThreads = Integer.getInteger("load.ioThreads", Runtime.getRuntime().availableProcessors());
+            System.out.println("🛠️ Worker " + workerId + " (" + (plan.getWorkerIndex() + 1) + "/" + plan.getWorkers()
+                    + "): " + plan.getScenario() + ", " + profile + " against " + baseUrl);
+
+            try (LoadEngine engine = new LoadEngine(baseUrl, scenario(plan.getScenario()), ioThreads, 1)) {
+                long waitNanos = startNanos - System.nanoTime();
+                if (waitNanos > 0) {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                }
+                long loadStartNanos = System.nanoTime();
+                ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "worker-report");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                reporter.scheduleAtFixedRate(() -> {
+                    try {
+                        send(out, report(WorkerReport.Type.PROGRESS, engine, loadStartNanos,
+                                engine.getActiveSessions() + engine.getArrivalsInFlight()));
+                    } catch (IOException e) {
+                        System.out.println("⚠️ Worker " + workerId + " lost the coordinator: " + e.getMessage());
+                        reporter.shutdown();
+                    }
+                }, plan.getReportIntervalMillis(), plan.getReportIntervalMillis(), TimeUnit.MILLISECONDS);
+
+                LoadShapeResult result;
+                try {
+                    result = new LoadShapeScheduler(engine).run(profile);
+                } finally {
+                    reporter.shutdown();
+                    reporter.awaitTermination(5, TimeUnit.SECONDS);
+                }
+                send(out, report(WorkerReport.Type.DONE, engine, loadStartNanos, result.getLoad().getPeakSessions()));
+                System.out.println("✅ Worker " + workerId + " done: " + result.getLoad().getIterations() + " iterations ("
+                        + result.getLoad().getFailedIterations() + " failed), behind target in "
+                        + result.getBehindSamples() + " samples");
+            }
+        }
+    }
+
+    /**
+     * Build this JVM's unique ids on the plan's run id, unless -De2e.runId sets one
+     * Only takes effect before the first id is generated, which is the case in a worker JVM.
+     */
+    private void useRunId(String runId) {
+        if (runId == null || System.getProperty(UniqueIds.RUN_ID_PROPERTY) != null) {
+            return;
+        }
+        System.setProperty(UniqueIds.RUN_ID_PROPERTY, runId);
+        if (!runId.equals(UniqueIds.runId())) {
+            System.out.println("⚠️ Worker " + workerId + " already generated ids on run id " + UniqueIds.runId()
+                    + ", not the plan's " + runId);
+        }
+    }
+
+    /**
+     * Everything recorded since the previous report; counters and histograms are differences of
+     * cumulative snapshots, so nothing is lost between reports and nothing is counted twice
+     */
+    private synchronized WorkerReport report(WorkerReport.Type type, LoadEngine engine, long loadStartNanos, int sessions) {
+        WorkerReport report = new WorkerReport(type, workerId);
+        report.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - loadStartNanos));
+        report.setSessions(sessions);
+        for (EndpointStats endpoint : engine.getStats().all()) {
+            Histogram cumulative = endpoint.snapshot();
+            long requests = endpoint.getRequests();
+            long failures = endpoint.getFailures();
+            Histogram interval = cumulative.copy();
+            Histogram previous = previousHistograms.put(endpoint.getKey(), cumulative);
+            if (previous != null) {
+                interval.subtract(previous);
+            }
+            long[] counters = previousCounters.getOrDefault(endpoint.getKey(), new long[2]);
+            previousCounters.put(endpoint.getKey(), new long[] {requests, failures});
+            if (requests > counters[0] || type == WorkerReport.Type.DONE) {
+                report.getEndpoints().add(new WorkerReport.EndpointDelta(endpoint.getMethod(), endpoint.getName(),
+                        requests - counters[0], failures - counters[1], interval));
+            }
+        }
+        long iterations = engine.getIterations();
+        long failedIterations = engine.getFailedIterations();
+        report.setIterations(iterations - previousIterations);
+        report.setFailedIterations(failedIterations - previousFailures);
+        previousIterations = iterations;
+        previousFailures = failedIterations;
+        return report;
+    }
+
+    private static void send(Writer out, WorkerReport report) throws IOException {
+        String line = JsonCodecs.writerFor(WorkerReport.class).writeValueAsString(report);
+        synchronized (out) {
+            out.write(line);
+            out.write('\n');
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.selimhorri.app.e2e.distributed;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.selimhorri.app.e2e.load.LoadProfile;
+
+/**
+ * What the coordinator asks one worker to run: the scenario, its share of the load profile,
+ * when to start and the run id its generated usernames, emails and SKUs are built on
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class WorkPlan {
+
+    private String scenario;
+    private String profile;
+    private LoadProfile.Mode mode;
+    private String baseUrl;
+    private double share = 1.0;
+    private int workerIndex;
+    private int workers = 1;
+    private long startDelayMillis;
+    private long reportIntervalMillis = 1_000;
+    private String runId;
+
+    public WorkPlan() {
+    }
+
+    /**
+     * @param scenario Scenario name, see LoadWorker.scenario()
+     * @param profile LoadProfile preset or shape, as accepted by LoadProfile.parse()
+     * @param baseUrl Gateway URL, used unless the worker sets -Dapi.gateway.url
+     */
+    public WorkPlan(String scenario, String profile, LoadProfile.Mode mode, String baseUrl) {
+        this.scenario = scenario;
+        this.profile = profile;
+        this.mode = mode;
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * @param runId UniqueIds run id of the worker, distinct from every other worker's
+     * @return Copy of this plan for one of workers equal shares
+     */
+    public WorkPlan forWorker(int index, int count, long startDelay, String runId) {
+        WorkPlan plan = new WorkPlan(scenario, profile, mode, baseUrl);
+        plan.setShare(1.0 / count);
+        plan.setWorkerIndex(index);
+        plan.setWorkers(count);
+        plan.setStartDelayMillis(startDelay);
+        plan.setReportIntervalMillis(reportIntervalMillis);
+        plan.setRunId(runId);
+        return plan;
+    }
+
+    public String getScenario() {
+        return scenario;
+    }
+
+    public void setScenario(String scenario) {
+        this.scenario = scenario;
+    }
+
+    public String getProfile() {
+        return profile;
+    }
+
+    public void setProfile(String profile) {
+        this.profile = profile;
+    }
+
+    public LoadProfile.Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(LoadProfile.Mode mode) {
+        this.mode = mode;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public void setBaseUrl(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * @return Fraction of every target of the profile this worker generates
+     */
+    public double getShare() {
+        return share;
+    }
+
+    public void setShare(double share) {
+        this.share = share;
+    }
+
+    public int getWorkerIndex() {
+        return workerIndex;
+    }
+
+    public void setWorkerIndex(int workerIndex) {
+        this.workerIndex = workerIndex;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    /**
+     * Relative rather than a wall-clock instant, so workers on hosts with skewed clocks still
+     * start together, within the spread of the plans' network delivery
+     * @return Wait between receiving the plan and starting, the same for every worker
+     */
+    public long getStartDelayMillis() {
+        return startDelayMillis;
+    }
+
+    public void setStartDelayMillis(long startDelayMillis) {
+        this.startDelayMillis = startDelayMillis;
+    }
+
+    public long getReportIntervalMillis() {
+        return reportIntervalMillis;
+    }
+
+    public void setReportIntervalMillis(long reportIntervalMillis) {
+        this.reportIntervalMillis = reportIntervalMillis;
+    }
+
+    /**
+     * @return Run id for UniqueIds, used unless the worker sets -De2e.runId
+     */
+    public String getRunId() {
+        return runId;
+    }
+
+    public void setRunId(String runId) {
+        this.runId = runId;
+    }
+}
@@ -0,0 +1,185 @@
+package com.selimhorri.app.e2e.distributed;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.selimhorri.app.e2e.load.HistogramCodec;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+
+/**
+ * Message from a worker to the coordinator
+ * Reports carry what happened since the previous report: request counters and the latency
+ * histogram of that interval per endpoint, so the coordinator merges by adding histograms
+ * and never needs to average percentiles.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class WorkerReport {
+
+    public enum Type {
+        /** First message of a connection */
+        HELLO,
+        /** Interval counters and histograms */
+        PROGRESS,
+        /** Last interval plus the worker's totals; the worker disconnects after it */
+        DONE
+    }
+
+    private Type type;
+    private String workerId;
+    private long elapsedMillis;
+    private long iterations;
+    private long failedIterations;
+    private int sessions;
+    private List<EndpointDelta> endpoints = new ArrayList<>();
+
+    public WorkerReport() {
+    }
+
+    public WorkerReport(Type type, String workerId) {
+        this.type = type;
+        this.workerId = workerId;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public String getWorkerId() {
+        return workerId;
+    }
+
+    public void setWorkerId(String workerId) {
+        this.workerId = workerId;
+    }
+
+    /**
+     * @return Time since the worker started the load
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * @return Iterations completed during the interval
+     */
+    public long getIterations() {
+        return iterations;
+    }
+
+    public void setIterations(long iterations) {
+        this.iterations = iterations;
+    }
+
+    public long getFailedIterations() {
+        return failedIterations;
+    }
+
+    public void setFailedIterations(long failedIterations) {
+        this.failedIterations = failedIterations;
+    }
+
+    /**
+     * @return Sessions in flight at the time of a PROGRESS report; the worker's peak in DONE
+     */
+    public int getSessions() {
+        return sessions;
+    }
+
+    public void setSessions(int sessions) {
+        this.sessions = sessions;
+    }
+
+    public List<EndpointDelta> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(List<EndpointDelta> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    /**
+     * One endpoint's requests, failures and latencies during an interval
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class EndpointDelta {
+
+        private String method;
+        private String name;
+        private long requests;
+        private long failures;
+        private String histogram;
+
+        public EndpointDelta() {
+        }
+
+        /**
+         * @param micros Latencies in microseconds, sent compressed and base64-encoded
+         */
+        public EndpointDelta(String method, String name, long requests, long failures, Histogram micros) {
+            this.method = method;
+            this.name = name;
+            this.requests = requests;
+            this.failures = failures;
+            this.histogram = HistogramCodec.encode(micros);
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public void setMethod(String method) {
+            this.method = method;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public long getRequests() {
+            return requests;
+        }
+
+        public void setRequests(long requests) {
+            this.requests = requests;
+        }
+
+        public long getFailures() {
+            return failures;
+        }
+
+        public void setFailures(long failures) {
+            this.failures = failures;
+        }
+
+        /**
+         * @return Compressed HdrHistogram encoding in base64
+         */
+        public String getHistogram() {
+            return histogram;
+        }
+
+        public void setHistogram(String histogram) {
+            this.histogram = histogram;
+        }
+
+        public Histogram decodeHistogram() throws DataFormatException {
+            return HistogramCodec.decode(histogram);
+        }
+    }
+}
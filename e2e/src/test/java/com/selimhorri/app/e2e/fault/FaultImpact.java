@@ -0,0 +1,51 @@
+package com.selimhorri.app.e2e.fault;
+
+import com.selimhorri.app.e2e.util.LatencyRecorder;
+
+/**
+ * Latency, error rate and throughput of a call under one FaultProfile, see FaultImpactReport
+ */
+public class FaultImpact {
+
+    private final String profile;
+    private final LatencyRecorder latencies;
+    private final long errors;
+    private final double seconds;
+
+    public FaultImpact(String profile, LatencyRecorder latencies, long errors, double seconds) {
+        this.profile = profile;
+        this.latencies = latencies;
+        this.errors = errors;
+        this.seconds = seconds;
+    }
+
+    public String getProfile() {
+        return profile;
+    }
+
+    /**
+     * @return Latencies of every call, failed ones included: a reset fails fast, a stall fails slow
+     */
+    public LatencyRecorder getLatencies() {
+        return latencies;
+    }
+
+    public long getRequests() {
+        return latencies.getCount();
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public double getErrorRate() {
+        return getRequests() == 0 ? 0.0 : (double) errors / getRequests();
+    }
+
+    /**
+     * @return Successful calls per second
+     */
+    public double getThroughput() {
+        return seconds > 0 ? (getRequests() - errors) / seconds : 0.0;
+    }
+}
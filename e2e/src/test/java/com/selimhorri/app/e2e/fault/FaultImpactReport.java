@@ -0,0 +1,89 @@
+package com.selimhorri.app.e2e.fault;
+
+import com.selimhorri.app.e2e.util.LatencyRecorder;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Runs the same call under a series of fault profiles and compares how it degrades
+ * Each profile is set on the proxy in turn and the call is repeated sequentially; any exception
+ * counts as an error, so calls should throw on responses they consider failed (RestTemplate
+ * does for 4xx/5xx). The first profile is usually FaultProfile.none() as the reference.
+ */
+public class FaultImpactReport {
+
+    private final List<FaultImpact> impacts;
+
+    public FaultImpactReport(List<FaultImpact> impacts) {
+        this.impacts = Collections.unmodifiableList(impacts);
+    }
+
+    /**
+     * @param proxy Proxy the call goes through; left on FaultProfile.none() afterwards
+     * @param iterations Calls per profile
+     */
+    public static FaultImpactReport measure(FaultProxy proxy, List<FaultProfile> profiles, int iterations,
+                                            Callable<?> call) {
+        List<FaultImpact> impacts = new ArrayList<>();
+        try {
+            for (FaultProfile profile : profiles) {
+                proxy.setProfile(profile);
+                LatencyRecorder latencies = new LatencyRecorder(profile.getName());
+                long errors = 0;
+                long started = System.nanoTime();
+                for (int i = 0; i < iterations; i++) {
+                    long start = System.nanoTime();
+                    try {
+                        call.call();
+                    } catch (Exception e) {
+                        errors++;
+                    }
+                    latencies.recordNanos(System.nanoTime() - start);
+                }
+                impacts.add(new FaultImpact(profile.getName(), latencies, errors,
+                        (System.nanoTime() - started) / 1_000_000_000.0));
+            }
+        } finally {
+            proxy.setProfile(FaultProfile.none());
+        }
+        return new FaultImpactReport(impacts);
+    }
+
+    public List<FaultImpact> getImpacts() {
+        return impacts;
+    }
+
+    public FaultImpact get(String profile) {
+        for (FaultImpact impact : impacts) {
+            if (impact.getProfile().equals(profile)) {
+                return impact;
+            }
+        }
+        throw new IllegalArgumentException("No measurement for fault profile " + profile);
+    }
+
+    public void print(PrintStream out) {
+        out.println("\n🌩️ FAULT IMPACT");
+        out.println("=====================================");
+        out.printf("%-40s %6s %8s %8s %9s %9s %9s %9s%n",
+                "Profile", "Reqs", "Errors", "Req/s", "p50", "p95", "p99", "Max");
+        for (FaultImpact impact : impacts) {
+            LatencyRecorder latencies = impact.getLatencies();
+            out.printf("%-40s %6d %7.1f%% %8.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    impact.getProfile(),
+                    impact.getRequests(),
+                    impact.getErrorRate() * 100,
+                    impact.getThroughput(),
+                    latencies.getPercentileMillis(50.0),
+                    latencies.getPercentileMillis(95.0),
+                    latencies.getPercentileMillis(99.0),
+                    latencies.getMaxMillis());
+        }
+        out.println("(latencies in ms, failed calls included)");
+        out.println("=====================================");
+    }
+}
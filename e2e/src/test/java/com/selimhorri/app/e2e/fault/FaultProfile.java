@@ -0,0 +1,169 @@
+package com.selimhorri.app.e2e.fault;
+
+import com.selimhorri.app.e2e.stub.LatencyDistribution;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Network faults a FaultProxy applies, see FaultProxy for where each one takes effect
+ * Profiles are immutable; build them with the with* methods or parse "none" or a spec of
+ * comma-separated key=value pairs (times in milliseconds):
+ *   latency=40 | latency=lognormal:40:0.5   delay before each response (LatencyDistribution.parse)
+ *   jitter=10                               +/- uniform jitter around a fixed latency
+ *   bandwidth=64k                           bytes per second in each direction (k/m suffixes)
+ *   reset=0.02                              fraction of requests answered with a TCP reset
+ *   stall=0.05:2000                         fraction of requests whose response stalls, and for how long
+ * e.g. "latency=40,jitter=10,reset=0.01"
+ */
+public final class FaultProfile {
+
+    public static final FaultProfile NONE = new FaultProfile("none", LatencyDistribution.none(), 0L, 0.0, 0.0, 0L);
+
+    private final String name;
+    private final LatencyDistribution latency;
+    private final long bytesPerSecond;
+    private final double resetRate;
+    private final double stallRate;
+    private final long stallNanos;
+
+    private FaultProfile(String name, LatencyDistribution latency, long bytesPerSecond, double resetRate,
+                         double stallRate, long stallNanos) {
+        this.name = name;
+        this.latency = latency;
+        this.bytesPerSecond = bytesPerSecond;
+        this.resetRate = resetRate;
+        this.stallRate = stallRate;
+        this.stallNanos = stallNanos;
+    }
+
+    public static FaultProfile none() {
+        return NONE;
+    }
+
+    public static FaultProfile parse(String spec) {
+        if (spec.trim().isEmpty() || spec.trim().equalsIgnoreCase("none")) {
+            return NONE;
+        }
+        FaultProfile profile = NONE.named(spec.trim());
+        double fixedLatency = -1;
+        double jitter = 0;
+        for (String entry : spec.split(",")) {
+            String[] pair = entry.trim().toLowerCase(Locale.ROOT).split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected key=value in fault profile, got: " + entry);
+            }
+            String value = pair[1].trim();
+            switch (pair[0].trim()) {
+                case "latency":
+                    if (Character.isDigit(value.charAt(0))) {
+                        fixedLatency = Double.parseDouble(value);
+                    } else {
+                        profile = profile.withLatency(LatencyDistribution.parse(value));
+                    }
+                    break;
+                case "jitter":
+                    jitter = Double.parseDouble(value);
+                    break;
+                case "bandwidth":
+                    profile = profile.withBandwidth(parseBytes(value));
+                    break;
+                case "reset":
+                    profile = profile.withResets(Double.parseDouble(value));
+                    break;
+                case "stall":
+                    String[] stall = value.split(":");
+                    profile = profile.withStalls(Double.parseDouble(stall[0]),
+                            Duration.ofMillis(stall.length > 1 ? Long.parseLong(stall[1]) : 2_000L));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown fault: " + pair[0]);
+            }
+        }
+        if (fixedLatency >= 0) {
+            profile = profile.withLatency(fixedLatency, jitter);
+        }
+        return profile;
+    }
+
+    /**
+     * @return Same faults under another name, used in reports
+     */
+    public FaultProfile named(String name) {
+        return new FaultProfile(name, latency, bytesPerSecond, resetRate, stallRate, stallNanos);
+    }
+
+    public FaultProfile withLatency(LatencyDistribution latency) {
+        return new FaultProfile(name, latency, bytesPerSecond, resetRate, stallRate, stallNanos);
+    }
+
+    /**
+     * @param millis Mean added latency
+     * @param jitterMillis Half-width of the uniform jitter around it
+     */
+    public FaultProfile withLatency(double millis, double jitterMillis) {
+        return withLatency(LatencyDistribution.uniform(Math.max(0, millis - jitterMillis), millis + jitterMillis));
+    }
+
+    /**
+     * @param bytesPerSecond Cap per connection and direction; 0 for unlimited
+     */
+    public FaultProfile withBandwidth(long bytesPerSecond) {
+        return new FaultProfile(name, latency, bytesPerSecond, resetRate, stallRate, stallNanos);
+    }
+
+    /**
+     * @param resetRate Fraction of requests whose connection is reset instead of forwarded
+     */
+    public FaultProfile withResets(double resetRate) {
+        return new FaultProfile(name, latency, bytesPerSecond, resetRate, stallRate, stallNanos);
+    }
+
+    /**
+     * @param stallRate Fraction of requests whose response is held back
+     * @param stall How long; longer than the client's read timeout turns stalls into timeouts
+     */
+    public FaultProfile withStalls(double stallRate, Duration stall) {
+        return new FaultProfile(name, latency, bytesPerSecond, resetRate, stallRate, stall.toNanos());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    long sampleLatencyNanos() {
+        return latency.sampleNanos(ThreadLocalRandom.current());
+    }
+
+    boolean shouldReset() {
+        return resetRate > 0 && ThreadLocalRandom.current().nextDouble() < resetRate;
+    }
+
+    /**
+     * @return Stall to add to the next response, or 0
+     */
+    long sampleStallNanos() {
+        return stallRate > 0 && ThreadLocalRandom.current().nextDouble() < stallRate ? stallNanos : 0L;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    private static long parseBytes(String value) {
+        char unit = value.charAt(value.length() - 1);
+        if (unit == 'k') {
+            return Long.parseLong(value.substring(0, value.length() - 1)) * 1024;
+        }
+        if (unit == 'm') {
+            return Long.parseLong(value.substring(0, value.length() - 1)) * 1024 * 1024;
+        }
+        return Long.parseLong(value);
+    }
+}
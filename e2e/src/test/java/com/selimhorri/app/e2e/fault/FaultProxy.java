@@ -0,0 +1,291 @@
+package com.selimhorri.app.e2e.fault;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Local TCP proxy that degrades the network between the E2E client and the gateway or a
+ * service (api.gateway.url, user.service.url, ...) according to a FaultProfile
+ * Bytes are forwarded unchanged; the profile can be swapped at any time and applies to open
+ * keep-alive connections too. Faults are decided per request, i.e. at the first client chunk
+ * after a response:
+ *   latency  holds back the response until the sampled delay after the request has passed
+ *   stall    holds it back for the profile's stall time on top of that
+ *   reset    closes both sides with a TCP RST instead of forwarding the request
+ *   bandwidth paces every chunk in both directions to the byte rate
+ * One thread per connection and direction, which is plenty for E2E test concurrency.
+ */
+public class FaultProxy implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final int CONNECT_TIMEOUT_MILLIS = 10_000;
+    // Pacing granularity of the bandwidth cap
+    private static final long PACING_SLICE_NANOS = 20_000_000L;
+
+    private final ServerSocket server;
+    private final InetSocketAddress target;
+    private final ExecutorService executor;
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder resets = new LongAdder();
+    private final LongAdder stalls = new LongAdder();
+    private volatile FaultProfile profile = FaultProfile.NONE;
+    private volatile boolean closed;
+
+    private FaultProxy(ServerSocket server, InetSocketAddress target) {
+        this.server = server;
+        this.target = target;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fault-proxy-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.execute(this::acceptLoop);
+    }
+
+    /**
+     * Start a proxy on an ephemeral loopback port
+     * @param targetUrl URL whose host and port receive the traffic, e.g. http://localhost:8100
+     */
+    public static FaultProxy start(String targetUrl) throws IOException {
+        URI uri = URI.create(targetUrl);
+        int port = uri.getPort() >= 0 ? uri.getPort() : "https".equals(uri.getScheme()) ? 443 : 80;
+        ServerSocket server = new ServerSocket(0, 1024, InetAddress.getLoopbackAddress());
+        return new FaultProxy(server, new InetSocketAddress(uri.getHost(), port));
+    }
+
+    /**
+     * @return Base URL to use in place of the target URL
+     */
+    public String getUrl() {
+        return "http://" + server.getInetAddress().getHostAddress() + ":" + server.getLocalPort();
+    }
+
+    public FaultProfile getProfile() {
+        return profile;
+    }
+
+    public void setProfile(FaultProfile profile) {
+        this.profile = profile;
+    }
+
+    /**
+     * @return Client connections accepted since start
+     */
+    public long getConnectionCount() {
+        return accepted.sum();
+    }
+
+    public long getResetCount() {
+        return resets.sum();
+    }
+
+    public long getStallCount() {
+        return stalls.sum();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            server.close();
+        } catch (IOException ignored) {
+            // Already closed
+        }
+        for (Connection connection : connections) {
+            connection.close();
+        }
+        executor.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (!closed) {
+            Socket client;
+            try {
+                client = server.accept();
+            } catch (IOException e) {
+                return;
+            }
+            accepted.increment();
+            executor.execute(() -> open(client));
+        }
+    }
+
+    private void open(Socket client) {
+        Socket upstream = new Socket();
+        try {
+            client.setTcpNoDelay(true);
+            upstream.setTcpNoDelay(true);
+            upstream.connect(target, CONNECT_TIMEOUT_MILLIS);
+        } catch (IOException e) {
+            closeQuietly(upstream);
+            closeQuietly(client);
+            return;
+        }
+        Connection connection = new Connection(client, upstream);
+        connections.add(connection);
+        executor.execute(connection::pumpRequests);
+        connection.pumpResponses();
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // Nothing left to release
+        }
+    }
+
+    /**
+     * Park until the deadline (System.nanoTime), or return false if interrupted by close()
+     */
+    private static boolean sleepUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * One proxied client connection and its upstream counterpart
+     */
+    private final class Connection {
+
+        private final Socket client;
+        private final Socket upstream;
+        // Responses are not forwarded before this instant (latency and stalls)
+        private volatile long holdUntilNanos;
+        // Set by the response pump, so the next client chunk starts a new request
+        private volatile boolean awaitingRequest = true;
+        private int halfClosed;
+
+        private Connection(Socket client, Socket upstream) {
+            this.client = client;
+            this.upstream = upstream;
+        }
+
+        private void pumpRequests() {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long nextFreeNanos = 0L;
+            // Socket streams are not closed here, that would close the socket for both directions
+            try {
+                InputStream in = client.getInputStream();
+                OutputStream out = upstream.getOutputStream();
+                int read;
+                while ((read = in.read(buffer)) >= 0) {
+                    FaultProfile current = profile;
+                    if (awaitingRequest) {
+                        awaitingRequest = false;
+                        if (current.shouldReset()) {
+                            resets.increment();
+                            reset();
+                            return;
+                        }
+                        long stall = current.sampleStallNanos();
+                        if (stall > 0) {
+                            stalls.increment();
+                        }
+                        holdUntilNanos = System.nanoTime() + current.sampleLatencyNanos() + stall;
+                    }
+                    nextFreeNanos = write(out, buffer, read, current.getBytesPerSecond(), nextFreeNanos);
+                    if (nextFreeNanos < 0) {
+                        return;
+                    }
+                }
+                upstream.shutdownOutput();
+                halfClose();
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        private void pumpResponses() {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long nextFreeNanos = 0L;
+            try {
+                InputStream in = upstream.getInputStream();
+                OutputStream out = client.getOutputStream();
+                int read;
+                while ((read = in.read(buffer)) >= 0) {
+                    if (!sleepUntil(holdUntilNanos)) {
+                        return;
+                    }
+                    awaitingRequest = true;
+                    nextFreeNanos = write(out, buffer, read, profile.getBytesPerSecond(), nextFreeNanos);
+                    if (nextFreeNanos < 0) {
+                        return;
+                    }
+                }
+                client.shutdownOutput();
+                halfClose();
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        /**
+         * Write a chunk, paced to the byte rate if there is one
+         * @return When the next byte may be sent under the cap, or -1 if interrupted by close()
+         */
+        private long write(OutputStream out, byte[] buffer, int length, long bytesPerSecond, long nextFreeNanos)
+                throws IOException {
+            if (bytesPerSecond <= 0) {
+                out.write(buffer, 0, length);
+                out.flush();
+                return 0L;
+            }
+            int slice = (int) Math.max(1, bytesPerSecond * PACING_SLICE_NANOS / 1_000_000_000L);
+            for (int offset = 0; offset < length; offset += slice) {
+                if (!sleepUntil(nextFreeNanos)) {
+                    return -1L;
+                }
+                int bytes = Math.min(slice, length - offset);
+                out.write(buffer, offset, bytes);
+                out.flush();
+                nextFreeNanos = Math.max(nextFreeNanos, System.nanoTime()) + bytes * 1_000_000_000L / bytesPerSecond;
+            }
+            return nextFreeNanos;
+        }
+
+        private synchronized void halfClose() {
+            if (++halfClosed == 2) {
+                close();
+            }
+        }
+
+        private void reset() {
+            try {
+                // Linger 0 makes close() send RST instead of FIN
+                client.setSoLinger(true, 0);
+            } catch (SocketException ignored) {
+                // Socket already gone; a plain close is just as good
+            }
+            close();
+        }
+
+        private void close() {
+            connections.remove(this);
+            closeQuietly(client);
+            closeQuietly(upstream);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.selimhorri.app.e2e.load;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Open-ended burst runner: executes a Scenario a fixed number of times as fast as the
+ * in-flight limit allows
+ * Unlike LoadEngine, which keeps a steady number of sessions looping, every execution
+ * here is independent, so thousands of operations can be outstanding at once on a
+ * handful of I/O threads. A semaphore caps outstanding executions and the submitting
+ * thread blocks once the cap is reached.
+ */
+public class BurstEngine implements AutoCloseable {
+
+    private final Scenario scenario;
+    private final StatsRegistry stats = new StatsRegistry();
+    private final LoadHttpClient client;
+
+    /**
+     * @param baseUrl Gateway URL the scenario is driven against
+     * @param scenario Operation executed once per burst slot
+     */
+    public BurstEngine(String baseUrl, Scenario scenario) {
+        this(baseUrl, scenario, Runtime.getRuntime().availableProcessors(), 1);
+    }
+
+    /**
+     * @param baseUrl Gateway URL the scenario is driven against
+     * @param scenario Operation executed once per burst slot
+     * @param ioThreads Threads completing responses and advancing executions
+     * @param identities Distinct JWT subjects spread across executions
+     */
+    public BurstEngine(String baseUrl, Scenario scenario, int ioThreads, int identities) {
+        this.scenario = scenario;
+        this.client = LoadHttpClient.withDaemonExecutor(baseUrl, stats, "burst", ioThreads, identities, true);
+    }
+
+    /**
+     * Execute the scenario operations times and wait for every execution to finish
+     * @param operations Total number of executions
+     * @param maxInFlight Maximum executions outstanding at any moment
+     * @return Result whose peak sessions is the highest number of executions in flight
+     */
+    public LoadResult run(int operations, int maxInFlight) throws InterruptedException {
+        int permits = Math.max(1, maxInFlight);
+        Semaphore inFlight = new Semaphore(permits);
+        AtomicInteger outstanding = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        LongAdder completed = new LongAdder();
+        LongAdder failed = new LongAdder();
+        long startNanos = System.nanoTime();
+
+        for (int i = 0; i < operations; i++) {
+            inFlight.acquire();
+            peak.accumulateAndGet(outstanding.incrementAndGet(), Math::max);
+            CompletableFuture<Void> future;
+            try {
+                future = scenario.execute(client, i, 0);
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            future.whenComplete((ignored, error) -> {
+                if (error != null) {
+                    failed.increment();
+                }
+                completed.increment();
+                outstanding.decrementAndGet();
+                inFlight.release();
+            });
+        }
+        // Every permit back means every execution has completed
+        inFlight.acquire(permits);
+        inFlight.release(permits);
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        List<EndpointSummary> endpoints = stats.all().stream()
+                .map(endpoint -> EndpointSummary.of(endpoint, seconds))
+                .collect(Collectors.toList());
+        return new LoadResult(scenario.getName(), elapsed, peak.get(), completed.sum(), failed.sum(), endpoints);
+    }
+
+    public StatsRegistry getStats() {
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+}
@@ -0,0 +1,103 @@
+package com.selimhorri.app.e2e.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and outcome counters for a single endpoint (HTTP method + path template)
+ * Latencies are recorded in microseconds into an HdrHistogram Recorder so that many
+ * load threads can record concurrently without locking
+ */
+public class EndpointStats {
+
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    static final int SIGNIFICANT_DIGITS = 3;
+
+    private final String method;
+    private final String name;
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Histogram accumulated = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Histogram sinceLastLog = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private Histogram intervalHistogram;
+
+    public EndpointStats(String method, String name) {
+        this.method = method;
+        this.name = name;
+    }
+
+    /**
+     * Record one completed request
+     * @param durationNanos Elapsed time measured with System.nanoTime()
+     * @param success Whether the request is counted as successful
+     */
+    public void record(long durationNanos, boolean success) {
+        long micros = Math.max(1, Math.min(TimeUnit.NANOSECONDS.toMicros(durationNanos), HIGHEST_TRACKABLE_MICROS));
+        recorder.recordValue(micros);
+        requests.increment();
+        if (!success) {
+            failures.increment();
+        }
+    }
+
+    /**
+     * Drain the latencies recorded since the previous call and fold them into the
+     * cumulative histogram. The returned histogram is reused by the next call, so
+     * callers must copy it if they need to keep it.
+     * @return Latencies (microseconds) recorded during the last interval
+     */
+    public synchronized Histogram sampleInterval() {
+        intervalHistogram = recorder.getIntervalHistogram(intervalHistogram);
+        accumulated.add(intervalHistogram);
+        sinceLastLog.add(intervalHistogram);
+        return intervalHistogram;
+    }
+
+    /**
+     * Latencies for the interval histogram log, unaffected by snapshot() or sampleInterval()
+     * calls in between, so reporting during a run never steals samples from the log
+     * @return Copy of the latencies (microseconds) recorded since the previous call
+     */
+    public synchronized Histogram takeLogInterval() {
+        sampleInterval();
+        Histogram interval = sinceLastLog.copy();
+        sinceLastLog.reset();
+        return interval;
+    }
+
+    /**
+     * @return Copy of every latency (microseconds) recorded so far
+     */
+    public synchronized Histogram snapshot() {
+        sampleInterval();
+        return accumulated.copy();
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getKey() {
+        return key(method, name);
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    static String key(String method, String name) {
+        return method + " " + name;
+    }
+}
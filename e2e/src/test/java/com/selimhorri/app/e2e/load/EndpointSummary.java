@@ -0,0 +1,111 @@
+package com.selimhorri.app.e2e.load;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Immutable throughput and latency summary of one endpoint over a run
+ * Latencies are expressed in milliseconds.
+ */
+public class EndpointSummary {
+
+    private final String method;
+    private final String name;
+    private final long requests;
+    private final long failures;
+    private final double throughput;
+    private final double meanMillis;
+    private final double p50Millis;
+    private final double p90Millis;
+    private final double p95Millis;
+    private final double p99Millis;
+    private final double p999Millis;
+    private final double maxMillis;
+
+    private EndpointSummary(String method, String name, long requests, long failures, double throughput, Histogram micros) {
+        this.method = method;
+        this.name = name;
+        this.requests = requests;
+        this.failures = failures;
+        this.throughput = throughput;
+        this.meanMillis = micros.getMean() / 1000.0;
+        this.p50Millis = micros.getValueAtPercentile(50.0) / 1000.0;
+        this.p90Millis = micros.getValueAtPercentile(90.0) / 1000.0;
+        this.p95Millis = micros.getValueAtPercentile(95.0) / 1000.0;
+        this.p99Millis = micros.getValueAtPercentile(99.0) / 1000.0;
+        this.p999Millis = micros.getValueAtPercentile(99.9) / 1000.0;
+        this.maxMillis = micros.getMaxValue() / 1000.0;
+    }
+
+    /**
+     * @param stats Endpoint to summarize
+     * @param elapsedSeconds Wall-clock length of the run, used for throughput
+     */
+    public static EndpointSummary of(EndpointStats stats, double elapsedSeconds) {
+        long requests = stats.getRequests();
+        return new EndpointSummary(
+                stats.getMethod(),
+                stats.getName(),
+                requests,
+                stats.getFailures(),
+                elapsedSeconds > 0 ? requests / elapsedSeconds : 0.0,
+                stats.snapshot());
+    }
+
+    /**
+     * Summary of latencies merged from several sources, e.g. the workers of a distributed run
+     * @param micros Latencies in microseconds
+     */
+    public static EndpointSummary of(String method, String name, long requests, long failures, Histogram micros,
+                                     double elapsedSeconds) {
+        return new EndpointSummary(method, name, requests, failures,
+                elapsedSeconds > 0 ? requests / elapsedSeconds : 0.0, micros);
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    public double getThroughput() {
+        return throughput;
+    }
+
+    public double getMeanMillis() {
+        return meanMillis;
+    }
+
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    public double getP90Millis() {
+        return p90Millis;
+    }
+
+    public double getP95Millis() {
+        return p95Millis;
+    }
+
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    public double getP999Millis() {
+        return p999Millis;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+}
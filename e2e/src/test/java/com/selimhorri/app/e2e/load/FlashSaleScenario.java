@@ -0,0 +1,133 @@
+package com.selimhorri.app.e2e.load;
+
+import com.selimhorri.app.e2e.model.CartDto;
+import com.selimhorri.app.e2e.model.OrderDto;
+import com.selimhorri.app.e2e.model.ProductDto;
+import com.selimhorri.app.e2e.util.LatencyRecorder;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load scenario for a flash sale: every iteration is one shopper buying one unit of the same
+ * hot product
+ * The services have no stock reservation endpoint, so a shopper does what a client of this API
+ * has to: read the product, give up if it is sold out, write the quantity back one lower, then
+ * create a cart and place the order. Concurrent shoppers reading the same quantity all order
+ * against a single unit of stock, which is the oversell the benchmark measures.
+ */
+public class FlashSaleScenario implements Scenario {
+
+    public static final String PRODUCTS = ShoppingJourneyScenario.PRODUCTS;
+    public static final String PRODUCT_BY_ID = ShoppingJourneyScenario.PRODUCT_BY_ID;
+    public static final String CARTS = ShoppingJourneyScenario.CARTS;
+    public static final String ORDERS = ShoppingJourneyScenario.ORDERS;
+
+    private static final DateTimeFormatter ORDER_DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy__HH:mm:ss:SSSSSS");
+
+    private final int productId;
+    private final int[] shopperIds;
+    private final LatencyRecorder purchases;
+    private final LongAdder orders = new LongAdder();
+    private final LongAdder reservations = new LongAdder();
+    private final LongAdder soldOutReads = new LongAdder();
+    private final LongAccumulator minQuantitySeen = new LongAccumulator(Math::min, Long.MAX_VALUE);
+
+    /**
+     * @param productId Hot product every shopper buys
+     * @param shopperIds Users the carts belong to, spread across sessions
+     */
+    public FlashSaleScenario(int productId, int[] shopperIds) {
+        if (shopperIds.length == 0) {
+            throw new IllegalArgumentException("At least one shopper is required");
+        }
+        this.productId = productId;
+        this.shopperIds = shopperIds.clone();
+        this.purchases = new LatencyRecorder("Flash sale purchase");
+    }
+
+    @Override
+    public String getName() {
+        return "Flash Sale of Product " + productId;
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(LoadHttpClient client, int sessionId, long iteration) {
+        long start = System.nanoTime();
+        return client.get(sessionId, PRODUCT_BY_ID, PRODUCTS + "/" + productId, ProductDto.class)
+                .thenCompose(product -> {
+                    int quantity = product.getQuantity() != null ? product.getQuantity() : 0;
+                    minQuantitySeen.accumulate(quantity);
+                    if (quantity <= 0) {
+                        soldOutReads.increment();
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    product.setQuantity(quantity - 1);
+                    return client.put(sessionId, PRODUCTS, PRODUCTS, product, ProductDto.class)
+                            .thenCompose(reserved -> {
+                                reservations.increment();
+                                int shopperId = shopperIds[Math.floorMod(sessionId, shopperIds.length)];
+                                return client.post(sessionId, CARTS, CARTS, CartDto.forUser(shopperId), CartDto.class);
+                            })
+                            .thenCompose(cart -> client.post(sessionId, ORDERS, ORDERS,
+                                    orderRequest(ShoppingJourneyScenario.requiredId(cart.getCartId(), "cartId"),
+                                            product.getPriceUnit()),
+                                    OrderDto.class))
+                            .thenAccept(order -> {
+                                orders.increment();
+                                purchases.recordNanos(System.nanoTime() - start);
+                            });
+                });
+    }
+
+    private OrderDto orderRequest(Integer cartId, Double price) {
+        OrderDto order = new OrderDto();
+        order.setOrderDate(LocalDateTime.now().format(ORDER_DATE_FORMAT));
+        order.setOrderDesc("Flash sale order of product " + productId);
+        order.setOrderFee(price != null ? price : 0.0);
+        order.setCart(CartDto.withId(cartId));
+        return order;
+    }
+
+    public int getProductId() {
+        return productId;
+    }
+
+    /**
+     * @return Orders placed successfully
+     */
+    public long getOrders() {
+        return orders.sum();
+    }
+
+    /**
+     * @return Stock decrements acknowledged by the product service
+     */
+    public long getReservations() {
+        return reservations.sum();
+    }
+
+    /**
+     * @return Product reads that found no stock left
+     */
+    public long getSoldOutReads() {
+        return soldOutReads.sum();
+    }
+
+    /**
+     * @return Lowest quantity any shopper read, or Long.MAX_VALUE before the first read
+     */
+    public long getMinQuantitySeen() {
+        return minQuantitySeen.get();
+    }
+
+    /**
+     * @return Latency of complete purchases, from the product read to the placed order
+     */
+    public LatencyRecorder getPurchases() {
+        return purchases;
+    }
+}
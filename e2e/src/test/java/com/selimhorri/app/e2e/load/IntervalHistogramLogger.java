@@ -0,0 +1,155 @@
+package com.selimhorri.app.e2e.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes per-endpoint interval histograms of a StatsRegistry to an HdrHistogram log, so soak
+ * runs show degradation over time instead of one aggregate
+ * Every interval (default 5s) each endpoint with traffic appends one line: its compressed,
+ * base64-encoded histogram tagged METHOD:name, latencies in microseconds. Lines are flushed as
+ * they are written, so a killed run keeps its log. Only one interval per endpoint is ever held
+ * in memory, whatever the run length. Replay with replay() or with HdrHistogram's own tool:
+ *   java -cp HdrHistogram.jar org.HdrHistogram.HistogramLogProcessor -i run.hlog \
+ *        -tag GET:/product-service/api/products/[id] -start 3600 -end 3900 -outputValueUnitRatio 1000
+ * Enabled with -De2e.histogramLog.dir; the interval is -De2e.histogramLog.intervalMs.
+ */
+public class IntervalHistogramLogger implements AutoCloseable {
+
+    public static final String DIR_PROPERTY = "e2e.histogramLog.dir";
+    public static final String INTERVAL_PROPERTY = "e2e.histogramLog.intervalMs";
+
+    // Histograms hold microseconds; only the max column of each line is scaled to milliseconds
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final StatsRegistry stats;
+    private final Path file;
+    private final PrintStream out;
+    private final HistogramLogWriter writer;
+    private final ScheduledExecutorService scheduler;
+    private final long baseMillis;
+    private long intervalStartMillis;
+
+    /**
+     * Start logging; the file is created, or truncated if it exists
+     * @param intervalMillis Length of each logged interval
+     */
+    public IntervalHistogramLogger(StatsRegistry stats, Path file, long intervalMillis) throws IOException {
+        this.stats = stats;
+        this.file = file;
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.out = new PrintStream(new FileOutputStream(file.toFile()), false, "UTF-8");
+        this.writer = new HistogramLogWriter(out);
+        this.baseMillis = System.currentTimeMillis();
+        this.intervalStartMillis = baseMillis;
+        writer.outputLogFormatVersion();
+        writer.outputComment("Per-endpoint latency in us (max column in ms), tagged METHOD:name, every "
+                + intervalMillis + "ms");
+        writer.outputBaseTime(baseMillis);
+        writer.outputStartTime(baseMillis);
+        writer.outputLegend();
+        out.flush();
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "histogram-log");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::logInterval, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Start logging to [e2e.histogramLog.dir]/[fileName] when that property is set
+     * @return Running logger, or null when interval logging is not configured
+     */
+    public static IntervalHistogramLogger startIfConfigured(String fileName, StatsRegistry stats) {
+        String dir = System.getProperty(DIR_PROPERTY);
+        if (dir == null || dir.isEmpty()) {
+            return null;
+        }
+        Path file = Paths.get(dir, fileName);
+        try {
+            IntervalHistogramLogger logger = new IntervalHistogramLogger(stats, file, Long.getLong(INTERVAL_PROPERTY, 5_000L));
+            System.out.println("📈 Logging interval histograms to " + file);
+            return logger;
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not open histogram log " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Merge the intervals of a log that overlap a time window, per tag
+     * @param fromSeconds Window start, in seconds since the start of the logged run
+     * @param toSeconds Window end, in seconds since the start of the logged run
+     * @return Latencies in microseconds by tag (METHOD:name)
+     */
+    public static Map<String, Histogram> replay(Path file, double fromSeconds, double toSeconds)
+            throws FileNotFoundException {
+        Map<String, Histogram> byTag = new TreeMap<>();
+        HistogramLogReader reader = new HistogramLogReader(file.toFile());
+        Histogram interval;
+        while ((interval = (Histogram) reader.nextIntervalHistogram(fromSeconds, toSeconds)) != null) {
+            byTag.computeIfAbsent(interval.getTag(), tag -> new Histogram(EndpointStats.SIGNIFICANT_DIGITS))
+                    .add(interval);
+        }
+        return byTag;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Log the last partial interval and close the file
+     */
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logInterval();
+        out.close();
+    }
+
+    private synchronized void logInterval() {
+        long endMillis = System.currentTimeMillis();
+        double startSeconds = (intervalStartMillis - baseMillis) / 1000.0;
+        double endSeconds = (endMillis - baseMillis) / 1000.0;
+        for (EndpointStats endpoint : stats.all()) {
+            Histogram interval = endpoint.takeLogInterval();
+            if (interval.getTotalCount() == 0) {
+                continue;
+            }
+            interval.setTag(tag(endpoint));
+            writer.outputIntervalHistogram(startSeconds, endSeconds, interval, MICROS_PER_MILLI);
+        }
+        out.flush();
+        intervalStartMillis = endMillis;
+    }
+
+    // Tags end at the first comma and may not contain whitespace
+    private static String tag(EndpointStats endpoint) {
+        return (endpoint.getMethod() + ":" + endpoint.getName()).replaceAll("[\\s,]", "_");
+    }
+}
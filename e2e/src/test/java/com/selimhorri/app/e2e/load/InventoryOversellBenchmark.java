@@ -0,0 +1,132 @@
+package com.selimhorri.app.e2e.load;
+
+import com.selimhorri.app.e2e.model.CategoryDto;
+import com.selimhorri.app.e2e.model.ProductDto;
+import com.selimhorri.app.e2e.model.UserDto;
+import com.selimhorri.app.e2e.util.UniqueIds;
+import com.selimhorri.app.e2e.util.UserDataHelper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Flash sale benchmark: sells a product with limited stock to more and more concurrent shopper
+ * sessions and checks the stock against the orders placed
+ * Every level gets a fresh product with the same stock and runs FlashSaleScenario until a
+ * shopper finds it sold out (or the time limit passes), then reads the final quantity. Defaults
+ * can be overridden with
+ *   -De2e.flashSale.sessions=1,4,16,64 -De2e.flashSale.stock=50 -De2e.flashSale.maxDurationMs=30000
+ */
+public class InventoryOversellBenchmark {
+
+    private static final int MAX_SHOPPERS = 16;
+    private static final long POLL_MILLIS = 20;
+
+    private final String baseUrl;
+    private final int stock;
+    private final Duration maxDuration;
+
+    /**
+     * @param stock Quantity each level's product starts with
+     * @param maxDuration Time limit of a level if the stock never runs out
+     */
+    public InventoryOversellBenchmark(String baseUrl, int stock, Duration maxDuration) {
+        this.baseUrl = baseUrl;
+        this.stock = stock;
+        this.maxDuration = maxDuration;
+    }
+
+    public static InventoryOversellBenchmark fromSystemProperties(String baseUrl) {
+        return new InventoryOversellBenchmark(baseUrl,
+                Integer.getInteger("e2e.flashSale.stock", 50),
+                Duration.ofMillis(Long.getLong("e2e.flashSale.maxDurationMs", 30_000L)));
+    }
+
+    public static List<Integer> sessionLevelsFromSystemProperties() {
+        return Arrays.stream(System.getProperty("e2e.flashSale.sessions", "1,4,16,64").split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Run one flash sale per concurrency level, in order
+     */
+    public InventoryOversellResult run(List<Integer> sessionLevels) throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "flash-sale-setup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            // Setup and verification requests are kept out of the measured engines' stats
+            LoadHttpClient setup = new LoadHttpClient(baseUrl, new StatsRegistry(), 1, executor, 1);
+            int shoppers = Math.min(MAX_SHOPPERS, sessionLevels.stream().mapToInt(Integer::intValue).max().orElse(1));
+            int[] shopperIds = createShoppers(setup, Math.max(1, shoppers));
+
+            List<InventoryOversellResult.Level> levels = new ArrayList<>();
+            for (int sessions : sessionLevels) {
+                levels.add(runLevel(setup, sessions, shopperIds));
+            }
+            return new InventoryOversellResult(stock, levels);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private InventoryOversellResult.Level runLevel(LoadHttpClient setup, int sessions, int[] shopperIds)
+            throws InterruptedException {
+        ProductDto product = setup.post(0, FlashSaleScenario.PRODUCTS, FlashSaleScenario.PRODUCTS,
+                productRequest(), ProductDto.class).join();
+        int productId = ShoppingJourneyScenario.requiredId(product.getProductId(), "productId");
+        FlashSaleScenario scenario = new FlashSaleScenario(productId, shopperIds);
+
+        LoadResult load;
+        long startNanos = System.nanoTime();
+        try (LoadEngine engine = new LoadEngine(baseUrl, scenario)) {
+            engine.start();
+            engine.setConcurrency(sessions);
+            long deadline = startNanos + maxDuration.toNanos();
+            while (scenario.getSoldOutReads() == 0 && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(POLL_MILLIS);
+            }
+            load = engine.stop(Duration.ofSeconds(30));
+        }
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+
+        ProductDto last = setup.get(0, FlashSaleScenario.PRODUCT_BY_ID,
+                FlashSaleScenario.PRODUCTS + "/" + productId, ProductDto.class).join();
+        int finalStock = last.getQuantity() != null ? last.getQuantity() : 0;
+        return new InventoryOversellResult.Level(sessions, stock, seconds, scenario.getOrders(),
+                scenario.getReservations(), scenario.getSoldOutReads(), load.getFailedIterations(), finalStock,
+                scenario.getMinQuantitySeen(), scenario.getPurchases());
+    }
+
+    private static int[] createShoppers(LoadHttpClient setup, int count) {
+        int[] ids = new int[count];
+        for (int i = 0; i < count; i++) {
+            UserDto user = setup.post(0, ShoppingJourneyScenario.USERS, ShoppingJourneyScenario.USERS,
+                    UserDataHelper.createUniqueUser("FlashShopper"), UserDto.class).join();
+            ids[i] = ShoppingJourneyScenario.requiredId(user.getUserId(), "userId");
+        }
+        return ids;
+    }
+
+    private ProductDto productRequest() {
+        String uniqueId = UniqueIds.next();
+        ProductDto product = new ProductDto();
+        product.setProductTitle("FlashSaleProduct" + uniqueId);
+        product.setImageUrl("https://example.com/flash.jpg");
+        product.setSku("FLASH" + uniqueId);
+        product.setPriceUnit(19.99);
+        product.setQuantity(stock);
+        product.setCategory(new CategoryDto(1));
+        return product;
+    }
+}
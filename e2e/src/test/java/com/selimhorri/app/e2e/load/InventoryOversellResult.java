@@ -0,0 +1,143 @@
+package com.selimhorri.app.e2e.load;
+
+import com.selimhorri.app.e2e.util.LatencyRecorder;
+
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Outcome of an InventoryOversellBenchmark: one row per concurrency level
+ * Consumed stock is the drop in the product's quantity; orders placed beyond it were oversold.
+ */
+public class InventoryOversellResult {
+
+    private final int stock;
+    private final List<Level> levels;
+
+    public InventoryOversellResult(int stock, List<Level> levels) {
+        this.stock = stock;
+        this.levels = List.copyOf(levels);
+    }
+
+    public int getStock() {
+        return stock;
+    }
+
+    public List<Level> getLevels() {
+        return levels;
+    }
+
+    public void print(PrintStream out) {
+        out.println("\n🛒 FLASH SALE (stock " + stock + " per level)");
+        out.println("=====================================");
+        out.printf("%8s %8s %9s %9s %9s %9s %9s %8s %8s %8s %8s%n", "Sessions", "Orders", "Orders/s",
+                "p50(ms)", "p99(ms)", "Sold-out", "Failed", "Final", "Consumed", "Oversold", "MinSeen");
+        for (Level level : levels) {
+            out.printf("%8d %8d %9.1f %9.1f %9.1f %9d %9d %8d %8d %8d %8s%n", level.getSessions(),
+                    level.getOrders(), level.getOrdersPerSecond(), level.getPurchases().getPercentileMillis(50.0),
+                    level.getPurchases().getPercentileMillis(99.0), level.getSoldOutReads(),
+                    level.getFailedIterations(), level.getFinalStock(), level.getConsumed(), level.getOversold(),
+                    level.getMinQuantitySeen() == Long.MAX_VALUE ? "-" : Long.toString(level.getMinQuantitySeen()));
+        }
+        out.println("(p50/p99: complete purchase, from the product read to the placed order)");
+        out.println("=====================================");
+    }
+
+    /**
+     * One flash sale at a fixed number of concurrent shopper sessions
+     */
+    public static class Level {
+
+        private final int sessions;
+        private final int stock;
+        private final double seconds;
+        private final long orders;
+        private final long reservations;
+        private final long soldOutReads;
+        private final long failedIterations;
+        private final int finalStock;
+        private final long minQuantitySeen;
+        private final LatencyRecorder purchases;
+
+        public Level(int sessions, int stock, double seconds, long orders, long reservations, long soldOutReads,
+                     long failedIterations, int finalStock, long minQuantitySeen, LatencyRecorder purchases) {
+            this.sessions = sessions;
+            this.stock = stock;
+            this.seconds = seconds;
+            this.orders = orders;
+            this.reservations = reservations;
+            this.soldOutReads = soldOutReads;
+            this.failedIterations = failedIterations;
+            this.finalStock = finalStock;
+            this.minQuantitySeen = minQuantitySeen;
+            this.purchases = purchases;
+        }
+
+        public int getSessions() {
+            return sessions;
+        }
+
+        public double getSeconds() {
+            return seconds;
+        }
+
+        public long getOrders() {
+            return orders;
+        }
+
+        public double getOrdersPerSecond() {
+            return seconds > 0 ? orders / seconds : 0.0;
+        }
+
+        /**
+         * @return Stock decrements acknowledged by the product service
+         */
+        public long getReservations() {
+            return reservations;
+        }
+
+        public long getSoldOutReads() {
+            return soldOutReads;
+        }
+
+        /**
+         * @return Purchases that failed on some request
+         */
+        public long getFailedIterations() {
+            return failedIterations;
+        }
+
+        public int getFinalStock() {
+            return finalStock;
+        }
+
+        /**
+         * @return Lowest quantity any shopper read, Long.MAX_VALUE if none was read
+         */
+        public long getMinQuantitySeen() {
+            return minQuantitySeen;
+        }
+
+        public long getConsumed() {
+            return stock - finalStock;
+        }
+
+        /**
+         * @return Orders placed beyond the consumed stock; negative if stock went without an order
+         */
+        public long getOversold() {
+            return orders - getConsumed();
+        }
+
+        /**
+         * @return True if neither the final quantity nor any quantity a shopper read was negative
+         */
+        public boolean isStockNeverNegative() {
+            return finalStock >= 0 && minQuantitySeen >= 0;
+        }
+
+        public LatencyRecorder getPurchases() {
+            return purchases;
+        }
+    }
+}
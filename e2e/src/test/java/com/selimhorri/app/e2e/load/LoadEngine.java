@@ -0,0 +1,232 @@
+package com.selimhorri.app.e2e.load;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Closed-model load engine running many concurrent sessions of a Scenario in one JVM
+ * Each session is a chain of futures rather than a thread: when an iteration completes
+ * the session immediately starts the next one, so thousands of sessions only need a
+ * small pool of I/O threads. Concurrency can be changed while the engine is running.
+ * arrive() additionally starts single iterations outside any session, for open-model
+ * (arrival rate) load shapes.
+ */
+public class LoadEngine implements AutoCloseable {
+
+    private final Scenario scenario;
+    private final StatsRegistry stats;
+    private final Executor executor;
+    private final LoadHttpClient client;
+
+    private final AtomicInteger targetSessions = new AtomicInteger();
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final AtomicInteger peakSessions = new AtomicInteger();
+    private final AtomicInteger nextSessionId = new AtomicInteger();
+    private final AtomicInteger arrivalsInFlight = new AtomicInteger();
+    private final LongAdder iterations = new LongAdder();
+    private final LongAdder failedIterations = new LongAdder();
+    private final Object drainLock = new Object();
+
+    private volatile boolean running;
+    private long startNanos;
+
+    /**
+     * @param baseUrl Gateway URL the scenario is driven against
+     * @param scenario Journey executed by every session
+     */
+    public LoadEngine(String baseUrl, Scenario scenario) {
+        this(baseUrl, scenario, Runtime.getRuntime().availableProcessors(), 1);
+    }
+
+    /**
+     * @param baseUrl Gateway URL the scenario is driven against
+     * @param scenario Journey executed by every session
+     * @param ioThreads Threads completing responses and advancing sessions
+     * @param identities Distinct JWT subjects spread across sessions
+     */
+    public LoadEngine(String baseUrl, Scenario scenario, int ioThreads, int identities) {
+        this.scenario = scenario;
+        this.stats = new StatsRegistry();
+        this.client = LoadHttpClient.withDaemonExecutor(baseUrl, stats, "load", ioThreads, identities, true);
+        this.executor = client.getExecutor();
+    }
+
+    /**
+     * Run a complete load test: ramp sessions up linearly, hold, then drain
+     * @param sessions Number of concurrent sessions to reach
+     * @param rampUp Time over which sessions are added
+     * @param duration Total run time including the ramp
+     */
+    public LoadResult run(int sessions, Duration rampUp, Duration duration) throws InterruptedException {
+        start();
+        long rampMillis = Math.min(rampUp.toMillis(), duration.toMillis());
+        int steps = rampMillis > 0 ? Math.min(sessions, (int) Math.max(1, rampMillis / 100)) : 1;
+        for (int step = 1; step <= steps; step++) {
+            setConcurrency((int) ((long) sessions * step / steps));
+            if (step < steps) {
+                Thread.sleep(rampMillis / steps);
+            }
+        }
+        Thread.sleep(Math.max(0, duration.toMillis() - rampMillis));
+        return stop(Duration.ofSeconds(30));
+    }
+
+    public void start() {
+        startNanos = System.nanoTime();
+        running = true;
+    }
+
+    /**
+     * Change the number of concurrent sessions
+     * New sessions start immediately; surplus sessions exit when their current iteration ends.
+     */
+    public void setConcurrency(int sessions) {
+        targetSessions.set(Math.max(0, sessions));
+        while (running) {
+            int active = activeSessions.get();
+            if (active >= targetSessions.get()) {
+                break;
+            }
+            if (activeSessions.compareAndSet(active, active + 1)) {
+                peakSessions.accumulateAndGet(active + 1, Math::max);
+                int sessionId = nextSessionId.getAndIncrement();
+                executor.execute(() -> runIteration(sessionId, 0));
+            }
+        }
+    }
+
+    /**
+     * Stop starting iterations and wait for in-flight ones to finish
+     * @param grace Maximum time to wait for sessions to drain
+     */
+    public LoadResult stop(Duration grace) throws InterruptedException {
+        running = false;
+        long deadline = System.nanoTime() + grace.toNanos();
+        synchronized (drainLock) {
+            while (activeSessions.get() > 0 || arrivalsInFlight.get() > 0) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    break;
+                }
+                drainLock.wait(remaining);
+            }
+        }
+        return snapshot();
+    }
+
+    /**
+     * @return Result covering everything recorded since start(), usable while running
+     */
+    public LoadResult snapshot() {
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        List<EndpointSummary> endpoints = stats.all().stream()
+                .map(endpoint -> EndpointSummary.of(endpoint, seconds))
+                .collect(Collectors.toList());
+        return new LoadResult(scenario.getName(), elapsed, peakSessions.get(),
+                iterations.sum(), failedIterations.sum(), endpoints);
+    }
+
+    /**
+     * Start one iteration now, in a session of its own that ends with it
+     * Arrivals do not wait for each other, so their rate is independent of response times.
+     * @return Whether it was started; false once the engine is stopped
+     */
+    public boolean arrive() {
+        if (!running) {
+            return false;
+        }
+        int inFlight = arrivalsInFlight.incrementAndGet();
+        peakSessions.accumulateAndGet(activeSessions.get() + inFlight, Math::max);
+        int sessionId = nextSessionId.getAndIncrement();
+        CompletableFuture<Void> future;
+        try {
+            future = scenario.execute(client, sessionId, 0);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((ignored, error) -> {
+            if (error != null) {
+                failedIterations.increment();
+            }
+            iterations.increment();
+            if (arrivalsInFlight.decrementAndGet() == 0 && !running) {
+                synchronized (drainLock) {
+                    drainLock.notifyAll();
+                }
+            }
+        });
+        return true;
+    }
+
+    public StatsRegistry getStats() {
+        return stats;
+    }
+
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    public int getArrivalsInFlight() {
+        return arrivalsInFlight.get();
+    }
+
+    /**
+     * @return Iterations completed so far, successful or not
+     */
+    public long getIterations() {
+        return iterations.sum();
+    }
+
+    public long getFailedIterations() {
+        return failedIterations.sum();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        client.close();
+    }
+
+    private void runIteration(int sessionId, long iteration) {
+        if (shouldExit()) {
+            return;
+        }
+        CompletableFuture<Void> future;
+        try {
+            future = scenario.execute(client, sessionId, iteration);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenCompleteAsync((ignored, error) -> {
+            if (error != null) {
+                failedIterations.increment();
+            }
+            iterations.increment();
+            runIteration(sessionId, iteration + 1);
+        }, executor);
+    }
+
+    private boolean shouldExit() {
+        while (true) {
+            int active = activeSessions.get();
+            if (running && active <= targetSessions.get()) {
+                return false;
+            }
+            if (activeSessions.compareAndSet(active, active - 1)) {
+                if (active == 1) {
+                    synchronized (drainLock) {
+                        drainLock.notifyAll();
+                    }
+                }
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.selimhorri.app.e2e.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.selimhorri.app.e2e.cleanup.CreatedResources;
+import com.selimhorri.app.e2e.util.JsonCodecs;
+import com.selimhorri.app.e2e.util.JwtTestHelper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Non-blocking HTTP client used by the load engine
+ * Requests are sent with java.net.http.HttpClient#sendAsync so thousands of sessions can
+ * share a handful of threads. Every response is timed and recorded in the StatsRegistry
+ * under its endpoint name before the body is parsed. Bodies go through the cached
+ * readers and writers of JsonCodecs; the typed overloads bind responses straight to DTOs.
+ * Entities created by successful POSTs are recorded in CreatedResources for the final cleanup,
+ * unless the client is built with trackCreated false (seeding keeps what it creates).
+ * The engines build theirs with withDaemonExecutor, which gives the client its own thread pool
+ * to shut down on close.
+ */
+public class LoadHttpClient implements AutoCloseable {
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient[] clients;
+    private final String baseUrl;
+    private final StatsRegistry stats;
+    private static final ObjectReader TREE_READER = JsonCodecs.readerFor(JsonNode.class);
+
+    private final String[] authorizations;
+    private final boolean trackCreated;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+
+    /**
+     * @param baseUrl Gateway URL, e.g. http://localhost:8100
+     * @param stats Registry receiving one sample per request
+     * @param clientCount Number of underlying HttpClient instances; each owns one selector thread
+     * @param executor Executor completing response futures
+     * @param identities Distinct JWT subjects spread across sessions; 1 uses "testuser" like the E2E tests
+     */
+    public LoadHttpClient(String baseUrl, StatsRegistry stats, int clientCount, Executor executor, int identities) {
+        this(baseUrl, stats, clientCount, executor, identities, true);
+    }
+
+    /**
+     * @param trackCreated Whether created entities are recorded for the final cleanup; false for
+     *                     data meant to outlive the run, such as seeded datasets
+     */
+    public LoadHttpClient(String baseUrl, StatsRegistry stats, int clientCount, Executor executor, int identities,
+                          boolean trackCreated) {
+        this(baseUrl, stats, clientCount, executor, null, identities, trackCreated);
+    }
+
+    private LoadHttpClient(String baseUrl, StatsRegistry stats, int clientCount, Executor executor,
+                           ExecutorService ownedExecutor, int identities, boolean trackCreated) {
+        this.executor = executor;
+        this.ownedExecutor = ownedExecutor;
+        this.baseUrl = baseUrl;
+        this.stats = stats;
+        this.trackCreated = trackCreated && CreatedResources.isEnabled();
+        // Tokens are signed up front so the hot path only picks a cached header
+        this.authorizations = identities <= 1
+                ? new String[] {JwtTestHelper.getAuthorizationHeader("testuser")}
+                : JwtTestHelper.preMintAuthorizationHeaders("loaduser", identities).toArray(new String[0]);
+        this.clients = new HttpClient[Math.max(1, clientCount)];
+        for (int i = 0; i < clients.length; i++) {
+            clients[i] = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(CONNECT_TIMEOUT)
+                    .executor(executor)
+                    .build();
+        }
+    }
+
+    public CompletableFuture<JsonNode> get(int sessionId, String name, String path) {
+        return get(sessionId, name, path, TREE_READER);
+    }
+
+    public CompletableFuture<JsonNode> post(int sessionId, String name, String path, Object body) {
+        return post(sessionId, name, path, body, TREE_READER);
+    }
+
+    public CompletableFuture<JsonNode> put(int sessionId, String name, String path, Object body) {
+        return put(sessionId, name, path, body, TREE_READER);
+    }
+
+    public CompletableFuture<JsonNode> delete(int sessionId, String name, String path) {
+        return send(sessionId, "DELETE", name, request(sessionId, path).DELETE().build(), TREE_READER);
+    }
+
+    public <T> CompletableFuture<T> get(int sessionId, String name, String path, Class<T> responseType) {
+        return get(sessionId, name, path, JsonCodecs.readerFor(responseType));
+    }
+
+    public <T> CompletableFuture<T> post(int sessionId, String name, String path, Object body, Class<T> responseType) {
+        return post(sessionId, name, path, body, JsonCodecs.readerFor(responseType));
+    }
+
+    public <T> CompletableFuture<T> put(int sessionId, String name, String path, Object body, Class<T> responseType) {
+        return put(sessionId, name, path, body, JsonCodecs.readerFor(responseType));
+    }
+
+    /**
+     * Client on a new fixed pool of ioThreads daemon threads named [prefix]-io-N, with one
+     * HttpClient per two threads; close() shuts the pool down
+     * @param prefix Thread name prefix, e.g. "load"
+     */
+    public static LoadHttpClient withDaemonExecutor(String baseUrl, StatsRegistry stats, String prefix, int ioThreads,
+                                                    int identities, boolean trackCreated) {
+        int threads = Math.max(1, ioThreads);
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-io-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        return new LoadHttpClient(baseUrl, stats, Math.max(1, threads / 2), executor, executor, identities,
+                trackCreated);
+    }
+
+    public StatsRegistry getStats() {
+        return stats;
+    }
+
+    /**
+     * @return Executor completing the response futures, free for the caller's own tasks too
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Shuts down the pool of a withDaemonExecutor client; an executor passed in is left alone
+     */
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdownNow();
+        }
+    }
+
+    private HttpRequest.Builder request(int sessionId, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Authorization", authorizations[Math.floorMod(sessionId, authorizations.length)]);
+    }
+
+    private <T> CompletableFuture<T> get(int sessionId, String name, String path, ObjectReader reader) {
+        return send(sessionId, "GET", name, request(sessionId, path).GET().build(), reader);
+    }
+
+    private <T> CompletableFuture<T> post(int sessionId, String name, String path, Object body, ObjectReader reader) {
+        return send(sessionId, "POST", name, request(sessionId, path).POST(jsonBody(body)).build(), reader);
+    }
+
+    private <T> CompletableFuture<T> put(int sessionId, String name, String path, Object body, ObjectReader reader) {
+        return send(sessionId, "PUT", name, request(sessionId, path).PUT(jsonBody(body)).build(), reader);
+    }
+
+    private HttpRequest.BodyPublisher jsonBody(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(JsonCodecs.writerFor(body.getClass()).writeValueAsBytes(body));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to serialize request body", e);
+        }
+    }
+
+    private <T> CompletableFuture<T> send(int sessionId, String method, String name, HttpRequest request,
+                                          ObjectReader reader) {
+        HttpClient client = clients[Math.floorMod(sessionId, clients.length)];
+        long start = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, error) -> {
+                    long elapsed = System.nanoTime() - start;
+                    if (error != null) {
+                        stats.record(method, name, elapsed, false);
+                        throw new LoadRequestException(method + " " + name + " failed", error);
+                    }
+                    int status = response.statusCode();
+                    boolean success = status >= 200 && status < 300;
+                    stats.record(method, name, elapsed, success);
+                    if (!success) {
+                        throw new LoadRequestException(method + " " + name + " returned " + status, status);
+                    }
+                    if (trackCreated && "POST".equals(method)) {
+                        CreatedResources.recordCreated(request.uri(), response.body());
+                    }
+                    return parse(method, name, response.body(), reader);
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T parse(String method, String name, byte[] body, ObjectReader reader) {
+        try {
+            // readTree keeps answering MissingNode for empty bodies like the untyped client always did
+            return reader == TREE_READER ? (T) JsonCodecs.mapper().readTree(body) : reader.readValue(body);
+        } catch (IOException e) {
+            throw new LoadRequestException(method + " " + name + " returned an unreadable body", e);
+        }
+    }
+}
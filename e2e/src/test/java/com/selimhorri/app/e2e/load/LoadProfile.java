@@ -0,0 +1,241 @@
+package com.selimhorri.app.e2e.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Declarative load shape: a sequence of stages, each moving the target linearly from one
+ * value to another over its duration
+ * The target is either concurrent sessions (closed model, like Locust users) or iterations
+ * per second (open model). Stages are added with:
+ *   rampTo(target, over)      linear ramp from the current target
+ *   hold(duration)            keep the current target (a soak when long)
+ *   jumpTo(target, duration)  switch instantly, then hold (spikes and steps)
+ *   steps(step, count, each)  count plateaus, each step higher than the previous
+ * The presets load, stress, spike and soak mirror the Locust files in performance/, and
+ * parse() reads a shape such as "ramp:100:30s,hold:10m,jump:300:1m,jump:100:2m".
+ */
+public final class LoadProfile {
+
+    public enum Mode {
+        /** Target is concurrent sessions; each session loops the scenario */
+        CONCURRENCY,
+        /** Target is scenario iterations started per second, independent of response times */
+        ARRIVAL_RATE
+    }
+
+    private final String name;
+    private final Mode mode;
+    private final List<Stage> stages = new ArrayList<>();
+    private double current;
+
+    private LoadProfile(String name, Mode mode) {
+        this.name = name;
+        this.mode = mode;
+    }
+
+    public static LoadProfile concurrency(String name) {
+        return new LoadProfile(name, Mode.CONCURRENCY);
+    }
+
+    public static LoadProfile arrivalRate(String name) {
+        return new LoadProfile(name, Mode.ARRIVAL_RATE);
+    }
+
+    /**
+     * ecommerce_load_test.py: 100 users spawned at 10/s, held for 10 minutes
+     */
+    public static LoadProfile load() {
+        return concurrency("load").rampTo(100, Duration.ofSeconds(10)).hold(Duration.ofMinutes(10));
+    }
+
+    /**
+     * ecommerce_stress_test.py: up to 500 users over 15 minutes, as five 3-minute plateaus
+     */
+    public static LoadProfile stress() {
+        return concurrency("stress").steps(100, 5, Duration.ofMinutes(3));
+    }
+
+    /**
+     * ecommerce_spike_test.py: 50 users of baseline, an instant jump to 300, then back to baseline
+     */
+    public static LoadProfile spike() {
+        return concurrency("spike")
+                .jumpTo(50, Duration.ofMinutes(1))
+                .jumpTo(300, Duration.ofMinutes(2))
+                .jumpTo(50, Duration.ofMinutes(2));
+    }
+
+    /**
+     * ecommerce_endurance_test.py: 150 users spawned at 5/s, held for one hour
+     */
+    public static LoadProfile soak() {
+        return concurrency("soak").rampTo(150, Duration.ofSeconds(30)).hold(Duration.ofHours(1));
+    }
+
+    /**
+     * Resolve a preset name (load, stress, spike, soak) or parse a shape
+     * Shape stages are comma-separated: ramp:TARGET:DURATION, hold:DURATION, jump:TARGET:DURATION
+     * and steps:STEP:COUNT:DURATION. Durations take ms, s, m or h, e.g. "500ms" or "10m".
+     */
+    public static LoadProfile parse(String spec, Mode mode) {
+        switch (spec.trim().toLowerCase(Locale.ROOT)) {
+            case "load":
+                return load().withMode(mode);
+            case "stress":
+                return stress().withMode(mode);
+            case "spike":
+                return spike().withMode(mode);
+            case "soak":
+                return soak().withMode(mode);
+            default:
+                break;
+        }
+        LoadProfile profile = new LoadProfile(spec, mode);
+        for (String stage : spec.split(",")) {
+            String[] parts = stage.trim().split(":");
+            try {
+                switch (parts[0]) {
+                    case "ramp":
+                        profile.rampTo(Double.parseDouble(parts[1]), parseDuration(parts[2]));
+                        break;
+                    case "hold":
+                        profile.hold(parseDuration(parts[1]));
+                        break;
+                    case "jump":
+                        profile.jumpTo(Double.parseDouble(parts[1]), parseDuration(parts[2]));
+                        break;
+                    case "steps":
+                        profile.steps(Double.parseDouble(parts[1]), Integer.parseInt(parts[2]), parseDuration(parts[3]));
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown stage '" + parts[0] + "'");
+                }
+            } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid stage '" + stage + "' in load profile " + spec, e);
+            }
+        }
+        return profile;
+    }
+
+    public LoadProfile rampTo(double target, Duration over) {
+        return add(current, target, over);
+    }
+
+    public LoadProfile hold(Duration duration) {
+        return add(current, current, duration);
+    }
+
+    public LoadProfile jumpTo(double target, Duration duration) {
+        return add(target, target, duration);
+    }
+
+    public LoadProfile steps(double step, int count, Duration each) {
+        for (int i = 0; i < count; i++) {
+            jumpTo(current + step, each);
+        }
+        return this;
+    }
+
+    /**
+     * Same shape with every target multiplied by factor, e.g. one worker's share of a distributed run
+     * In CONCURRENCY mode each share is rounded to whole sessions, so the total may differ slightly.
+     */
+    public LoadProfile scaled(double factor) {
+        LoadProfile profile = new LoadProfile(name + " x" + factor, mode);
+        for (Stage stage : stages) {
+            profile.stages.add(new Stage(stage.from * factor, stage.to * factor, stage.durationMillis));
+        }
+        profile.current = current * factor;
+        return profile;
+    }
+
+    /**
+     * @param elapsed Time since the start of the run
+     * @return Target at that moment; 0 once the profile has ended
+     */
+    public double targetAt(Duration elapsed) {
+        long millis = elapsed.toMillis();
+        for (Stage stage : stages) {
+            if (millis < stage.durationMillis) {
+                return stage.from + (stage.to - stage.from) * millis / stage.durationMillis;
+            }
+            millis -= stage.durationMillis;
+        }
+        return 0.0;
+    }
+
+    /**
+     * @return Highest target of any stage, e.g. the peak sessions a run needs
+     */
+    public double getPeak() {
+        return stages.stream().mapToDouble(stage -> Math.max(stage.from, stage.to)).max().orElse(0.0);
+    }
+
+    public Duration getDuration() {
+        return Duration.ofMillis(stages.stream().mapToLong(stage -> stage.durationMillis).sum());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + (mode == Mode.CONCURRENCY ? "sessions" : "iterations/s") + ", peak "
+                + getPeak() + ", " + getDuration().getSeconds() + "s)";
+    }
+
+    private LoadProfile withMode(Mode newMode) {
+        LoadProfile profile = new LoadProfile(name, newMode);
+        profile.stages.addAll(stages);
+        profile.current = current;
+        return profile;
+    }
+
+    private LoadProfile add(double from, double to, Duration duration) {
+        if (from < 0 || to < 0 || duration.isNegative()) {
+            throw new IllegalArgumentException("Targets and durations must not be negative");
+        }
+        stages.add(new Stage(from, to, duration.toMillis()));
+        current = to;
+        return this;
+    }
+
+    static Duration parseDuration(String value) {
+        String text = value.trim().toLowerCase(Locale.ROOT);
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        long amount = Long.parseLong(text.substring(0, text.length() - 1));
+        switch (text.charAt(text.length() - 1)) {
+            case 's':
+                return Duration.ofSeconds(amount);
+            case 'm':
+                return Duration.ofMinutes(amount);
+            case 'h':
+                return Duration.ofHours(amount);
+            default:
+                throw new IllegalArgumentException("Duration needs a unit (ms, s, m or h): " + value);
+        }
+    }
+
+    private static final class Stage {
+
+        private final double from;
+        private final double to;
+        private final long durationMillis;
+
+        private Stage(double from, double to, long durationMillis) {
+            this.from = from;
+            this.to = to;
+            this.durationMillis = durationMillis;
+        }
+    }
+}
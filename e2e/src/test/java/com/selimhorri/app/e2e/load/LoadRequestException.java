@@ -0,0 +1,26 @@
+package com.selimhorri.app.e2e.load;
+
+/**
+ * Raised when a load request completes with a non-2xx status or an unreadable body
+ */
+public class LoadRequestException extends RuntimeException {
+
+    private final int statusCode;
+
+    public LoadRequestException(String message, int statusCode) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    public LoadRequestException(String message, Throwable cause) {
+        super(message, cause);
+        this.statusCode = -1;
+    }
+
+    /**
+     * @return HTTP status of the failed response, or -1 when no response was received
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
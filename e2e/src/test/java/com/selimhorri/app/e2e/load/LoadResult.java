@@ -0,0 +1,91 @@
+package com.selimhorri.app.e2e.load;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a load run: journey counters plus per-endpoint summaries
+ */
+public class LoadResult {
+
+    private final String scenario;
+    private final Duration elapsed;
+    private final int peakSessions;
+    private final long iterations;
+    private final long failedIterations;
+    private final List<EndpointSummary> endpoints;
+
+    public LoadResult(String scenario, Duration elapsed, int peakSessions, long iterations, long failedIterations,
+            List<EndpointSummary> endpoints) {
+        this.scenario = scenario;
+        this.elapsed = elapsed;
+        this.peakSessions = peakSessions;
+        this.iterations = iterations;
+        this.failedIterations = failedIterations;
+        this.endpoints = List.copyOf(endpoints);
+    }
+
+    public String getScenario() {
+        return scenario;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    public int getPeakSessions() {
+        return peakSessions;
+    }
+
+    public long getIterations() {
+        return iterations;
+    }
+
+    public long getFailedIterations() {
+        return failedIterations;
+    }
+
+    public List<EndpointSummary> getEndpoints() {
+        return endpoints;
+    }
+
+    public long getTotalRequests() {
+        return endpoints.stream().mapToLong(EndpointSummary::getRequests).sum();
+    }
+
+    public long getTotalFailures() {
+        return endpoints.stream().mapToLong(EndpointSummary::getFailures).sum();
+    }
+
+    public double getThroughput() {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        return seconds > 0 ? getTotalRequests() / seconds : 0.0;
+    }
+
+    public void print(PrintStream out) {
+        out.println("\n📊 LOAD TEST SUMMARY: " + scenario);
+        out.println("=====================================");
+        out.printf("Duration: %.1fs, peak sessions: %d%n", elapsed.toMillis() / 1000.0, peakSessions);
+        out.printf("Iterations: %d (%d failed)%n", iterations, failedIterations);
+        out.printf("Requests: %d (%d failed), %.1f req/s%n", getTotalRequests(), getTotalFailures(), getThroughput());
+        out.printf("%-7s %-38s %9s %7s %9s %9s %9s %9s %9s %9s %9s%n",
+                "Method", "Name", "Requests", "Fails", "Req/s", "Mean", "p50", "p95", "p99", "p99.9", "Max");
+        for (EndpointSummary endpoint : endpoints) {
+            out.printf("%-7s %-38s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint.getMethod(),
+                    endpoint.getName(),
+                    endpoint.getRequests(),
+                    endpoint.getFailures(),
+                    endpoint.getThroughput(),
+                    endpoint.getMeanMillis(),
+                    endpoint.getP50Millis(),
+                    endpoint.getP95Millis(),
+                    endpoint.getP99Millis(),
+                    endpoint.getP999Millis(),
+                    endpoint.getMaxMillis());
+        }
+        out.println("(latencies in ms)");
+        out.println("=====================================");
+    }
+}
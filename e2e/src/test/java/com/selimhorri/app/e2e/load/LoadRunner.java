@@ -0,0 +1,86 @@
+package com.selimhorri.app.e2e.load;
+
+import com.selimhorri.app.e2e.baseline.GateReport;
+import com.selimhorri.app.e2e.baseline.RegressionGate;
+import com.selimhorri.app.e2e.util.E2EEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * Command-line entry point for Java-driven load runs
+ * Usage: mvn -Pload test-compile exec:java -Dapi.gateway.url=http://localhost:8100 \
+ *            -Dload.sessions=2000 -Dload.rampUp=30 -Dload.duration=300 -Dload.identities=500
+ * Durations are in seconds. Add -De2e.stub=true to run against the in-process stub gateway instead,
+ * and -De2e.locustStats.dir=results to also write the stats in Locust's JSON schema. For soak runs,
+ * -De2e.histogramLog.dir=results logs per-endpoint interval histograms every 5s. Warm-up is
+ * detected automatically and reported separately, see SteadyStateMonitor.
+ * Shaped runs replace sessions/rampUp/duration with a LoadProfile preset or shape:
+ *   -Dload.profile=stress | spike | soak | load | "ramp:100:30s,hold:5m,jump:400:1m,jump:100:2m"
+ *   -Dload.mode=sessions | rate      (concurrent sessions, or iterations started per second)
+ *   -Dload.scenario=shopping | registration
+ *   -Dload.shape.csv=results/shape.csv   (every target/achieved sample)
+ * With -De2e.baseline.dir=perf-baselines the run is recorded and compared with the previous
+ * baseline of the same scenario; a p95/p99/throughput regression fails the build.
+ */
+public class LoadRunner {
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        String baseUrl = E2EEnvironment.isStubMode()
+                ? E2EEnvironment.gatewayUrl()
+                : System.getProperty("api.gateway.url", "http://localhost:8100");
+        int sessions = Integer.getInteger("load.sessions", 100);
+        Duration rampUp = Duration.ofSeconds(Long.getLong("load.rampUp", 10L));
+        Duration duration = Duration.ofSeconds(Long.getLong("load.duration", 60L));
+        int ioThreads = Integer.getInteger("load.ioThreads", Runtime.getRuntime().availableProcessors());
+        int identities = Integer.getInteger("load.identities", 1);
+        boolean registration = "registration".equals(System.getProperty("load.scenario", "shopping"));
+        Scenario scenario = registration ? new UserRegistrationScenario() : new ShoppingJourneyScenario();
+        String filePrefix = registration ? "load_user_registration" : "load_shopping_journey";
+        String profileSpec = System.getProperty("load.profile");
+
+        System.out.println("🚀 Starting load run against " + baseUrl);
+        try (LoadEngine engine = new LoadEngine(baseUrl, scenario, ioThreads, identities);
+             IntervalHistogramLogger histogramLog = IntervalHistogramLogger.startIfConfigured(
+                     filePrefix + ".hlog", engine.getStats());
+             SteadyStateMonitor steadyState = SteadyStateMonitor.start(engine.getStats())) {
+            LoadResult result;
+            int userCount;
+            if (profileSpec != null) {
+                LoadProfile.Mode mode = "rate".equals(System.getProperty("load.mode", "sessions"))
+                        ? LoadProfile.Mode.ARRIVAL_RATE
+                        : LoadProfile.Mode.CONCURRENCY;
+                LoadProfile profile = LoadProfile.parse(profileSpec, mode);
+                System.out.println("   Scenario: " + scenario.getName() + ", profile: " + profile
+                        + ", I/O threads: " + ioThreads + ", identities: " + identities);
+
+                LoadShapeResult shaped = new LoadShapeScheduler(engine).run(profile);
+                shaped.print(System.out);
+                String csv = System.getProperty("load.shape.csv");
+                if (csv != null) {
+                    shaped.writeCsv(Paths.get(csv));
+                }
+                result = shaped.getLoad();
+                userCount = result.getPeakSessions();
+            } else {
+                System.out.println("   Scenario: " + scenario.getName() + ", sessions: " + sessions + ", ramp-up: "
+                        + rampUp.getSeconds() + "s, duration: " + duration.getSeconds() + "s, I/O threads: "
+                        + ioThreads + ", identities: " + identities);
+                result = engine.run(sessions, rampUp, duration);
+                result.print(System.out);
+                userCount = sessions;
+            }
+            steadyState.report().print(System.out);
+            LocustStatsExporter.writeIfConfigured(filePrefix + "_stats.json", engine.getStats(),
+                    result.getElapsed(), userCount);
+            GateReport gate = RegressionGate.checkIfConfigured(filePrefix, engine.getStats(), result.getElapsed(), userCount);
+            if (gate != null) {
+                gate.print(System.out);
+                if (!gate.isPassed()) {
+                    throw new IllegalStateException("Performance regression against the baseline: " + gate.getRegressions());
+                }
+            }
+        }
+    }
+}
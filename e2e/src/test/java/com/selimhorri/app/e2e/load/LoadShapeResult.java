@@ -0,0 +1,155 @@
+package com.selimhorri.app.e2e.load;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Outcome of a shaped load run: the usual LoadResult plus the target versus achieved series
+ */
+public class LoadShapeResult {
+
+    // A sample is behind when it fell more than one session (or iteration/s) short of this share of its target
+    private static final double BEHIND_RATIO = 0.95;
+    private static final int MAX_PRINTED_SAMPLES = 40;
+
+    private final LoadProfile profile;
+    private final LoadResult load;
+    private final List<Sample> samples;
+    private final long dropped;
+    private final double maxLagMillis;
+
+    public LoadShapeResult(LoadProfile profile, LoadResult load, List<Sample> samples, long dropped, double maxLagMillis) {
+        this.profile = profile;
+        this.load = load;
+        this.samples = List.copyOf(samples);
+        this.dropped = dropped;
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    public LoadProfile getProfile() {
+        return profile;
+    }
+
+    public LoadResult getLoad() {
+        return load;
+    }
+
+    public List<Sample> getSamples() {
+        return samples;
+    }
+
+    /**
+     * @return Arrivals skipped because maxInFlight iterations were outstanding (ARRIVAL_RATE only)
+     */
+    public long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * @return Latest a scheduler tick started after its due time
+     */
+    public double getMaxLagMillis() {
+        return maxLagMillis;
+    }
+
+    /**
+     * @return Samples that fell short of 95% of their target
+     */
+    public long getBehindSamples() {
+        return samples.stream().filter(Sample::isBehind).count();
+    }
+
+    public void print(PrintStream out) {
+        String unit = profile.getMode() == LoadProfile.Mode.CONCURRENCY ? "sessions" : "iter/s";
+        out.println("\n📐 LOAD SHAPE: " + profile);
+        out.println("=====================================");
+        out.printf("%9s %12s %12s %12s %9s%n", "Time(s)", "Target", "Achieved", "Iter/s", "InFlight");
+        int stride = Math.max(1, (samples.size() + MAX_PRINTED_SAMPLES - 1) / MAX_PRINTED_SAMPLES);
+        for (int i = 0; i < samples.size(); i += stride) {
+            Sample sample = samples.get(i);
+            out.printf("%9.1f %12.1f %12.1f %12.1f %9d%s%n", sample.getElapsedMillis() / 1000.0, sample.getTarget(),
+                    sample.getAchieved(), sample.getThroughput(), sample.getInFlight(), sample.isBehind() ? "  ⚠️" : "");
+        }
+        out.printf("(target and achieved in %s%s)%n", unit, stride > 1 ? ", one row every " + stride + " samples" : "");
+        out.printf("Behind target: %d of %d samples, dropped arrivals: %d, max tick lag: %.1fms%n",
+                getBehindSamples(), samples.size(), dropped, maxLagMillis);
+        out.println("=====================================");
+        load.print(out);
+    }
+
+    /**
+     * Write every sample as CSV: elapsed_ms,target,achieved,iterations_per_s,in_flight
+     */
+    public void writeCsv(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            writer.println("elapsed_ms,target,achieved,iterations_per_s,in_flight");
+            for (Sample sample : samples) {
+                writer.println(String.format(Locale.ROOT, "%d,%.3f,%.3f,%.3f,%d", sample.getElapsedMillis(),
+                        sample.getTarget(), sample.getAchieved(), sample.getThroughput(), sample.getInFlight()));
+            }
+        }
+    }
+
+    /**
+     * Target and achieved values averaged over one sample interval
+     */
+    public static class Sample {
+
+        private final long elapsedMillis;
+        private final double target;
+        private final double achieved;
+        private final double throughput;
+        private final int inFlight;
+
+        public Sample(long elapsedMillis, double target, double achieved, double throughput, int inFlight) {
+            this.elapsedMillis = elapsedMillis;
+            this.target = target;
+            this.achieved = achieved;
+            this.throughput = throughput;
+            this.inFlight = inFlight;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        /**
+         * @return Sessions or iterations per second asked for by the profile
+         */
+        public double getTarget() {
+            return target;
+        }
+
+        /**
+         * @return Sessions running, or iterations per second actually started
+         */
+        public double getAchieved() {
+            return achieved;
+        }
+
+        /**
+         * @return Iterations completed per second
+         */
+        public double getThroughput() {
+            return throughput;
+        }
+
+        public int getInFlight() {
+            return inFlight;
+        }
+
+        public boolean isBehind() {
+            return achieved + 1 < target * BEHIND_RATIO;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.selimhorri.app.e2e.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a LoadEngine through a LoadProfile, re-evaluating the target every tick (default 100ms)
+ * In CONCURRENCY mode the engine's session count follows the target. In ARRIVAL_RATE mode
+ * iterations are started through LoadEngine.arrive() as they fall due; time lost to a late
+ * tick is caught up on the next one, and arrivals beyond maxInFlight are dropped and counted,
+ * so a saturated system cannot silently lower the offered rate.
+ * Every sample interval (default 1s) the average target is recorded next to what was achieved,
+ * together with how late the ticks ran, which shows when the generator itself falls behind.
+ */
+public class LoadShapeScheduler {
+
+    private final LoadEngine engine;
+    private final long tickNanos;
+    private final long sampleNanos;
+    private final int maxInFlight;
+
+    /**
+     * @param engine Engine running the scenario; must not have been started
+     * @param tick Interval between target updates
+     * @param sample Interval between recorded target/achieved samples
+     * @param maxInFlight In ARRIVAL_RATE mode, arrivals outstanding before new ones are dropped
+     */
+    public LoadShapeScheduler(LoadEngine engine, Duration tick, Duration sample, int maxInFlight) {
+        this.engine = engine;
+        this.tickNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(1), tick.toNanos());
+        this.sampleNanos = Math.max(tickNanos, sample.toNanos());
+        this.maxInFlight = Math.max(1, maxInFlight);
+    }
+
+    public LoadShapeScheduler(LoadEngine engine) {
+        this(engine, Duration.ofMillis(100), Duration.ofSeconds(1), 10_000);
+    }
+
+    /**
+     * Run the profile to its end, then drain in-flight iterations for up to 30 seconds
+     */
+    public LoadShapeResult run(LoadProfile profile) throws InterruptedException {
+        boolean arrivals = profile.getMode() == LoadProfile.Mode.ARRIVAL_RATE;
+        long durationNanos = profile.getDuration().toNanos();
+        List<LoadShapeResult.Sample> samples = new ArrayList<>();
+        long dropped = 0;
+        long maxLagNanos = 0;
+        double due = 0;
+
+        double targetSum = 0;
+        int ticksInSample = 0;
+        long startedInSample = 0;
+        long iterationsAtSample = 0;
+
+        engine.start();
+        long startNanos = System.nanoTime();
+        long previousNanos = startNanos;
+        long sampleStartNanos = startNanos;
+        for (long tick = 0; ; tick++) {
+            long scheduledNanos = startNanos + tick * tickNanos;
+            long nowNanos = System.nanoTime();
+            long elapsedNanos = nowNanos - startNanos;
+            if (elapsedNanos >= durationNanos) {
+                break;
+            }
+            maxLagNanos = Math.max(maxLagNanos, nowNanos - scheduledNanos);
+
+            double target = profile.targetAt(Duration.ofNanos(elapsedNanos));
+            if (arrivals) {
+                due += target * (nowNanos - previousNanos) / 1_000_000_000.0;
+                for (; due >= 1; due--) {
+                    if (engine.getArrivalsInFlight() >= maxInFlight) {
+                        dropped++;
+                    } else if (engine.arrive()) {
+                        startedInSample++;
+                    }
+                }
+            } else {
+                engine.setConcurrency((int) Math.round(target));
+            }
+            previousNanos = nowNanos;
+            targetSum += target;
+            ticksInSample++;
+
+            if (nowNanos - sampleStartNanos >= sampleNanos) {
+                double seconds = (nowNanos - sampleStartNanos) / 1_000_000_000.0;
+                long iterations = engine.getIterations();
+                double achieved = arrivals ? startedInSample / seconds : engine.getActiveSessions();
+                samples.add(new LoadShapeResult.Sample(
+                        TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                        targetSum / ticksInSample,
+                        achieved,
+                        (iterations - iterationsAtSample) / seconds,
+                        engine.getActiveSessions() + engine.getArrivalsInFlight()));
+                targetSum = 0;
+                ticksInSample = 0;
+                startedInSample = 0;
+                iterationsAtSample = iterations;
+                sampleStartNanos = nowNanos;
+            }
+
+            long sleepNanos = scheduledNanos + tickNanos - System.nanoTime();
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(sleepNanos);
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException("Load shape interrupted");
+            }
+        }
+        LoadResult result = engine.stop(Duration.ofSeconds(30));
+        return new LoadShapeResult(profile, result, samples, dropped, maxLagNanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,119 @@
+package com.selimhorri.app.e2e.load;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.selimhorri.app.e2e.util.JsonCodecs;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * Writes a StatsRegistry in the JSON schema of Locust's /stats/requests endpoint, so Java runs
+ * go through performance/metrics_analyzer.py unchanged and compare side by side with Locust runs
+ * One row per endpoint plus the "Aggregated" row. Rows are named "METHOD path", as in the Locust
+ * scripts (e.g. "GET /products/{id}"), so a POST and a PUT on the same path stay apart in the
+ * analyzer, which keys endpoints by name. Latencies in milliseconds, rates over the
+ * whole run (Locust's current_rps is a sliding window, a finished Java run reports its average).
+ * Files are only written when -De2e.locustStats.dir is set.
+ */
+public final class LocustStatsExporter {
+
+    public static final String DIR_PROPERTY = "e2e.locustStats.dir";
+    public static final String AGGREGATED = "Aggregated";
+
+    private LocustStatsExporter() {
+    }
+
+    /**
+     * Write the stats to [e2e.locustStats.dir]/[fileName] when that property is set
+     * @param userCount Concurrent sessions of the run, reported as Locust's user_count
+     * @return Written file, or null when exporting is not configured
+     */
+    public static Path writeIfConfigured(String fileName, StatsRegistry stats, Duration elapsed, int userCount) {
+        String dir = System.getProperty(DIR_PROPERTY);
+        if (dir == null || dir.isEmpty()) {
+            return null;
+        }
+        Path file = Paths.get(dir, fileName);
+        try {
+            write(file, stats, elapsed, userCount);
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not write Locust stats to " + file + ": " + e.getMessage());
+            return null;
+        }
+        System.out.println("📄 Locust-compatible stats written to " + file);
+        return file;
+    }
+
+    public static void write(Path file, StatsRegistry stats, Duration elapsed, int userCount) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        JsonCodecs.mapper().writerWithDefaultPrettyPrinter().writeValue(file.toFile(), toJson(stats, elapsed, userCount));
+    }
+
+    public static ObjectNode toJson(StatsRegistry stats, Duration elapsed, int userCount) {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        ObjectNode root = JsonCodecs.mapper().createObjectNode();
+        ArrayNode rows = root.putArray("stats");
+
+        Histogram total = new Histogram(EndpointStats.HIGHEST_TRACKABLE_MICROS, EndpointStats.SIGNIFICANT_DIGITS);
+        long requests = 0;
+        long failures = 0;
+        for (EndpointStats endpoint : stats.all()) {
+            Histogram micros = endpoint.snapshot();
+            total.add(micros);
+            requests += endpoint.getRequests();
+            failures += endpoint.getFailures();
+            rows.add(row(endpoint.getMethod(), endpoint.getName(), endpoint.getRequests(), endpoint.getFailures(),
+                    micros, seconds));
+        }
+        rows.add(row("", AGGREGATED, requests, failures, total, seconds));
+
+        root.putArray("errors");
+        root.put("total_rps", rate(requests, seconds));
+        root.put("total_fail_per_sec", rate(failures, seconds));
+        root.put("fail_ratio", requests > 0 ? (double) failures / requests : 0.0);
+        root.put("current_response_time_percentile_50", percentile(total, 50.0));
+        root.put("current_response_time_percentile_95", percentile(total, 95.0));
+        root.put("user_count", userCount);
+        root.put("state", "stopped");
+        return root;
+    }
+
+    private static ObjectNode row(String method, String name, long requests, long failures, Histogram micros,
+                                  double seconds) {
+        ObjectNode row = JsonCodecs.mapper().createObjectNode();
+        String rowName = method.isEmpty() ? name : method + " " + name;
+        row.put("method", method);
+        row.put("name", rowName);
+        row.put("safe_name", rowName);
+        row.put("num_requests", requests);
+        row.put("num_failures", failures);
+        row.put("avg_response_time", micros.getTotalCount() > 0 ? micros.getMean() / 1000.0 : 0.0);
+        row.put("min_response_time", micros.getTotalCount() > 0 ? micros.getMinValue() / 1000.0 : 0.0);
+        row.put("max_response_time", micros.getMaxValue() / 1000.0);
+        row.put("current_rps", rate(requests, seconds));
+        row.put("current_fail_per_sec", rate(failures, seconds));
+        row.put("median_response_time", percentile(micros, 50.0));
+        row.put("ninetieth_response_time", percentile(micros, 90.0));
+        row.put("ninety_ninth_response_time", percentile(micros, 99.0));
+        row.put("response_time_percentile_0.95", percentile(micros, 95.0));
+        row.put("response_time_percentile_0.99", percentile(micros, 99.0));
+        row.put("avg_content_length", 0);
+        return row;
+    }
+
+    private static double percentile(Histogram micros, double percentile) {
+        return micros.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static double rate(long count, double seconds) {
+        return seconds > 0 ? count / seconds : 0.0;
+    }
+}
@@ -0,0 +1,101 @@
+package com.selimhorri.app.e2e.load;
+
+import com.selimhorri.app.e2e.model.CartDto;
+import com.selimhorri.app.e2e.model.CategoryDto;
+import com.selimhorri.app.e2e.model.OrderDto;
+import com.selimhorri.app.e2e.model.ProductDto;
+import com.selimhorri.app.e2e.model.UserDto;
+import com.selimhorri.app.e2e.util.UniqueIds;
+import com.selimhorri.app.e2e.util.UserDataHelper;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+
+import static com.selimhorri.app.e2e.load.ShoppingJourneyScenario.requiredId;
+
+/**
+ * Non-blocking counterpart of MultiServiceIntegrationE2ETest.testConcurrentMultiServiceOperations:
+ * create a user and a product in parallel, then optionally a cart for the user and an order
+ * for the cart
+ * Carts and orders are only created when cross-service flows are available, since the
+ * order service resolves users through Eureka discovery.
+ */
+public class MultiServiceCreationScenario implements Scenario {
+
+    public static final String USERS = ShoppingJourneyScenario.USERS;
+    public static final String PRODUCTS = ShoppingJourneyScenario.PRODUCTS;
+    public static final String CARTS = ShoppingJourneyScenario.CARTS;
+    public static final String ORDERS = ShoppingJourneyScenario.ORDERS;
+
+    private static final DateTimeFormatter ORDER_DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy__HH:mm:ss:SSSSSS");
+
+    private final boolean includeOrders;
+
+    /**
+     * @param includeOrders Whether to create a cart and an order after the user and product
+     */
+    public MultiServiceCreationScenario(boolean includeOrders) {
+        this.includeOrders = includeOrders;
+    }
+
+    @Override
+    public String getName() {
+        return includeOrders ? "Concurrent User/Product/Cart/Order Creation" : "Concurrent User/Product Creation";
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(LoadHttpClient client, int sessionId, long iteration) {
+        String uniqueId = UniqueIds.next();
+
+        CompletableFuture<Integer> userId = client.post(sessionId, USERS, USERS, userRequest(uniqueId), UserDto.class)
+                .thenApply(user -> requiredId(user.getUserId(), "userId"));
+        CompletableFuture<Integer> productId = client
+                .post(sessionId, PRODUCTS, PRODUCTS, productRequest(uniqueId), ProductDto.class)
+                .thenApply(product -> requiredId(product.getProductId(), "productId"));
+        CompletableFuture<Void> created = CompletableFuture.allOf(userId, productId);
+        if (!includeOrders) {
+            return created;
+        }
+
+        return created
+                .thenCompose(ignored -> client.post(sessionId, CARTS, CARTS, CartDto.forUser(userId.join()), CartDto.class))
+                .thenCompose(cart -> client.post(sessionId, ORDERS, ORDERS,
+                        orderRequest(uniqueId, requiredId(cart.getCartId(), "cartId")), OrderDto.class))
+                .thenApply(order -> {
+                    requiredId(order.getOrderId(), "orderId");
+                    return null;
+                });
+    }
+
+    private UserDto userRequest(String uniqueId) {
+        return UserDataHelper.createUser(
+                "Concurrent" + uniqueId,
+                "User",
+                "concurrent" + uniqueId + "@loadtest.com",
+                UniqueIds.phone("+1555"),
+                "concurrent" + uniqueId,
+                "ConcurrentSecure123!",
+                "https://example.com/concurrent.jpg");
+    }
+
+    private ProductDto productRequest(String uniqueId) {
+        ProductDto product = new ProductDto();
+        product.setProductTitle("ConcurrentProduct" + uniqueId);
+        product.setImageUrl("https://example.com/product.jpg");
+        product.setSku("CONC" + uniqueId);
+        product.setPriceUnit(19.99);
+        product.setQuantity(50);
+        product.setCategory(new CategoryDto(1));
+        return product;
+    }
+
+    private OrderDto orderRequest(String uniqueId, Integer cartId) {
+        OrderDto order = new OrderDto();
+        order.setOrderDate(LocalDateTime.now().format(ORDER_DATE_FORMAT));
+        order.setOrderDesc("Concurrent order " + uniqueId);
+        order.setOrderFee(24.99);
+        order.setCart(CartDto.withId(cartId));
+        return order;
+    }
+}
@@ -0,0 +1,40 @@
+package com.selimhorri.app.e2e.load;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Load scenario for the resilience benchmark: one lookup of a given order, sent through a
+ * client RetryPolicy
+ * The response has the same size on every iteration, unlike the order list, which grows with
+ * everything the suite has created. An iteration is one logical request; the policy counts
+ * the attempts it took.
+ */
+public class OrderLookupScenario implements Scenario {
+
+    public static final String ORDER_BY_ID = ShoppingJourneyScenario.ORDER_BY_ID;
+
+    private final RetryPolicy retryPolicy;
+    private final String path;
+
+    /**
+     * @param orderId Existing order looked up on every iteration
+     */
+    public OrderLookupScenario(RetryPolicy retryPolicy, int orderId) {
+        this.retryPolicy = retryPolicy;
+        this.path = ShoppingJourneyScenario.ORDERS + "/" + orderId;
+    }
+
+    @Override
+    public String getName() {
+        return "Order Lookup with Client Retries";
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(LoadHttpClient client, int sessionId, long iteration) {
+        return retryPolicy.execute(() -> client.get(sessionId, ORDER_BY_ID, path)).thenAccept(order -> { });
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+}
@@ -0,0 +1,108 @@
+package com.selimhorri.app.e2e.load;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Client-side retries the way a typical service client does them: a timeout per attempt, then
+ * up to maxRetries more attempts after a 5xx, a timeout or a connection error, with exponential
+ * backoff and full jitter. 4xx responses are not retried.
+ * An attempt given up on by its timeout keeps running on the server, which is what makes
+ * retries multiply load when a backend slows down. Defaults can be overridden with
+ *   -De2e.retry.max=2 -De2e.retry.timeoutMs=1000 -De2e.retry.backoffMs=50
+ */
+public class RetryPolicy {
+
+    private final int maxRetries;
+    private final Duration attemptTimeout;
+    private final Duration backoff;
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+
+    /**
+     * @param maxRetries Attempts after the first one; 0 disables retries
+     * @param attemptTimeout Time after which an attempt counts as failed
+     * @param backoff Base delay, doubled after each retry and drawn uniformly below that
+     */
+    public RetryPolicy(int maxRetries, Duration attemptTimeout, Duration backoff) {
+        this.maxRetries = Math.max(0, maxRetries);
+        this.attemptTimeout = attemptTimeout;
+        this.backoff = backoff;
+    }
+
+    public static RetryPolicy fromSystemProperties() {
+        return new RetryPolicy(
+                Integer.getInteger("e2e.retry.max", 2),
+                Duration.ofMillis(Long.getLong("e2e.retry.timeoutMs", 1_000L)),
+                Duration.ofMillis(Long.getLong("e2e.retry.backoffMs", 50L)));
+    }
+
+    /**
+     * @param attempt Sends one attempt; called again for every retry
+     * @return Result of the first successful attempt, or the failure of the last one
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> attempt) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        run(attempt, 0, result);
+        return result;
+    }
+
+    /**
+     * @return Attempts sent so far, retries included
+     */
+    public long getAttempts() {
+        return attempts.sum();
+    }
+
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    private <T> void run(Supplier<CompletableFuture<T>> attempt, int retry, CompletableFuture<T> result) {
+        attempts.increment();
+        CompletableFuture<T> future;
+        try {
+            future = attempt.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        // A copy, so the timeout abandons the attempt without cancelling the request itself
+        future.copy().orTimeout(attemptTimeout.toMillis(), TimeUnit.MILLISECONDS).whenComplete((value, error) -> {
+            if (error == null) {
+                result.complete(value);
+            } else if (retry < maxRetries && isRetryable(error)) {
+                retries.increment();
+                long bound = backoff.toNanos() << retry;
+                long delay = bound > 0 ? ThreadLocalRandom.current().nextLong(bound) : 0L;
+                Executor delayed = CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS);
+                delayed.execute(() -> run(attempt, retry + 1, result));
+            } else {
+                result.completeExceptionally(error);
+            }
+        });
+    }
+
+    private static boolean isRetryable(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof TimeoutException) {
+            return true;
+        }
+        if (cause instanceof LoadRequestException) {
+            int status = ((LoadRequestException) cause).getStatusCode();
+            // -1: no response at all, e.g. a reset or refused connection
+            return status >= 500 || status == -1;
+        }
+        return false;
+    }
+}
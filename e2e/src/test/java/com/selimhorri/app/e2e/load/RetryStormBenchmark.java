@@ -0,0 +1,175 @@
+package com.selimhorri.app.e2e.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Measures retry amplification: how many requests each hop receives per request the client
+ * issues, while a backend is made slow or failing
+ * Logical requests arrive at a fixed rate through LoadEngine.arrive(), so a struggling backend
+ * cannot slow the offered load down, just as real users keep coming. The run goes through
+ * phases (e.g. healthy, degraded, recovered), each applying its fault when it starts. Every
+ * sample interval (default 1s) and at every phase end, the issued requests, the client's
+ * attempts, the arrivals counted by each hop and the goodput are recorded.
+ */
+public class RetryStormBenchmark {
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final LoadEngine engine;
+    private final double rate;
+    private final Map<String, LongSupplier> hops;
+    private final long sampleNanos;
+    private final int maxInFlight;
+
+    /**
+     * @param engine Engine whose scenario sends its requests through retryPolicy; must not have been started
+     * @param retryPolicy Client retries, whose attempts are the first hop
+     * @param rate Logical requests per second
+     * @param hops Cumulative arrival counters of the hops behind the client, in path order,
+     *             e.g. the stub's gateway and service counters
+     */
+    public RetryStormBenchmark(LoadEngine engine, RetryPolicy retryPolicy, double rate, Map<String, LongSupplier> hops) {
+        this(engine, retryPolicy, rate, hops, Duration.ofSeconds(1), 10_000);
+    }
+
+    public RetryStormBenchmark(LoadEngine engine, RetryPolicy retryPolicy, double rate, Map<String, LongSupplier> hops,
+                               Duration sample, int maxInFlight) {
+        this.engine = engine;
+        this.rate = rate;
+        this.hops = new LinkedHashMap<>();
+        this.hops.put("client", retryPolicy::getAttempts);
+        this.hops.putAll(hops);
+        this.sampleNanos = Math.max(TICK_NANOS, sample.toNanos());
+        this.maxInFlight = Math.max(1, maxInFlight);
+    }
+
+    /**
+     * Run every phase in turn, then drain in-flight requests for up to 30 seconds
+     */
+    public RetryStormResult run(List<Phase> phases) throws InterruptedException {
+        List<RetryStormResult.Sample> samples = new ArrayList<>();
+        List<RetryStormResult.Sample> phaseTotals = new ArrayList<>();
+        long dropped = 0;
+        double due = 0;
+
+        engine.start();
+        long runStartNanos = System.nanoTime();
+        long previousNanos = runStartNanos;
+        for (Phase phase : phases) {
+            phase.apply.run();
+            long phaseStartNanos = System.nanoTime();
+            long phaseEndNanos = phaseStartNanos + phase.duration.toNanos();
+            Counters phaseStart = counters();
+            Counters sampleStart = phaseStart;
+            long sampleStartNanos = phaseStartNanos;
+            long issuedInPhase = 0;
+            long issuedInSample = 0;
+            for (long tick = 0; ; tick++) {
+                long nowNanos = System.nanoTime();
+                due += rate * (nowNanos - previousNanos) / 1_000_000_000.0;
+                previousNanos = nowNanos;
+                for (; due >= 1; due--) {
+                    if (engine.getArrivalsInFlight() >= maxInFlight) {
+                        dropped++;
+                    } else if (engine.arrive()) {
+                        issuedInPhase++;
+                        issuedInSample++;
+                    }
+                }
+
+                boolean phaseOver = nowNanos >= phaseEndNanos;
+                if (phaseOver || nowNanos - sampleStartNanos >= sampleNanos) {
+                    Counters now = counters();
+                    samples.add(now.minus(sampleStart, phase.name, sampleStartNanos - runStartNanos,
+                            nowNanos - sampleStartNanos, issuedInSample));
+                    sampleStart = now;
+                    sampleStartNanos = nowNanos;
+                    issuedInSample = 0;
+                    if (phaseOver) {
+                        phaseTotals.add(now.minus(phaseStart, phase.name, phaseStartNanos - runStartNanos,
+                                nowNanos - phaseStartNanos, issuedInPhase));
+                        break;
+                    }
+                }
+
+                long sleepNanos = phaseStartNanos + (tick + 1) * TICK_NANOS - System.nanoTime();
+                if (sleepNanos > 0) {
+                    LockSupport.parkNanos(sleepNanos);
+                }
+                if (Thread.interrupted()) {
+                    throw new InterruptedException("Retry storm benchmark interrupted");
+                }
+            }
+        }
+        engine.stop(Duration.ofSeconds(30));
+        return new RetryStormResult(new ArrayList<>(hops.keySet()), samples, phaseTotals, dropped);
+    }
+
+    private Counters counters() {
+        long[] arrivals = new long[hops.size()];
+        int i = 0;
+        for (LongSupplier hop : hops.values()) {
+            arrivals[i++] = hop.getAsLong();
+        }
+        long completed = engine.getIterations();
+        long failed = engine.getFailedIterations();
+        return new Counters(arrivals, completed - failed, failed);
+    }
+
+    /**
+     * A stretch of the run under one backend condition
+     */
+    public static final class Phase {
+
+        private final String name;
+        private final Duration duration;
+        private final Runnable apply;
+
+        /**
+         * @param apply Puts the backend into this phase's condition, e.g. injects latency into the stub
+         */
+        public Phase(String name, Duration duration, Runnable apply) {
+            this.name = name;
+            this.duration = duration;
+            this.apply = apply;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    /**
+     * Cumulative counters at some instant
+     */
+    private static final class Counters {
+
+        private final long[] arrivals;
+        private final long succeeded;
+        private final long failed;
+
+        private Counters(long[] arrivals, long succeeded, long failed) {
+            this.arrivals = arrivals;
+            this.succeeded = succeeded;
+            this.failed = failed;
+        }
+
+        private RetryStormResult.Sample minus(Counters earlier, String phase, long startNanos, long lengthNanos,
+                                              long issued) {
+            long[] delta = new long[arrivals.length];
+            for (int i = 0; i < arrivals.length; i++) {
+                delta[i] = arrivals[i] - earlier.arrivals[i];
+            }
+            return new RetryStormResult.Sample(phase, TimeUnit.NANOSECONDS.toMillis(startNanos),
+                    lengthNanos / 1_000_000_000.0, issued, delta, succeeded - earlier.succeeded,
+                    failed - earlier.failed);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.selimhorri.app.e2e.load;
+
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Outcome of a RetryStormBenchmark: per-phase totals and the sample series
+ * Amplification of a hop is the requests it received per logical request issued; goodput is
+ * logical requests completed successfully per second.
+ */
+public class RetryStormResult {
+
+    private static final int MAX_PRINTED_SAMPLES = 40;
+
+    private final List<String> hops;
+    private final List<Sample> samples;
+    private final List<Sample> phases;
+    private final long dropped;
+
+    public RetryStormResult(List<String> hops, List<Sample> samples, List<Sample> phases, long dropped) {
+        this.hops = List.copyOf(hops);
+        this.samples = List.copyOf(samples);
+        this.phases = List.copyOf(phases);
+        this.dropped = dropped;
+    }
+
+    /**
+     * @return Hop names in path order, starting with "client" (the client's attempts)
+     */
+    public List<String> getHops() {
+        return hops;
+    }
+
+    public List<Sample> getSamples() {
+        return samples;
+    }
+
+    /**
+     * @return One sample spanning each phase
+     */
+    public List<Sample> getPhases() {
+        return phases;
+    }
+
+    public Sample getPhase(String name) {
+        for (Sample phase : phases) {
+            if (phase.getPhase().equals(name)) {
+                return phase;
+            }
+        }
+        throw new IllegalArgumentException("No phase named " + name);
+    }
+
+    public double getAmplification(String phase, String hop) {
+        return getPhase(phase).getAmplification(hopIndex(hop));
+    }
+
+    /**
+     * @return Logical requests skipped because too many were in flight
+     */
+    public long getDropped() {
+        return dropped;
+    }
+
+    public void print(PrintStream out) {
+        out.println("\n🌪️ RETRY STORM");
+        out.println("=====================================");
+        printHeader(out, "Phase");
+        for (Sample phase : phases) {
+            printRow(out, phase.getPhase(), phase);
+        }
+        out.println();
+        printHeader(out, "Time(s)");
+        int stride = Math.max(1, (samples.size() + MAX_PRINTED_SAMPLES - 1) / MAX_PRINTED_SAMPLES);
+        for (int i = 0; i < samples.size(); i += stride) {
+            Sample sample = samples.get(i);
+            printRow(out, String.format("%.1f %s", sample.getStartMillis() / 1000.0, sample.getPhase()), sample);
+        }
+        out.printf("(hop columns: requests received per request issued%s)%n",
+                stride > 1 ? ", one row every " + stride + " samples" : "");
+        out.printf("Dropped logical requests: %d%n", dropped);
+        out.println("=====================================");
+    }
+
+    private void printHeader(PrintStream out, String first) {
+        out.printf("%-22s %9s", first, "Issued/s");
+        for (String hop : hops) {
+            out.printf(" %14s", hop);
+        }
+        out.printf(" %10s %9s%n", "Goodput/s", "Failed");
+    }
+
+    private void printRow(PrintStream out, String label, Sample sample) {
+        out.printf("%-22s %9.1f", label, sample.getIssuedRate());
+        for (int i = 0; i < hops.size(); i++) {
+            out.printf(" %13.2fx", sample.getAmplification(i));
+        }
+        out.printf(" %10.1f %9d%n", sample.getGoodput(), sample.getFailed());
+    }
+
+    private int hopIndex(String hop) {
+        int index = hops.indexOf(hop);
+        if (index < 0) {
+            throw new IllegalArgumentException("No hop named " + hop);
+        }
+        return index;
+    }
+
+    /**
+     * Counts over one interval of the run
+     */
+    public static class Sample {
+
+        private final String phase;
+        private final long startMillis;
+        private final double seconds;
+        private final long issued;
+        private final long[] arrivals;
+        private final long succeeded;
+        private final long failed;
+
+        public Sample(String phase, long startMillis, double seconds, long issued, long[] arrivals,
+                      long succeeded, long failed) {
+            this.phase = phase;
+            this.startMillis = startMillis;
+            this.seconds = seconds;
+            this.issued = issued;
+            this.arrivals = arrivals;
+            this.succeeded = succeeded;
+            this.failed = failed;
+        }
+
+        public String getPhase() {
+            return phase;
+        }
+
+        /**
+         * @return Start of the interval, from the start of the run
+         */
+        public long getStartMillis() {
+            return startMillis;
+        }
+
+        public double getSeconds() {
+            return seconds;
+        }
+
+        /**
+         * @return Logical requests issued by the client in the interval
+         */
+        public long getIssued() {
+            return issued;
+        }
+
+        public double getIssuedRate() {
+            return seconds > 0 ? issued / seconds : 0.0;
+        }
+
+        /**
+         * @param hop Index in RetryStormResult.getHops()
+         * @return Requests the hop received in the interval
+         */
+        public long getArrivals(int hop) {
+            return arrivals[hop];
+        }
+
+        /**
+         * @return Requests the hop received per logical request issued in the same interval
+         */
+        public double getAmplification(int hop) {
+            return issued > 0 ? (double) arrivals[hop] / issued : 0.0;
+        }
+
+        /**
+         * @return Logical requests completed successfully per second, retries notwithstanding
+         */
+        public double getGoodput() {
+            return seconds > 0 ? succeeded / seconds : 0.0;
+        }
+
+        public long getSucceeded() {
+            return succeeded;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+    }
+}
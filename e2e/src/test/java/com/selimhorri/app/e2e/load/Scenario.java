@@ -0,0 +1,22 @@
+package com.selimhorri.app.e2e.load;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A user journey executed repeatedly by every load session
+ * Implementations must not block: each step should be chained on the futures returned
+ * by LoadHttpClient so a session never holds a thread while waiting on the network.
+ */
+public interface Scenario {
+
+    String getName();
+
+    /**
+     * Run one iteration of the journey
+     * @param client Shared non-blocking client
+     * @param sessionId Identifier of the virtual user running the iteration
+     * @param iteration Zero-based iteration number within the session
+     * @return Future completing when the iteration finishes, exceptionally if any step failed
+     */
+    CompletableFuture<Void> execute(LoadHttpClient client, int sessionId, long iteration);
+}
@@ -0,0 +1,127 @@
+package com.selimhorri.app.e2e.load;
+
+import com.selimhorri.app.e2e.corpus.TestDataCorpus;
+import com.selimhorri.app.e2e.model.CartDto;
+import com.selimhorri.app.e2e.model.CategoryDto;
+import com.selimhorri.app.e2e.model.OrderDto;
+import com.selimhorri.app.e2e.model.ProductDto;
+import com.selimhorri.app.e2e.model.UserDto;
+import com.selimhorri.app.e2e.util.UniqueIds;
+import com.selimhorri.app.e2e.util.UserDataHelper;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Load scenario mirroring ECommerceShoppingFlowE2ETest.testCompleteShoppingJourney:
+ * register user → create product → browse product → create cart → view cart →
+ * place order → view order
+ * The order history listing is left out because its cost grows with every iteration.
+ * Requests and responses are typed DTOs so no intermediate maps or trees are built.
+ * With -De2e.corpus=[file] each iteration takes its user, product and order fields from one
+ * record of the pre-generated test data corpus instead of synthesizing them.
+ */
+public class ShoppingJourneyScenario implements Scenario {
+
+    public static final String USERS = "/user-service/api/users";
+    public static final String PRODUCTS = "/product-service/api/products";
+    public static final String PRODUCT_BY_ID = "/product-service/api/products/[id]";
+    public static final String CARTS = "/order-service/api/carts";
+    public static final String CART_BY_ID = "/order-service/api/carts/[id]";
+    public static final String ORDERS = "/order-service/api/orders";
+    public static final String ORDER_BY_ID = "/order-service/api/orders/[id]";
+
+    private static final DateTimeFormatter ORDER_DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy__HH:mm:ss:SSSSSS");
+
+    private final TestDataCorpus corpus = TestDataCorpus.isConfigured() ? TestDataCorpus.shared() : null;
+
+    @Override
+    public String getName() {
+        return "Complete Shopping Journey";
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(LoadHttpClient client, int sessionId, long iteration) {
+        long record = corpus != null ? corpus.next() : -1;
+        String uniqueId = corpus != null ? null : UniqueIds.next();
+        JourneyState state = new JourneyState();
+
+        return client.post(sessionId, USERS, USERS, userRequest(uniqueId, record), UserDto.class)
+                .thenCompose(user -> {
+                    state.userId = requiredId(user.getUserId(), "userId");
+                    return client.post(sessionId, PRODUCTS, PRODUCTS, productRequest(uniqueId, record),
+                            ProductDto.class);
+                })
+                .thenCompose(product -> {
+                    state.productId = requiredId(product.getProductId(), "productId");
+                    return client.get(sessionId, PRODUCT_BY_ID, PRODUCTS + "/" + state.productId, ProductDto.class);
+                })
+                .thenCompose(product -> client.post(sessionId, CARTS, CARTS, CartDto.forUser(state.userId), CartDto.class))
+                .thenCompose(cart -> {
+                    state.cartId = requiredId(cart.getCartId(), "cartId");
+                    return client.get(sessionId, CART_BY_ID, CARTS + "/" + state.cartId, CartDto.class);
+                })
+                .thenCompose(cart -> client.post(sessionId, ORDERS, ORDERS,
+                        orderRequest(uniqueId, record, state.cartId), OrderDto.class))
+                .thenCompose(order -> {
+                    Integer orderId = requiredId(order.getOrderId(), "orderId");
+                    return client.get(sessionId, ORDER_BY_ID, ORDERS + "/" + orderId, OrderDto.class);
+                })
+                .thenApply(order -> null);
+    }
+
+    private UserDto userRequest(String uniqueId, long record) {
+        if (corpus != null) {
+            return corpus.user(record);
+        }
+        return UserDataHelper.createUser(
+                "Shopper" + uniqueId,
+                "Customer",
+                "shopper" + uniqueId + "@loadtest.com",
+                UniqueIds.phone("+1555"),
+                "shopper" + uniqueId,
+                "ShopSecure123!",
+                "https://example.com/shopper.jpg");
+    }
+
+    private ProductDto productRequest(String uniqueId, long record) {
+        if (corpus != null) {
+            return corpus.product(record);
+        }
+        ProductDto product = new ProductDto();
+        product.setProductTitle("LoadTestProduct" + uniqueId);
+        product.setImageUrl("https://example.com/product.jpg");
+        product.setSku("LOAD" + uniqueId);
+        product.setPriceUnit(29.99);
+        product.setQuantity(100);
+        product.setCategory(new CategoryDto(1));
+        return product;
+    }
+
+    private OrderDto orderRequest(String uniqueId, long record, Integer cartId) {
+        String orderDate = LocalDateTime.now().format(ORDER_DATE_FORMAT);
+        if (corpus != null) {
+            return corpus.order(record, cartId, orderDate);
+        }
+        OrderDto order = new OrderDto();
+        order.setOrderDate(orderDate);
+        order.setOrderDesc("Load test order " + uniqueId);
+        order.setOrderFee(34.99);
+        order.setCart(CartDto.withId(cartId));
+        return order;
+    }
+
+    static Integer requiredId(Integer id, String field) {
+        if (id == null) {
+            throw new LoadRequestException("Response is missing " + field, 200);
+        }
+        return id;
+    }
+
+    private static final class JourneyState {
+        private Integer userId;
+        private Integer productId;
+        private Integer cartId;
+    }
+}
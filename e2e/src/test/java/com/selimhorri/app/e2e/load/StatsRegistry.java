@@ -0,0 +1,37 @@
+package com.selimhorri.app.e2e.load;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Thread-safe registry of per-endpoint statistics for one run
+ */
+public class StatsRegistry {
+
+    private final ConcurrentMap<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    public EndpointStats endpoint(String method, String name) {
+        String key = EndpointStats.key(method, name);
+        EndpointStats stats = endpoints.get(key);
+        if (stats == null) {
+            stats = endpoints.computeIfAbsent(key, k -> new EndpointStats(method, name));
+        }
+        return stats;
+    }
+
+    public void record(String method, String name, long durationNanos, boolean success) {
+        endpoint(method, name).record(durationNanos, success);
+    }
+
+    /**
+     * @return All endpoints seen so far, ordered by name then method
+     */
+    public List<EndpointStats> all() {
+        List<EndpointStats> result = new ArrayList<>(endpoints.values());
+        result.sort(Comparator.comparing(EndpointStats::getName).thenComparing(EndpointStats::getMethod));
+        return result;
+    }
+}
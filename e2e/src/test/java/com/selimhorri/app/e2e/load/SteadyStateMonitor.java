@@ -0,0 +1,175 @@
+package com.selimhorri.app.e2e.load;
+
+import com.selimhorri.app.e2e.util.SteadyStateDetector;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finds where a load run leaves warm-up, so its percentiles can be reported without the cold
+ * JITs, empty pools and cold caches of the first seconds
+ * Every interval (default 1s, -De2e.steady.intervalMs) the run's throughput and median latency
+ * over all endpoints go to a SteadyStateDetector. Cumulative stats are kept at the start of the
+ * intervals still under judgement; once steady state is detected, the ones at the start of the
+ * first stable interval become the warm-up/steady boundary and sampling stops. Warm-up is
+ * measured from the start of the monitor, so it includes any ramp-up.
+ */
+public class SteadyStateMonitor implements AutoCloseable {
+
+    public static final String INTERVAL_PROPERTY = "e2e.steady.intervalMs";
+
+    private final StatsRegistry stats;
+    private final SteadyStateDetector detector;
+    private final ScheduledExecutorService scheduler;
+    private final long startNanos;
+    // Cumulative stats at the start of each interval that may begin the stable run
+    private final Deque<Map<String, Cut>> pending = new ArrayDeque<>();
+    private final Deque<Long> pendingStarts = new ArrayDeque<>();
+    private Map<String, Cut> previous = new HashMap<>();
+    private long previousNanos;
+    private Map<String, Cut> boundary;
+    private long boundaryNanos;
+
+    public SteadyStateMonitor(StatsRegistry stats, SteadyStateDetector detector, Duration interval) {
+        this.stats = stats;
+        this.detector = detector;
+        this.startNanos = System.nanoTime();
+        this.previousNanos = startNanos;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "steady-state");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        scheduler.scheduleAtFixedRate(this::sample, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Start monitoring with the interval and detector settings from system properties
+     */
+    public static SteadyStateMonitor start(StatsRegistry stats) {
+        return new SteadyStateMonitor(stats, SteadyStateDetector.fromSystemProperties(),
+                Duration.ofMillis(Long.getLong(INTERVAL_PROPERTY, 1_000L)));
+    }
+
+    /**
+     * Split everything recorded so far at the warm-up boundary
+     * @return Warm-up and steady-state stats per endpoint; all warm-up if steady state was never reached
+     */
+    public synchronized WarmupReport report() {
+        long nowNanos = System.nanoTime();
+        Map<String, Cut> end = cut();
+        List<EndpointSummary> warmup = new ArrayList<>();
+        List<EndpointSummary> steady = new ArrayList<>();
+        long warmupNanos = (boundary != null ? boundaryNanos : nowNanos) - startNanos;
+        double warmupSeconds = warmupNanos / 1_000_000_000.0;
+        double steadySeconds = boundary != null ? (nowNanos - boundaryNanos) / 1_000_000_000.0 : 0.0;
+        for (Cut total : end.values()) {
+            Cut before = boundary != null ? boundary.get(total.key()) : total;
+            if (before != null && before.requests > 0) {
+                warmup.add(EndpointSummary.of(total.method, total.name, before.requests, before.failures,
+                        before.micros, warmupSeconds));
+            }
+            Cut after = before != null ? total.minus(before) : total;
+            if (after.requests > 0) {
+                steady.add(EndpointSummary.of(total.method, total.name, after.requests, after.failures,
+                        after.micros, steadySeconds));
+            }
+        }
+        return new WarmupReport(boundary != null, Duration.ofNanos(warmupNanos), warmup, steady);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private synchronized void sample() {
+        if (boundary != null) {
+            return;
+        }
+        long nowNanos = System.nanoTime();
+        Map<String, Cut> current = cut();
+        Histogram interval = new Histogram(EndpointStats.SIGNIFICANT_DIGITS);
+        long requests = 0;
+        for (Cut total : current.values()) {
+            Cut before = previous.get(total.key());
+            Cut delta = before != null ? total.minus(before) : total;
+            requests += delta.requests;
+            interval.add(delta.micros);
+        }
+        pending.addLast(previous);
+        pendingStarts.addLast(previousNanos);
+        previous = current;
+        previousNanos = nowNanos;
+
+        if (requests == 0) {
+            // An idle interval cannot be part of steady state, nor can anything before it
+            detector.reset();
+            pending.clear();
+            pendingStarts.clear();
+            return;
+        }
+        double seconds = (nowNanos - pendingStarts.getLast()) / 1_000_000_000.0;
+        if (detector.offer(requests / seconds, interval.getValueAtPercentile(50.0) / 1000.0)) {
+            boundary = pending.getFirst();
+            boundaryNanos = pendingStarts.getFirst();
+            pending.clear();
+            pendingStarts.clear();
+            scheduler.shutdown();
+        } else if (pending.size() == detector.getWindows()) {
+            pending.removeFirst();
+            pendingStarts.removeFirst();
+        }
+    }
+
+    private Map<String, Cut> cut() {
+        Map<String, Cut> cut = new LinkedHashMap<>();
+        for (EndpointStats endpoint : stats.all()) {
+            Cut endpointCut = new Cut(endpoint.getMethod(), endpoint.getName(), endpoint.getRequests(),
+                    endpoint.getFailures(), endpoint.snapshot());
+            cut.put(endpointCut.key(), endpointCut);
+        }
+        return cut;
+    }
+
+    /**
+     * Cumulative counters and latencies of one endpoint at some instant
+     */
+    private static final class Cut {
+
+        private final String method;
+        private final String name;
+        private final long requests;
+        private final long failures;
+        private final Histogram micros;
+
+        private Cut(String method, String name, long requests, long failures, Histogram micros) {
+            this.method = method;
+            this.name = name;
+            this.requests = requests;
+            this.failures = failures;
+            this.micros = micros;
+        }
+
+        private String key() {
+            return EndpointStats.key(method, name);
+        }
+
+        private Cut minus(Cut earlier) {
+            Histogram delta = micros.copy();
+            delta.subtract(earlier.micros);
+            return new Cut(method, name, requests - earlier.requests, failures - earlier.failures, delta);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.selimhorri.app.e2e.load;
+
+import com.selimhorri.app.e2e.model.UserDto;
+import com.selimhorri.app.e2e.util.UniqueIds;
+import com.selimhorri.app.e2e.util.UserDataHelper;
+
+import java.util.concurrent.CompletableFuture;
+
+import static com.selimhorri.app.e2e.load.ShoppingJourneyScenario.requiredId;
+
+/**
+ * Load scenario mirroring UserRegistrationFlowE2ETest.testCompleteUserRegistrationFlow:
+ * register user → retrieve user → update profile → verify the update
+ * Only the user service is involved, so it runs without Eureka discovery.
+ */
+public class UserRegistrationScenario implements Scenario {
+
+    public static final String USERS = ShoppingJourneyScenario.USERS;
+    public static final String USER_BY_ID = "/user-service/api/users/[id]";
+
+    @Override
+    public String getName() {
+        return "Complete User Registration Flow";
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(LoadHttpClient client, int sessionId, long iteration) {
+        UserDto registration = UserDataHelper.createUniqueUser("LoadUser");
+
+        return client.post(sessionId, USERS, USERS, registration, UserDto.class)
+                .thenCompose(user -> {
+                    Integer userId = requiredId(user.getUserId(), "userId");
+                    return client.get(sessionId, USER_BY_ID, USERS + "/" + userId, UserDto.class);
+                })
+                .thenCompose(user -> {
+                    UserDto update = new UserDto();
+                    update.setUserId(requiredId(user.getUserId(), "userId"));
+                    update.setFirstName("Updated" + UniqueIds.next());
+                    update.setLastName("UpdatedUser");
+                    update.setEmail(registration.getEmail());
+                    update.setPhone(UniqueIds.phone("+1999"));
+                    update.setImageUrl("https://example.com/updated_avatar.jpg");
+                    update.setCredential(registration.getCredential());
+                    return client.put(sessionId, USERS, USERS, update, UserDto.class)
+                            .thenCompose(updated -> client.get(sessionId, USER_BY_ID,
+                                    USERS + "/" + update.getUserId(), UserDto.class))
+                            .thenAccept(updated -> {
+                                if (!update.getFirstName().equals(updated.getFirstName())) {
+                                    throw new LoadRequestException("Profile update was not applied to user "
+                                            + update.getUserId(), 200);
+                                }
+                            });
+                });
+    }
+}
@@ -0,0 +1,90 @@
+package com.selimhorri.app.e2e.load;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * A load run split at the end of its warm-up, see SteadyStateMonitor
+ * Steady-state summaries are the numbers to compare between runs; the warm-up length and the
+ * warm-up latencies measure the services' cold-start cost.
+ */
+public class WarmupReport {
+
+    private final boolean steady;
+    private final Duration warmup;
+    private final List<EndpointSummary> warmupEndpoints;
+    private final List<EndpointSummary> steadyEndpoints;
+
+    public WarmupReport(boolean steady, Duration warmup, List<EndpointSummary> warmupEndpoints,
+                        List<EndpointSummary> steadyEndpoints) {
+        this.steady = steady;
+        this.warmup = warmup;
+        this.warmupEndpoints = warmupEndpoints;
+        this.steadyEndpoints = steadyEndpoints;
+    }
+
+    public boolean isSteady() {
+        return steady;
+    }
+
+    /**
+     * @return Time until steady state, or the whole run if it was never reached
+     */
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public long getWarmupRequests() {
+        return warmupEndpoints.stream().mapToLong(EndpointSummary::getRequests).sum();
+    }
+
+    public List<EndpointSummary> getWarmupEndpoints() {
+        return warmupEndpoints;
+    }
+
+    /**
+     * @return Per-endpoint stats after warm-up; empty if steady state was never reached
+     */
+    public List<EndpointSummary> getSteadyEndpoints() {
+        return steadyEndpoints;
+    }
+
+    public void print(PrintStream out) {
+        out.println("\n🔥 WARM-UP");
+        out.println("=====================================");
+        if (!steady) {
+            out.printf("Steady state not reached in %.1fs; every request above counts as warm-up%n",
+                    warmup.toMillis() / 1000.0);
+            out.println("=====================================");
+            return;
+        }
+        out.printf("Steady state after %.1fs and %d requests%n", warmup.toMillis() / 1000.0, getWarmupRequests());
+        out.printf("%-7s %-38s %9s %9s %9s %9s %9s %9s %9s%n",
+                "Method", "Name", "Warm-up", "Steady", "Req/s", "p50", "p95", "p99", "Warm p50");
+        for (EndpointSummary endpoint : steadyEndpoints) {
+            EndpointSummary cold = warmupFor(endpoint);
+            out.printf("%-7s %-38s %9d %9d %9.1f %9.2f %9.2f %9.2f %9s%n",
+                    endpoint.getMethod(),
+                    endpoint.getName(),
+                    cold != null ? cold.getRequests() : 0,
+                    endpoint.getRequests(),
+                    endpoint.getThroughput(),
+                    endpoint.getP50Millis(),
+                    endpoint.getP95Millis(),
+                    endpoint.getP99Millis(),
+                    cold != null ? String.format("%.2f", cold.getP50Millis()) : "-");
+        }
+        out.println("(steady-state latencies in ms)");
+        out.println("=====================================");
+    }
+
+    private EndpointSummary warmupFor(EndpointSummary endpoint) {
+        for (EndpointSummary cold : warmupEndpoints) {
+            if (cold.getMethod().equals(endpoint.getMethod()) && cold.getName().equals(endpoint.getName())) {
+                return cold;
+            }
+        }
+        return null;
+    }
+}
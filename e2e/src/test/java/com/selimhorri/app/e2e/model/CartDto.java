@@ -0,0 +1,52 @@
+package com.selimhorri.app.e2e.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Cart as sent to and returned by /order-service/api/carts, also nested in orders
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CartDto {
+
+    private Integer cartId;
+    private Integer userId;
+
+    public CartDto() {
+    }
+
+    /**
+     * Reference to an existing cart, as nested in order requests
+     */
+    public static CartDto withId(Integer cartId) {
+        CartDto cart = new CartDto();
+        cart.setCartId(cartId);
+        return cart;
+    }
+
+    /**
+     * Creation request for a cart owned by userId
+     */
+    public static CartDto forUser(Integer userId) {
+        CartDto cart = new CartDto();
+        cart.setUserId(userId);
+        return cart;
+    }
+
+    public Integer getCartId() {
+        return cartId;
+    }
+
+    public void setCartId(Integer cartId) {
+        this.cartId = cartId;
+    }
+
+    public Integer getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Integer userId) {
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,69 @@
+package com.selimhorri.app.e2e.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Credential nested in a user, as sent to and returned by the user service
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CredentialDto {
+
+    private Integer credentialId;
+    private String username;
+    private String password;
+    private String roleBasedAuthority;
+    @JsonProperty("isEnabled")
+    private Boolean enabled;
+
+    public CredentialDto() {
+    }
+
+    public CredentialDto(String username, String password, String roleBasedAuthority) {
+        this.username = username;
+        this.password = password;
+        this.roleBasedAuthority = roleBasedAuthority;
+    }
+
+    public Integer getCredentialId() {
+        return credentialId;
+    }
+
+    public void setCredentialId(Integer credentialId) {
+        this.credentialId = credentialId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public String getRoleBasedAuthority() {
+        return roleBasedAuthority;
+    }
+
+    public void setRoleBasedAuthority(String roleBasedAuthority) {
+        this.roleBasedAuthority = roleBasedAuthority;
+    }
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(Boolean enabled) {
+        this.enabled = enabled;
+    }
+}
@@ -0,0 +1,59 @@
+package com.selimhorri.app.e2e.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Order as sent to and returned by /order-service/api/orders
+ * orderDate is kept as the service's "dd-MM-yyyy__HH:mm:ss:SSSSSS" string.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OrderDto {
+
+    private Integer orderId;
+    private String orderDate;
+    private String orderDesc;
+    private Double orderFee;
+    private CartDto cart;
+
+    public Integer getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Integer orderId) {
+        this.orderId = orderId;
+    }
+
+    public String getOrderDate() {
+        return orderDate;
+    }
+
+    public void setOrderDate(String orderDate) {
+        this.orderDate = orderDate;
+    }
+
+    public String getOrderDesc() {
+        return orderDesc;
+    }
+
+    public void setOrderDesc(String orderDesc) {
+        this.orderDesc = orderDesc;
+    }
+
+    public Double getOrderFee() {
+        return orderFee;
+    }
+
+    public void setOrderFee(Double orderFee) {
+        this.orderFee = orderFee;
+    }
+
+    public CartDto getCart() {
+        return cart;
+    }
+
+    public void setCart(CartDto cart) {
+        this.cart = cart;
+    }
+}
@@ -0,0 +1,136 @@
+package com.selimhorri.app.e2e.seed;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Compact binary file of created entity ids so a seeded dataset can be reused by later runs
+ * Layout (big-endian): magic "E2EI", version, id count, then one 4-byte id per entity.
+ * A million ids take 4 MB; the count is written on close, so a file from an interrupted
+ * run reads back as empty instead of half-valid.
+ */
+public final class IdFile {
+
+    private static final int MAGIC = 0x45324549; // "E2EI"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 12;
+    private static final int BUFFER_IDS = 8192;
+
+    private IdFile() {
+    }
+
+    /**
+     * @return Ids stored in the file, in the order they were created
+     */
+    public static int[] read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            readFully(channel, header);
+            header.flip();
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("Not an id file: " + path);
+            }
+            int count = header.getInt();
+            ByteBuffer body = ByteBuffer.allocate(Math.multiplyExact(count, Integer.BYTES));
+            readFully(channel, body);
+            body.flip();
+            int[] ids = new int[count];
+            body.asIntBuffer().get(ids);
+            return ids;
+        }
+    }
+
+    /**
+     * @return Number of ids in the file, or 0 when it does not exist or is incomplete
+     */
+    public static int count(Path path) {
+        if (!Files.isRegularFile(path)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            readFully(channel, header);
+            header.flip();
+            return header.getInt() == MAGIC && header.getInt() == VERSION ? header.getInt() : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Open a writer that replaces any existing file at path
+     */
+    public static Writer create(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        return new Writer(FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING));
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Truncated id file");
+            }
+        }
+    }
+
+    /**
+     * Appends ids as they are created; safe to call from several threads
+     */
+    public static final class Writer implements Closeable {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_IDS * Integer.BYTES);
+        private int count;
+
+        private Writer(FileChannel channel) throws IOException {
+            this.channel = channel;
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putInt(VERSION).putInt(0).flip();
+            writeFully(header);
+        }
+
+        public synchronized void append(int id) throws IOException {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            buffer.putInt(id);
+            count++;
+        }
+
+        public synchronized int getCount() {
+            return count;
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            try {
+                flush();
+                ByteBuffer countBytes = ByteBuffer.allocate(Integer.BYTES);
+                countBytes.putInt(count).flip();
+                channel.write(countBytes, 8);
+            } finally {
+                channel.close();
+            }
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            writeFully(buffer);
+            buffer.clear();
+        }
+
+        private void writeFully(ByteBuffer bytes) throws IOException {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+    }
+}
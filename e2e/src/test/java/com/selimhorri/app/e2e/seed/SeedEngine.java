@@ -0,0 +1,229 @@
+package com.selimhorri.app.e2e.seed;
+
+import com.selimhorri.app.e2e.load.LoadHttpClient;
+import com.selimhorri.app.e2e.load.LoadRequestException;
+import com.selimhorri.app.e2e.load.StatsRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Creates large datasets (100k-1M entities) through the gateway with bounded parallelism
+ * A semaphore caps outstanding requests, so the producer blocks instead of queueing
+ * unbounded work when the services slow down. Transient failures (connection errors,
+ * 429 and 5xx) are retried with exponential backoff and jitter; for specs with a lookup a
+ * retry first checks whether the failed attempt created the entity after all. Progress and
+ * throughput are printed periodically and created ids are streamed to an IdFile for reuse.
+ * Seeded entities are left out of the CreatedResources cleanup, so the IdFile stays valid.
+ */
+public class SeedEngine implements AutoCloseable {
+
+    private static final long BASE_BACKOFF_MILLIS = 100;
+    private static final long MAX_BACKOFF_MILLIS = 5_000;
+
+    private final int concurrency;
+    private final int maxRetries;
+    private final Duration progressInterval;
+    private final StatsRegistry stats = new StatsRegistry();
+    private final Executor executor;
+    private final ScheduledExecutorService progressReporter;
+    private final LoadHttpClient client;
+
+    /**
+     * @param baseUrl Gateway URL
+     * @param concurrency Maximum requests in flight
+     * @param maxRetries Retries per entity for transient failures
+     */
+    public SeedEngine(String baseUrl, int concurrency, int maxRetries) {
+        this(baseUrl, concurrency, maxRetries, Duration.ofSeconds(5));
+    }
+
+    /**
+     * @param baseUrl Gateway URL
+     * @param concurrency Maximum requests in flight
+     * @param maxRetries Retries per entity for transient failures
+     * @param progressInterval How often progress is printed
+     */
+    public SeedEngine(String baseUrl, int concurrency, int maxRetries, Duration progressInterval) {
+        this.concurrency = Math.max(1, concurrency);
+        this.maxRetries = Math.max(0, maxRetries);
+        this.progressInterval = progressInterval;
+        int ioThreads = Runtime.getRuntime().availableProcessors();
+        this.progressReporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "seed-progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Spread the load over several JWT subjects like a real user base would; not tracked, later runs reuse the ids
+        this.client = LoadHttpClient.withDaemonExecutor(baseUrl, stats, "seed", ioThreads, 64, false);
+        this.executor = client.getExecutor();
+    }
+
+    /**
+     * Reuse the ids in idFile when it already holds at least count entities, otherwise seed
+     * @param idFile Where ids are read from or written to
+     */
+    public SeedResult seedOrReuse(SeedSpec<?> spec, int count, Path idFile) throws InterruptedException {
+        if (IdFile.count(idFile) >= count) {
+            try {
+                return new SeedResult(spec.getEntity(), count, Arrays.copyOf(IdFile.read(idFile), count), 0, 0,
+                        Duration.ZERO, true);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read " + idFile, e);
+            }
+        }
+        return seed(spec, count, idFile);
+    }
+
+    /**
+     * Create count entities of the spec
+     * @param idFile Where to write the created ids, or null to keep them in memory only
+     */
+    public SeedResult seed(SeedSpec<?> spec, int count, Path idFile) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(concurrency);
+        // Generated ids start at 1, so 0 marks an entity that could not be created
+        int[] ids = new int[count];
+        AtomicInteger created = new AtomicInteger();
+        LongAdder failed = new LongAdder();
+        LongAdder retries = new LongAdder();
+        long startNanos = System.nanoTime();
+
+        try (IdFile.Writer writer = idFile == null ? null : IdFile.create(idFile)) {
+            ScheduledFuture<?> progress = progressReporter.scheduleAtFixedRate(
+                    () -> printProgress(spec, count, created.get(), failed.sum(), retries.sum(),
+                            concurrency - inFlight.availablePermits(), startNanos),
+                    progressInterval.toMillis(), progressInterval.toMillis(), TimeUnit.MILLISECONDS);
+            try {
+                for (int i = 0; i < count; i++) {
+                    inFlight.acquire();
+                    int index = i;
+                    create(spec, index, 0, retries).whenComplete((id, error) -> {
+                        try {
+                            if (error != null) {
+                                failed.increment();
+                            } else {
+                                ids[index] = id;
+                                created.incrementAndGet();
+                                if (writer != null) {
+                                    writer.append(id);
+                                }
+                            }
+                        } catch (IOException e) {
+                            failed.increment();
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+                // Every permit back means every request has completed
+                inFlight.acquire(concurrency);
+                inFlight.release(concurrency);
+            } finally {
+                progress.cancel(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write " + idFile, e);
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        int[] createdIds = Arrays.stream(ids).filter(id -> id != 0).toArray();
+        return new SeedResult(spec.getEntity(), count, createdIds, failed.sum(), retries.sum(), elapsed, false);
+    }
+
+    /**
+     * @return Per-endpoint latency of the seeding requests
+     */
+    public StatsRegistry getStats() {
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        progressReporter.shutdownNow();
+        client.close();
+    }
+
+    private <T> CompletableFuture<Integer> create(SeedSpec<T> spec, int index, int attempt, LongAdder retries) {
+        T body = spec.body(index);
+        // An earlier attempt may have been committed with only its response lost
+        CompletableFuture<Integer> existing = attempt == 0
+                ? CompletableFuture.completedFuture(null)
+                : lookup(spec, index, body);
+        return existing
+                .thenCompose(found -> found != null
+                        ? CompletableFuture.completedFuture(found)
+                        : client.post(index, spec.getPath(), spec.getPath(), body, spec.getType())
+                                .thenApply(response -> requiredId(spec.id(response), spec.getIdField())))
+                .handle((id, error) -> {
+                    if (error == null) {
+                        return CompletableFuture.completedFuture(id);
+                    }
+                    if (attempt >= maxRetries || !isTransient(error)) {
+                        return CompletableFuture.<Integer>failedFuture(error);
+                    }
+                    retries.increment();
+                    return CompletableFuture.runAsync(() -> { },
+                                    CompletableFuture.delayedExecutor(backoffMillis(attempt), TimeUnit.MILLISECONDS, executor))
+                            .thenCompose(ignored -> create(spec, index, attempt + 1, retries));
+                })
+                .thenCompose(future -> future);
+    }
+
+    /**
+     * @return Id of the entity the spec's lookup finds for body, or null when it finds none or has no lookup
+     */
+    private <T> CompletableFuture<Integer> lookup(SeedSpec<T> spec, int index, T body) {
+        String path = spec.lookupPath(body);
+        if (path == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return client.get(index, spec.getPath() + " [lookup]", path, spec.getType())
+                .handle((found, error) -> error == null ? spec.id(found) : null);
+    }
+
+    private static int requiredId(Integer id, String field) {
+        if (id == null) {
+            throw new LoadRequestException("Response is missing " + field, 200);
+        }
+        return id;
+    }
+
+    private static boolean isTransient(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (!(cause instanceof LoadRequestException)) {
+            return false;
+        }
+        int status = ((LoadRequestException) cause).getStatusCode();
+        return status == -1 || status == 429 || status >= 500;
+    }
+
+    /**
+     * Exponential backoff with "equal jitter": half fixed, half random
+     */
+    private static long backoffMillis(int attempt) {
+        long ceiling = Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << Math.min(attempt, 16));
+        return ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+    }
+
+    private static void printProgress(SeedSpec<?> spec, int count, int created, long failed, long retries,
+                                      int inFlight, long startNanos) {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        System.out.println(String.format("🌱 %s: %d/%d (%.1f%%), %.1f/s, %d failed, %d retries, %d in flight",
+                spec.getEntity(), created, count, 100.0 * created / count, created / seconds, failed, retries,
+                inFlight));
+    }
+}
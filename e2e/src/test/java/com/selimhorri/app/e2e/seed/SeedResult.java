@@ -0,0 +1,83 @@
+package com.selimhorri.app.e2e.seed;
+
+import java.time.Duration;
+
+/**
+ * Outcome of seeding one entity type
+ */
+public class SeedResult {
+
+    private final String entity;
+    private final int requested;
+    private final int[] ids;
+    private final long failed;
+    private final long retries;
+    private final Duration elapsed;
+    private final boolean reused;
+
+    public SeedResult(String entity, int requested, int[] ids, long failed, long retries, Duration elapsed,
+                      boolean reused) {
+        this.entity = entity;
+        this.requested = requested;
+        this.ids = ids;
+        this.failed = failed;
+        this.retries = retries;
+        this.elapsed = elapsed;
+        this.reused = reused;
+    }
+
+    public String getEntity() {
+        return entity;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    /**
+     * @return Ids of the created (or reused) entities
+     */
+    public int[] getIds() {
+        return ids;
+    }
+
+    public int getCreated() {
+        return ids.length;
+    }
+
+    /**
+     * @return Entities that could not be created after all retries
+     */
+    public long getFailed() {
+        return failed;
+    }
+
+    public long getRetries() {
+        return retries;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * @return True when the ids were loaded from an existing id file instead of being created
+     */
+    public boolean isReused() {
+        return reused;
+    }
+
+    public double getThroughput() {
+        double seconds = elapsed.toNanos() / 1e9;
+        return seconds > 0 ? ids.length / seconds : 0.0;
+    }
+
+    @Override
+    public String toString() {
+        if (reused) {
+            return String.format("%s: reused %d ids from a previous run", entity, ids.length);
+        }
+        return String.format("%s: %d/%d created in %.1fs (%.1f/s), %d failed, %d retries",
+                entity, ids.length, requested, elapsed.toNanos() / 1e9, getThroughput(), failed, retries);
+    }
+}
@@ -0,0 +1,80 @@
+package com.selimhorri.app.e2e.seed;
+
+import com.selimhorri.app.e2e.corpus.TestDataCorpus;
+import com.selimhorri.app.e2e.util.E2EEnvironment;
+import com.selimhorri.app.e2e.util.UniqueIds;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Command-line entry point for seeding a dataset before performance runs
+ * Usage: mvn -Pseed test-compile exec:java -Dapi.gateway.url=http://localhost:8100 \
+ *            -Dseed.users=100000 -Dseed.products=100000 -Dseed.carts=50000 -Dseed.orders=50000 \
+ *            -Dseed.concurrency=64
+ * Ids are written to seed.dir (default target/seed) as users.ids, products.ids, carts.ids and
+ * orders.ids; when those files already hold enough ids they are reused unless -Dseed.reuse=false.
+ * Carts reference the seeded users and orders the seeded carts, so VerifyRunner can check the
+ * cross-service references; they need users.ids (resp. carts.ids) from this or an earlier run.
+ * With -De2e.corpus=[file] the bodies are read from the pre-generated test data corpus.
+ */
+public class SeedRunner {
+
+    public static void main(String[] args) throws InterruptedException {
+        String baseUrl = E2EEnvironment.isStubMode()
+                ? E2EEnvironment.gatewayUrl()
+                : System.getProperty("api.gateway.url", "http://localhost:8100");
+        int users = Integer.getInteger("seed.users", 0);
+        int products = Integer.getInteger("seed.products", 0);
+        int carts = Integer.getInteger("seed.carts", 0);
+        int orders = Integer.getInteger("seed.orders", 0);
+        int concurrency = Integer.getInteger("seed.concurrency", 64);
+        int retries = Integer.getInteger("seed.retries", 3);
+        boolean reuse = Boolean.parseBoolean(System.getProperty("seed.reuse", "true"));
+        Path dir = Paths.get(System.getProperty("seed.dir", "target/seed"));
+        String runId = UniqueIds.runId();
+        TestDataCorpus corpus = TestDataCorpus.isConfigured() ? TestDataCorpus.shared() : null;
+
+        System.out.println("🌱 Seeding " + users + " users, " + products + " products, " + carts + " carts and "
+                + orders + " orders against " + baseUrl
+                + " (concurrency " + concurrency + ", retries " + retries + ")");
+
+        try (SeedEngine engine = new SeedEngine(baseUrl, concurrency, retries)) {
+            if (users > 0) {
+                SeedSpec<?> spec = corpus != null ? SeedSpec.users(corpus) : SeedSpec.users(runId);
+                report(seed(engine, spec, users, dir.resolve("users.ids"), reuse));
+            }
+            if (products > 0) {
+                SeedSpec<?> spec = corpus != null ? SeedSpec.products(corpus) : SeedSpec.products(runId);
+                report(seed(engine, spec, products, dir.resolve("products.ids"), reuse));
+            }
+            if (carts > 0) {
+                SeedSpec<?> spec = SeedSpec.carts(ids(dir.resolve("users.ids")));
+                report(seed(engine, spec, carts, dir.resolve("carts.ids"), reuse));
+            }
+            if (orders > 0) {
+                SeedSpec<?> spec = SeedSpec.orders(runId, ids(dir.resolve("carts.ids")));
+                report(seed(engine, spec, orders, dir.resolve("orders.ids"), reuse));
+            }
+        }
+    }
+
+    private static SeedResult seed(SeedEngine engine, SeedSpec<?> spec, int count, Path idFile, boolean reuse)
+            throws InterruptedException {
+        return reuse ? engine.seedOrReuse(spec, count, idFile) : engine.seed(spec, count, idFile);
+    }
+
+    private static int[] ids(Path idFile) {
+        try {
+            return IdFile.count(idFile) > 0 ? IdFile.read(idFile) : new int[0];
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + idFile, e);
+        }
+    }
+
+    private static void report(SeedResult result) {
+        System.out.println((result.getFailed() == 0 ? "✅ " : "⚠️ ") + result);
+    }
+}
@@ -0,0 +1,183 @@
+package com.selimhorri.app.e2e.seed;
+
+import com.selimhorri.app.e2e.corpus.TestDataCorpus;
+import com.selimhorri.app.e2e.model.CartDto;
+import com.selimhorri.app.e2e.model.CategoryDto;
+import com.selimhorri.app.e2e.model.OrderDto;
+import com.selimhorri.app.e2e.model.ProductDto;
+import com.selimhorri.app.e2e.model.UserDto;
+import com.selimhorri.app.e2e.util.UserDataHelper;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * What to seed: the endpoint to POST to, the typed request body for the n-th entity and
+ * how to read the id back from the response. Bodies are built from the index so a run
+ * never needs the whole dataset in memory.
+ * @param <T> Request and response DTO
+ */
+public class SeedSpec<T> {
+
+    public static final String USERS = "/user-service/api/users";
+    public static final String PRODUCTS = "/product-service/api/products";
+    public static final String CARTS = "/order-service/api/carts";
+    public static final String ORDERS = "/order-service/api/orders";
+
+    private static final DateTimeFormatter ORDER_DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy__HH:mm:ss:SSSSSS");
+
+    private final String entity;
+    private final String path;
+    private final String idField;
+    private final Class<T> type;
+    private final Function<T, Integer> idGetter;
+    private final IntFunction<T> bodyFactory;
+    private final Function<T, String> lookupPath;
+
+    public SeedSpec(String entity, String path, String idField, Class<T> type, Function<T, Integer> idGetter,
+                    IntFunction<T> bodyFactory) {
+        this(entity, path, idField, type, idGetter, bodyFactory, null);
+    }
+
+    private SeedSpec(String entity, String path, String idField, Class<T> type, Function<T, Integer> idGetter,
+                     IntFunction<T> bodyFactory, Function<T, String> lookupPath) {
+        this.entity = entity;
+        this.path = path;
+        this.idField = idField;
+        this.type = type;
+        this.idGetter = idGetter;
+        this.bodyFactory = bodyFactory;
+        this.lookupPath = lookupPath;
+    }
+
+    /**
+     * Users with usernames unique to the run: seed[runId]u[index]
+     * A retry first looks the username up, so a user created by an attempt whose response was
+     * lost is picked up instead of failing on the duplicate username.
+     */
+    public static SeedSpec<UserDto> users(String runId) {
+        return new SeedSpec<>("users", USERS, "userId", UserDto.class, UserDto::getUserId, index -> {
+            String uniqueId = runId + "u" + index;
+            return UserDataHelper.createUser(
+                    "Seed" + uniqueId,
+                    "User",
+                    "seed" + uniqueId + "@seedtest.com",
+                    String.format("+1555%07d", index % 10_000_000),
+                    "seed" + uniqueId,
+                    "SeedSecure123!",
+                    "https://example.com/seed.jpg");
+        }).withLookup(user -> USERS + "/username/" + user.getCredential().getUsername());
+    }
+
+    /**
+     * Products spread over the three default categories with deterministic prices and stock
+     */
+    public static SeedSpec<ProductDto> products(String runId) {
+        return new SeedSpec<>("products", PRODUCTS, "productId", ProductDto.class, ProductDto::getProductId, index -> {
+            ProductDto product = new ProductDto();
+            product.setProductTitle("SeedProduct" + runId + "p" + index);
+            product.setImageUrl("https://example.com/seedproduct.jpg");
+            product.setSku("SEED" + runId.toUpperCase() + "P" + index);
+            product.setPriceUnit(10 + (index % 9000) / 100.0);
+            product.setQuantity(10 + index % 90);
+            product.setCategory(new CategoryDto(index % 3 + 1));
+            return product;
+        });
+    }
+
+    /**
+     * Carts spread round-robin over already seeded users, so the verifier has cart -> user
+     * references to check
+     */
+    public static SeedSpec<CartDto> carts(int[] userIds) {
+        requireReferences(userIds, "users");
+        return new SeedSpec<>("carts", CARTS, "cartId", CartDto.class, CartDto::getCartId,
+                index -> CartDto.forUser(userIds[index % userIds.length]));
+    }
+
+    /**
+     * Orders spread round-robin over already seeded carts, so the verifier has order -> cart
+     * references to check
+     */
+    public static SeedSpec<OrderDto> orders(String runId, int[] cartIds) {
+        requireReferences(cartIds, "carts");
+        return new SeedSpec<>("orders", ORDERS, "orderId", OrderDto.class, OrderDto::getOrderId, index -> {
+            OrderDto order = new OrderDto();
+            order.setOrderDate(LocalDateTime.now().format(ORDER_DATE_FORMAT));
+            order.setOrderDesc("Seed order " + runId + "o" + index);
+            order.setOrderFee(5 + (index % 5000) / 100.0);
+            order.setCart(CartDto.withId(cartIds[index % cartIds.length]));
+            return order;
+        });
+    }
+
+    /**
+     * Users read from the test data corpus, one record per entity in corpus order
+     * A retried request takes a fresh record, so a first attempt that did reach the service
+     * cannot make the retry fail on a duplicate username.
+     */
+    public static SeedSpec<UserDto> users(TestDataCorpus corpus) {
+        return new SeedSpec<>("users", USERS, "userId", UserDto.class, UserDto::getUserId,
+                index -> corpus.user(corpus.next()));
+    }
+
+    /**
+     * Products read from the test data corpus, one record per entity in corpus order
+     */
+    public static SeedSpec<ProductDto> products(TestDataCorpus corpus) {
+        return new SeedSpec<>("products", PRODUCTS, "productId", ProductDto.class, ProductDto::getProductId,
+                index -> corpus.product(corpus.next()));
+    }
+
+    /**
+     * Copy of this spec whose retries first GET lookupPath(body) and take the id found there
+     * Only for specs whose body(index) is the same on every call and has a unique key the
+     * service can be queried by.
+     * @param lookupPath Path of the entity the body would create
+     */
+    public SeedSpec<T> withLookup(Function<T, String> lookupPath) {
+        return new SeedSpec<>(entity, path, idField, type, idGetter, bodyFactory, lookupPath);
+    }
+
+    private static void requireReferences(int[] ids, String entity) {
+        if (ids.length == 0) {
+            throw new IllegalArgumentException("No " + entity + " to reference, seed " + entity + " first");
+        }
+    }
+
+    public String getEntity() {
+        return entity;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getIdField() {
+        return idField;
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public T body(int index) {
+        return bodyFactory.apply(index);
+    }
+
+    /**
+     * @return Path to GET the entity body would create, or null when the spec has no lookup
+     */
+    public String lookupPath(T body) {
+        return lookupPath == null ? null : lookupPath.apply(body);
+    }
+
+    /**
+     * @return Id of the created entity, or null when the response does not carry one
+     */
+    public Integer id(T response) {
+        return response == null ? null : idGetter.apply(response);
+    }
+}
@@ -0,0 +1,61 @@
+package com.selimhorri.app.e2e.stub;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory table of one entity type with generated integer ids
+ * Stored nodes are never mutated after insertion; updates replace the whole node,
+ * so concurrent readers always serialize a consistent entity.
+ */
+class EntityStore {
+
+    private final String idField;
+    private final ConcurrentMap<Integer, ObjectNode> entities = new ConcurrentHashMap<>();
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    EntityStore(String idField) {
+        this.idField = idField;
+    }
+
+    String getIdField() {
+        return idField;
+    }
+
+    int nextId() {
+        return sequence.incrementAndGet();
+    }
+
+    ObjectNode get(int id) {
+        return entities.get(id);
+    }
+
+    void put(int id, ObjectNode entity) {
+        entities.put(id, entity);
+    }
+
+    boolean replace(int id, ObjectNode entity) {
+        return entities.replace(id, entity) != null;
+    }
+
+    ObjectNode remove(int id) {
+        return entities.remove(id);
+    }
+
+    List<ObjectNode> all() {
+        return new ArrayList<>(entities.values());
+    }
+
+    int size() {
+        return entities.size();
+    }
+
+    void clear() {
+        entities.clear();
+    }
+}
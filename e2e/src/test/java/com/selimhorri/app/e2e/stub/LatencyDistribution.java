@@ -0,0 +1,70 @@
+package com.selimhorri.app.e2e.stub;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service time distribution injected by the stub before each response
+ * Specs accepted by parse (values in milliseconds):
+ *   none | fixed:20 | uniform:5:50 | exponential:20 | lognormal:20:0.5 (median, sigma)
+ */
+public interface LatencyDistribution {
+
+    /**
+     * @return Delay to apply to the next request, in nanoseconds
+     */
+    long sampleNanos(Random random);
+
+    static LatencyDistribution none() {
+        return random -> 0L;
+    }
+
+    static LatencyDistribution fixed(double millis) {
+        long nanos = toNanos(millis);
+        return random -> nanos;
+    }
+
+    static LatencyDistribution uniform(double minMillis, double maxMillis) {
+        long min = toNanos(minMillis);
+        long range = toNanos(maxMillis) - min;
+        return random -> min + (range > 0 ? (long) (random.nextDouble() * range) : 0L);
+    }
+
+    static LatencyDistribution exponential(double meanMillis) {
+        double mean = toNanos(meanMillis);
+        return random -> (long) (-mean * Math.log(1.0 - random.nextDouble()));
+    }
+
+    /**
+     * Log-normal service times, the usual shape of real service latency with a long right tail
+     * @param medianMillis Median delay
+     * @param sigma Shape parameter; 0.5 gives p99 around 3.2x the median
+     */
+    static LatencyDistribution logNormal(double medianMillis, double sigma) {
+        double mu = Math.log(toNanos(medianMillis));
+        return random -> (long) Math.exp(mu + sigma * random.nextGaussian());
+    }
+
+    static LatencyDistribution parse(String spec) {
+        String[] parts = spec.trim().toLowerCase(Locale.ROOT).split(":");
+        switch (parts[0]) {
+            case "none":
+                return none();
+            case "fixed":
+                return fixed(Double.parseDouble(parts[1]));
+            case "uniform":
+                return uniform(Double.parseDouble(parts[1]), Double.parseDouble(parts[2]));
+            case "exponential":
+                return exponential(Double.parseDouble(parts[1]));
+            case "lognormal":
+                return logNormal(Double.parseDouble(parts[1]), Double.parseDouble(parts[2]));
+            default:
+                throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+        }
+    }
+
+    private static long toNanos(double millis) {
+        return (long) (millis * TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,550 @@
+package com.selimhorri.app.e2e.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lightweight in-process stand-in for the API gateway and the user, product and order services
+ * Serves the same routes and JSON shapes the E2E tests use, backed by in-memory state:
+ *   /user-service/api/users, /product-service/api/products,
+ *   /order-service/api/carts, /order-service/api/orders
+ *   /user-service/api/users/username/{username}
+ * List endpoints return the wrapped {"collection": [...]} object like the real services.
+ * Each service can be given a latency distribution and an error rate, either programmatically
+ * or through system properties:
+ *   e2e.stub.latency.[service]=lognormal:20:0.5   (see LatencyDistribution.parse)
+ *   e2e.stub.errorRate.[service]=0.01             (fraction answered with 503)
+ * The gateway hop can retry failed service calls like a gateway retry filter would, each retry
+ * reaching the service again; a gateway timeout makes slow calls fail (504) and be retried:
+ *   e2e.stub.gatewayRetries.[service]=2
+ *   e2e.stub.gatewayTimeoutMs.[service]=250
+ * Arrivals are counted at both hops, see getGatewayRequestCount and getRequestCount.
+ */
+public class StubGateway implements AutoCloseable {
+
+    public static final String USER_SERVICE = "user-service";
+    public static final String PRODUCT_SERVICE = "product-service";
+    public static final String ORDER_SERVICE = "order-service";
+
+    private static final String[] SERVICES = {USER_SERVICE, PRODUCT_SERVICE, ORDER_SERVICE};
+
+    static {
+        // The JDK server writes headers and body separately; without TCP_NODELAY every small
+        // response waits on Nagle + delayed ACK (~40ms) and the stub would dominate latencies
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ConcurrentMap<String, ServiceBehavior> behaviors = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> arrivals = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> gatewayArrivals = new ConcurrentHashMap<>();
+
+    private final EntityStore users = new EntityStore("userId");
+    private final EntityStore products = new EntityStore("productId");
+    private final EntityStore carts = new EntityStore("cartId");
+    private final EntityStore orders = new EntityStore("orderId");
+    private final ConcurrentMap<String, Integer> usernames = new ConcurrentHashMap<>();
+
+    private StubGateway(int port) throws IOException {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "stub-gateway-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        this.server.setExecutor(executor);
+
+        for (String service : SERVICES) {
+            arrivals.put(service, new LongAdder());
+            gatewayArrivals.put(service, new LongAdder());
+            behaviors.put(service, ServiceBehavior.fromSystemProperties(service));
+        }
+        register(USER_SERVICE, "/user-service/api/users", new UserResource());
+        register(PRODUCT_SERVICE, "/product-service/api/products", new ProductResource());
+        register(ORDER_SERVICE, "/order-service/api/carts", new CartResource());
+        register(ORDER_SERVICE, "/order-service/api/orders", new OrderResource());
+    }
+
+    /**
+     * Start a stub on an ephemeral loopback port
+     */
+    public static StubGateway start() throws IOException {
+        return start(0);
+    }
+
+    /**
+     * Start a stub on the given loopback port (0 picks a free one)
+     */
+    public static StubGateway start(int port) throws IOException {
+        StubGateway stub = new StubGateway(port);
+        stub.server.start();
+        return stub;
+    }
+
+    /**
+     * @return Base URL to use in place of api.gateway.url
+     */
+    public String getBaseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getHostString() + ":" + address.getPort();
+    }
+
+    public void setLatency(String service, LatencyDistribution latency) {
+        behaviors.compute(service, (key, current) -> current.withLatency(latency));
+    }
+
+    /**
+     * @param errorRate Fraction of requests to the service answered with 503 Service Unavailable
+     */
+    public void setErrorRate(String service, double errorRate) {
+        behaviors.compute(service, (key, current) -> current.withErrorRate(errorRate));
+    }
+
+    /**
+     * Make the gateway hop retry failed or timed-out calls to the service
+     * @param retries Extra calls after the first one fails; 0 disables retries
+     * @param timeout Gateway wait for the service before answering 504, or Duration.ZERO for none
+     */
+    public void setGatewayRetries(String service, int retries, Duration timeout) {
+        behaviors.compute(service, (key, current) -> current.withGatewayRetries(retries, timeout.toNanos()));
+    }
+
+    /**
+     * @return Requests received by the service since start or the last reset, gateway retries included
+     */
+    public long getRequestCount(String service) {
+        return arrivals.get(service).sum();
+    }
+
+    /**
+     * @return Requests for the service received by the gateway since start or the last reset
+     */
+    public long getGatewayRequestCount(String service) {
+        return gatewayArrivals.get(service).sum();
+    }
+
+    /**
+     * Drop all entities, counters and injected latency/errors
+     */
+    public void reset() {
+        users.clear();
+        products.clear();
+        carts.clear();
+        orders.clear();
+        usernames.clear();
+        for (String service : SERVICES) {
+            arrivals.get(service).reset();
+            gatewayArrivals.get(service).reset();
+            behaviors.put(service, ServiceBehavior.NONE);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void register(String service, String path, Resource resource) {
+        server.createContext(path, exchange -> handle(exchange, service, path, resource));
+    }
+
+    private void handle(HttpExchange exchange, String service, String contextPath, Resource resource) throws IOException {
+        try {
+            gatewayArrivals.get(service).increment();
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+
+            ServiceBehavior behavior = behaviors.get(service);
+            for (int attempt = 0; ; attempt++) {
+                arrivals.get(service).increment();
+                int status = behavior.call();
+                if (status == 0) {
+                    break;
+                }
+                if (attempt >= behavior.gatewayRetries) {
+                    respond(exchange, status, status == 504
+                            ? error(504, "Gateway Timeout", "Injected latency exceeded the gateway timeout")
+                            : error(503, "Service Unavailable", "Injected failure"));
+                    return;
+                }
+            }
+
+            String remainder = exchange.getRequestURI().getPath().substring(contextPath.length());
+            Integer id = null;
+            if (remainder.length() > 1) {
+                Response lookup = resource.lookup(exchange.getRequestMethod(), remainder.substring(1));
+                if (lookup != null) {
+                    respond(exchange, lookup.status, lookup.body);
+                    return;
+                }
+                id = parseId(remainder.substring(1));
+                if (id == null) {
+                    respond(exchange, 400, error(400, "Bad Request", "Invalid id: " + remainder.substring(1)));
+                    return;
+                }
+            }
+            JsonNode body = requestBody.length == 0 ? null : objectMapper.readTree(requestBody);
+            Response response = resource.handle(exchange.getRequestMethod(), id, body);
+            respond(exchange, response.status, response.body);
+        } catch (IOException e) {
+            respond(exchange, 400, error(400, "Bad Request", "Malformed JSON body"));
+        } catch (RuntimeException e) {
+            respond(exchange, 500, error(500, "Internal Server Error", String.valueOf(e.getMessage())));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private ObjectNode error(int status, String error, String message) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("status", status);
+        node.put("error", error);
+        node.put("message", message);
+        return node;
+    }
+
+    private static Integer parseId(String text) {
+        try {
+            return Integer.valueOf(text);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads an id that tests may send as a number or as a numeric string
+     */
+    private static Integer idOf(JsonNode node, String field) {
+        JsonNode value = node == null ? null : node.get(field);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        return value.isNumber() ? Integer.valueOf(value.asInt()) : parseId(value.asText());
+    }
+
+    private static final class Response {
+        private final int status;
+        private final JsonNode body;
+
+        private Response(int status, JsonNode body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+
+    /**
+     * CRUD semantics shared by every entity: GET list/by id, POST, PUT (id in body or path), DELETE
+     */
+    private abstract class Resource {
+
+        private final EntityStore store;
+
+        private Resource(EntityStore store) {
+            this.store = store;
+        }
+
+        /**
+         * @return Error message when the payload is not acceptable, otherwise null
+         */
+        abstract String validate(JsonNode body);
+
+        /**
+         * Build the stored representation of an entity from a validated payload
+         */
+        abstract ObjectNode toEntity(JsonNode body, int id);
+
+        String onCreate(ObjectNode entity) {
+            return null;
+        }
+
+        void onDelete(ObjectNode entity) {
+        }
+
+        /**
+         * @return Response for a sub-path other than an id, or null when the resource has none
+         */
+        Response lookup(String method, String subPath) {
+            return null;
+        }
+
+        Response handle(String method, Integer id, JsonNode body) {
+            switch (method) {
+                case "GET":
+                    return id == null ? list() : get(id);
+                case "POST":
+                    return id == null ? create(body) : methodNotAllowed();
+                case "PUT":
+                    return update(id != null ? id : idOf(body, store.getIdField()), body);
+                case "DELETE":
+                    return id == null ? methodNotAllowed() : delete(id);
+                default:
+                    return methodNotAllowed();
+            }
+        }
+
+        private Response list() {
+            ArrayNode collection = objectMapper.createArrayNode();
+            store.all().forEach(collection::add);
+            ObjectNode wrapper = objectMapper.createObjectNode();
+            wrapper.set("collection", collection);
+            return new Response(200, wrapper);
+        }
+
+        private Response get(int id) {
+            ObjectNode entity = store.get(id);
+            return entity == null ? notFound(id) : new Response(200, entity);
+        }
+
+        private Response create(JsonNode body) {
+            String invalid = body == null || !body.isObject() ? "Request body is required" : validate(body);
+            if (invalid != null) {
+                return new Response(400, error(400, "Bad Request", invalid));
+            }
+            int id = store.nextId();
+            ObjectNode entity = toEntity(body, id);
+            String conflict = onCreate(entity);
+            if (conflict != null) {
+                return new Response(400, error(400, "Bad Request", conflict));
+            }
+            store.put(id, entity);
+            return new Response(200, entity);
+        }
+
+        private Response update(Integer id, JsonNode body) {
+            if (id == null) {
+                return new Response(400, error(400, "Bad Request", store.getIdField() + " is required"));
+            }
+            String invalid = body == null || !body.isObject() ? "Request body is required" : validate(body);
+            if (invalid != null) {
+                return new Response(400, error(400, "Bad Request", invalid));
+            }
+            ObjectNode entity = toEntity(body, id);
+            return store.replace(id, entity) ? new Response(200, entity) : notFound(id);
+        }
+
+        private Response delete(int id) {
+            ObjectNode removed = store.remove(id);
+            if (removed == null) {
+                return notFound(id);
+            }
+            onDelete(removed);
+            return new Response(200, objectMapper.getNodeFactory().booleanNode(true));
+        }
+
+        private Response notFound(int id) {
+            return new Response(404, error(404, "Not Found", store.getIdField() + " " + id + " not found"));
+        }
+
+        private Response methodNotAllowed() {
+            return new Response(405, error(405, "Method Not Allowed", "Unsupported operation"));
+        }
+    }
+
+    private final class UserResource extends Resource {
+
+        private UserResource() {
+            super(users);
+        }
+
+        @Override
+        String validate(JsonNode body) {
+            JsonNode credential = body.get("credential");
+            if (credential == null || !credential.isObject() || credential.path("username").asText().isEmpty()) {
+                return "credential.username is required";
+            }
+            return null;
+        }
+
+        @Override
+        ObjectNode toEntity(JsonNode body, int id) {
+            ObjectNode user = body.deepCopy();
+            user.put("userId", id);
+            ((ObjectNode) user.get("credential")).put("credentialId", id);
+            return user;
+        }
+
+        @Override
+        String onCreate(ObjectNode entity) {
+            String username = entity.get("credential").get("username").asText();
+            Integer existing = usernames.putIfAbsent(username, entity.get("userId").asInt());
+            return existing == null ? null : "Username already exists: " + username;
+        }
+
+        @Override
+        void onDelete(ObjectNode entity) {
+            usernames.remove(entity.get("credential").get("username").asText(), entity.get("userId").asInt());
+        }
+
+        @Override
+        Response lookup(String method, String subPath) {
+            if (!"GET".equals(method) || !subPath.startsWith("username/")) {
+                return null;
+            }
+            String username = subPath.substring("username/".length());
+            Integer id = usernames.get(username);
+            ObjectNode user = id == null ? null : users.get(id);
+            return user == null
+                    ? new Response(404, error(404, "Not Found", "User with username " + username + " not found"))
+                    : new Response(200, user);
+        }
+    }
+
+    private final class ProductResource extends Resource {
+
+        private ProductResource() {
+            super(products);
+        }
+
+        @Override
+        String validate(JsonNode body) {
+            return body.path("productTitle").asText().isBlank() ? "productTitle is required" : null;
+        }
+
+        @Override
+        ObjectNode toEntity(JsonNode body, int id) {
+            ObjectNode product = body.deepCopy();
+            product.put("productId", id);
+            return product;
+        }
+    }
+
+    private final class CartResource extends Resource {
+
+        private CartResource() {
+            super(carts);
+        }
+
+        @Override
+        String validate(JsonNode body) {
+            return idOf(body, "userId") == null ? "userId is required" : null;
+        }
+
+        @Override
+        ObjectNode toEntity(JsonNode body, int id) {
+            ObjectNode cart = objectMapper.createObjectNode();
+            cart.put("cartId", id);
+            cart.put("userId", idOf(body, "userId"));
+            return cart;
+        }
+    }
+
+    private final class OrderResource extends Resource {
+
+        private OrderResource() {
+            super(orders);
+        }
+
+        @Override
+        String validate(JsonNode body) {
+            Integer cartId = idOf(body.get("cart"), "cartId");
+            if (cartId == null) {
+                return "cart.cartId is required";
+            }
+            return carts.get(cartId) == null ? "Cart " + cartId + " not found" : null;
+        }
+
+        @Override
+        ObjectNode toEntity(JsonNode body, int id) {
+            ObjectNode order = body.deepCopy();
+            order.put("orderId", id);
+            order.set("cart", carts.get(idOf(body.get("cart"), "cartId")).deepCopy());
+            return order;
+        }
+    }
+
+    /**
+     * Immutable latency/error settings of one service
+     */
+    private static final class ServiceBehavior {
+
+        private static final ServiceBehavior NONE = new ServiceBehavior(LatencyDistribution.none(), 0.0, 0, 0L);
+
+        private final LatencyDistribution latency;
+        private final double errorRate;
+        private final int gatewayRetries;
+        private final long gatewayTimeoutNanos;
+
+        private ServiceBehavior(LatencyDistribution latency, double errorRate, int gatewayRetries,
+                                long gatewayTimeoutNanos) {
+            this.latency = latency;
+            this.errorRate = errorRate;
+            this.gatewayRetries = gatewayRetries;
+            this.gatewayTimeoutNanos = gatewayTimeoutNanos;
+        }
+
+        private static ServiceBehavior fromSystemProperties(String service) {
+            String latency = System.getProperty("e2e.stub.latency." + service);
+            String errorRate = System.getProperty("e2e.stub.errorRate." + service);
+            return new ServiceBehavior(
+                    latency == null ? LatencyDistribution.none() : LatencyDistribution.parse(latency),
+                    errorRate == null ? 0.0 : Double.parseDouble(errorRate),
+                    Integer.getInteger("e2e.stub.gatewayRetries." + service, 0),
+                    TimeUnit.MILLISECONDS.toNanos(Long.getLong("e2e.stub.gatewayTimeoutMs." + service, 0L)));
+        }
+
+        private ServiceBehavior withLatency(LatencyDistribution latency) {
+            return new ServiceBehavior(latency, errorRate, gatewayRetries, gatewayTimeoutNanos);
+        }
+
+        private ServiceBehavior withErrorRate(double errorRate) {
+            return new ServiceBehavior(latency, errorRate, gatewayRetries, gatewayTimeoutNanos);
+        }
+
+        private ServiceBehavior withGatewayRetries(int gatewayRetries, long gatewayTimeoutNanos) {
+            return new ServiceBehavior(latency, errorRate, Math.max(0, gatewayRetries), gatewayTimeoutNanos);
+        }
+
+        /**
+         * One call from the gateway to the service: wait the sampled latency, capped by the gateway timeout
+         * @return 0 on success, otherwise the status the gateway would answer (503 or 504)
+         */
+        private int call() {
+            long nanos = latency.sampleNanos(ThreadLocalRandom.current());
+            boolean timedOut = gatewayTimeoutNanos > 0 && nanos > gatewayTimeoutNanos;
+            if (timedOut) {
+                nanos = gatewayTimeoutNanos;
+            }
+            if (nanos > 0) {
+                LockSupport.parkNanos(nanos);
+            }
+            if (timedOut) {
+                return 504;
+            }
+            return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate ? 503 : 0;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.selimhorri.app.e2e.util;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * ClientHttpResponse passing everything on to another response
+ * The interceptors of SharedHttpClient wrap responses to act on the body or on close, and
+ * override only those.
+ */
+abstract class DelegatingResponse implements ClientHttpResponse {
+
+    protected final ClientHttpResponse delegate;
+
+    protected DelegatingResponse(ClientHttpResponse delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public HttpStatus getStatusCode() throws IOException {
+        return delegate.getStatusCode();
+    }
+
+    @Override
+    public int getRawStatusCode() throws IOException {
+        return delegate.getRawStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+        return delegate.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return delegate.getHeaders();
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+        return delegate.getBody();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
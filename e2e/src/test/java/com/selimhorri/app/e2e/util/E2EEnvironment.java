@@ -0,0 +1,114 @@
+package com.selimhorri.app.e2e.util;
+
+import com.selimhorri.app.e2e.fault.FaultProfile;
+import com.selimhorri.app.e2e.fault.FaultProxy;
+import com.selimhorri.app.e2e.stub.StubGateway;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Resolves where the E2E suite sends its requests
+ * By default the gateway given by -Dapi.gateway.url; with -De2e.stub=true (profile e2e-offline)
+ * a single in-process StubGateway is started on first use and shared by every test class,
+ * so the suite runs on a machine without the gateway, Eureka or any service.
+ * With -De2e.fault.profile=... (see FaultProfile.parse) requests go through a shared FaultProxy
+ * in front of that gateway, so the whole suite runs on a degraded network.
+ */
+public final class E2EEnvironment {
+
+    private static final String DEFAULT_GATEWAY_URL = "http://localhost:9090";
+    private static final String FAULT_PROFILE_PROPERTY = "e2e.fault.profile";
+
+    private E2EEnvironment() {
+    }
+
+    public static boolean isStubMode() {
+        return Boolean.getBoolean("e2e.stub");
+    }
+
+    /**
+     * @return Base URL of the gateway under test
+     */
+    public static String gatewayUrl() {
+        return System.getProperty(FAULT_PROFILE_PROPERTY) != null ? FaultProxyHolder.PROXY.getUrl() : targetGatewayUrl();
+    }
+
+    /**
+     * @return Shared proxy in front of the gateway; only available with -De2e.fault.profile
+     */
+    public static FaultProxy faultProxy() {
+        if (System.getProperty(FAULT_PROFILE_PROPERTY) == null) {
+            throw new IllegalStateException("Fault proxy is only available with -D" + FAULT_PROFILE_PROPERTY);
+        }
+        return FaultProxyHolder.PROXY;
+    }
+
+    /**
+     * @return Shared stub instance; only available in stub mode
+     */
+    public static StubGateway stub() {
+        if (!isStubMode()) {
+            throw new IllegalStateException("Stub gateway is only available with -De2e.stub=true");
+        }
+        return StubHolder.STUB;
+    }
+
+    /**
+     * Condition for flows that need the services to call each other through Eureka discovery:
+     * always satisfied by the stub, and against a real gateway only with -De2e.discovery.enabled=true
+     */
+    public static boolean crossServiceFlowsEnabled() {
+        return isStubMode() || Boolean.getBoolean("e2e.discovery.enabled");
+    }
+
+    /**
+     * @return Gateway URL behind the fault proxy, if any: the stub or api.gateway.url
+     */
+    public static String targetGatewayUrl() {
+        return isStubMode() ? StubHolder.STUB.getBaseUrl() : System.getProperty("api.gateway.url", DEFAULT_GATEWAY_URL);
+    }
+
+    /**
+     * @return The gateway behind the fault proxy when url is the proxy, url itself otherwise
+     */
+    public static String gatewayBehind(String url) {
+        if (System.getProperty(FAULT_PROFILE_PROPERTY) != null && url.equals(FaultProxyHolder.PROXY.getUrl())) {
+            return targetGatewayUrl();
+        }
+        return url;
+    }
+
+    private static final class StubHolder {
+
+        private static final StubGateway STUB = startStub();
+
+        private static StubGateway startStub() {
+            try {
+                StubGateway stub = StubGateway.start(Integer.getInteger("e2e.stub.port", 0));
+                Runtime.getRuntime().addShutdownHook(new Thread(stub::close, "stub-gateway-shutdown"));
+                System.out.println("🧪 Stub gateway started at " + stub.getBaseUrl());
+                return stub;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to start stub gateway", e);
+            }
+        }
+    }
+
+    private static final class FaultProxyHolder {
+
+        private static final FaultProxy PROXY = startProxy();
+
+        private static FaultProxy startProxy() {
+            try {
+                FaultProxy proxy = FaultProxy.start(targetGatewayUrl());
+                proxy.setProfile(FaultProfile.parse(System.getProperty(FAULT_PROFILE_PROPERTY)));
+                Runtime.getRuntime().addShutdownHook(new Thread(proxy::close, "fault-proxy-shutdown"));
+                System.out.println("🌩️ Fault proxy at " + proxy.getUrl() + " (" + proxy.getProfile() + ")");
+                return proxy;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to start fault proxy", e);
+            }
+        }
+    }
+}
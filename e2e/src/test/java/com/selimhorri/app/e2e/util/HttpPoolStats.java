@@ -0,0 +1,75 @@
+package com.selimhorri.app.e2e.util;
+
+/**
+ * Point-in-time view of the shared HTTP connection pool
+ */
+public class HttpPoolStats {
+
+    private final int leased;
+    private final int pending;
+    private final int available;
+    private final int max;
+    private final long created;
+    private final long requests;
+
+    public HttpPoolStats(int leased, int pending, int available, int max, long created, long requests) {
+        this.leased = leased;
+        this.pending = pending;
+        this.available = available;
+        this.max = max;
+        this.created = created;
+        this.requests = requests;
+    }
+
+    /**
+     * @return Connections currently handed out to requests
+     */
+    public int getLeased() {
+        return leased;
+    }
+
+    /**
+     * @return Requests waiting for a connection
+     */
+    public int getPending() {
+        return pending;
+    }
+
+    /**
+     * @return Idle keep-alive connections ready for reuse
+     */
+    public int getAvailable() {
+        return available;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    /**
+     * @return Connections opened since the pool was created
+     */
+    public long getCreated() {
+        return created;
+    }
+
+    /**
+     * @return Requests executed through the pool since it was created
+     */
+    public long getRequests() {
+        return requests;
+    }
+
+    /**
+     * @return Fraction of requests that reused an existing connection
+     */
+    public double getReuseRatio() {
+        return requests == 0 ? 0.0 : Math.max(0.0, 1.0 - (double) created / requests);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("HTTP pool: leased=%d, pending=%d, available=%d, max=%d, created=%d, requests=%d, reuse=%.1f%%",
+                leased, pending, available, max, created, requests, getReuseRatio() * 100);
+    }
+}
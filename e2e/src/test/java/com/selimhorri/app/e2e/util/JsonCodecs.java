@@ -0,0 +1,66 @@
+package com.selimhorri.app.e2e.util;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * Suite-wide Jackson configuration shared by the E2E tests, load engine and seeder
+ * One ObjectMapper is built per JVM with the Blackbird module, which replaces reflective
+ * getter/setter calls with generated lambdas. Readers and writers are immutable and
+ * cached per type, so the hot path never re-resolves serializers. Set
+ * -De2e.json.blackbird=false to compare against plain reflection.
+ */
+public final class JsonCodecs {
+
+    private static final ObjectMapper MAPPER = createMapper();
+
+    private static final ClassValue<ObjectWriter> WRITERS = new ClassValue<>() {
+        @Override
+        protected ObjectWriter computeValue(Class<?> type) {
+            return MAPPER.writerFor(type);
+        }
+    };
+
+    private static final ClassValue<ObjectReader> READERS = new ClassValue<>() {
+        @Override
+        protected ObjectReader computeValue(Class<?> type) {
+            return MAPPER.readerFor(type);
+        }
+    };
+
+    private JsonCodecs() {
+    }
+
+    /**
+     * @return Shared mapper; safe to use from any thread once configured
+     */
+    public static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    /**
+     * @return Cached writer for values of exactly this type
+     */
+    public static ObjectWriter writerFor(Class<?> type) {
+        return WRITERS.get(type);
+    }
+
+    /**
+     * @return Cached reader producing instances of this type
+     */
+    public static ObjectReader readerFor(Class<?> type) {
+        return READERS.get(type);
+    }
+
+    private static ObjectMapper createMapper() {
+        ObjectMapper mapper = new ObjectMapper()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        if (Boolean.parseBoolean(System.getProperty("e2e.json.blackbird", "true"))) {
+            mapper.registerModule(new BlackbirdModule());
+        }
+        return mapper;
+    }
+}
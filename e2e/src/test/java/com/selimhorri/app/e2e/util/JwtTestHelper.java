@@ -3,46 +3,158 @@ package com.selimhorri.app.e2e.util;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Helper class to generate JWT tokens for E2E tests
  * Mirrors the JWT generation logic from proxy-client Gateway
+ * Tokens are valid for 10 hours, so getToken/getAuthorizationHeader serve them from a
+ * cache keyed by subject and claims and only sign again shortly before expiry.
  */
 public class JwtTestHelper {
-    
+
     private static final String SECRET_KEY = "secret";
     private static final long EXPIRATION_TIME = 1000 * 60 * 60 * 10; // 10 hours
-    
+    private static final long REFRESH_AHEAD_TIME = 1000 * 60 * 60; // re-sign when less than 1 hour is left
+
+    private static final ConcurrentMap<TokenKey, CachedToken> TOKEN_CACHE = new ConcurrentHashMap<>();
+
     /**
      * Generate a valid JWT token for testing
+     * Always signs a new token; prefer getToken on request paths
      * @param username The username to include in the token
      * @return JWT token string
      */
     public static String generateToken(String username) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, username);
+        return createToken(claims, username, System.currentTimeMillis());
+    }
+
+    /**
+     * Get a cached JWT token for the given username, signing one only when needed
+     * @param username The username to include in the token
+     * @return JWT token string valid for at least one more hour
+     */
+    public static String getToken(String username) {
+        return getToken(username, Collections.emptyMap());
+    }
+
+    /**
+     * Get a cached JWT token for the given username and extra claims
+     * @param username The username to include in the token
+     * @param claims Additional claims; tokens are cached per distinct claim set
+     * @return JWT token string valid for at least one more hour
+     */
+    public static String getToken(String username, Map<String, Object> claims) {
+        return cachedToken(username, claims).token;
     }
-    
+
     @SuppressWarnings("deprecation") // Using deprecated API to match Gateway implementation
-    private static String createToken(Map<String, Object> claims, String subject) {
+    private static String createToken(Map<String, Object> claims, String subject, long issuedAt) {
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
+                .setIssuedAt(new Date(issuedAt))
+                .setExpiration(new Date(issuedAt + EXPIRATION_TIME))
                 .signWith(SignatureAlgorithm.HS256, SECRET_KEY)
                 .compact();
     }
-    
+
     /**
      * Generate Authorization header value with Bearer token
      * @param username The username to generate token for
      * @return Authorization header value (e.g., "Bearer eyJhbGc...")
      */
     public static String getAuthorizationHeader(String username) {
-        return "Bearer " + generateToken(username);
+        return cachedToken(username, Collections.emptyMap()).authorizationHeader;
+    }
+
+    /**
+     * Sign tokens for usernamePrefix0 .. usernamePrefix(count-1) in parallel and cache them
+     * @param usernamePrefix Prefix of the generated usernames
+     * @param count Number of distinct identities
+     * @return JWT tokens, index i belonging to usernamePrefix + i
+     */
+    public static List<String> preMintTokens(String usernamePrefix, int count) {
+        return preMint(usernamePrefix, count, token -> token.token);
+    }
+
+    /**
+     * Same as preMintTokens but returns ready-to-send Authorization header values
+     * @param usernamePrefix Prefix of the generated usernames
+     * @param count Number of distinct identities
+     * @return Authorization header values, index i belonging to usernamePrefix + i
+     */
+    public static List<String> preMintAuthorizationHeaders(String usernamePrefix, int count) {
+        return preMint(usernamePrefix, count, token -> token.authorizationHeader);
+    }
+
+    private static List<String> preMint(String usernamePrefix, int count, Function<CachedToken, String> value) {
+        return IntStream.range(0, count)
+                .parallel()
+                .mapToObj(i -> value.apply(cachedToken(usernamePrefix + i, Collections.emptyMap())))
+                .collect(Collectors.toList());
+    }
+
+    private static CachedToken cachedToken(String username, Map<String, Object> claims) {
+        TokenKey key = new TokenKey(username, claims);
+        long now = System.currentTimeMillis();
+        CachedToken cached = TOKEN_CACHE.get(key);
+        if (cached != null && cached.refreshAt > now) {
+            return cached;
+        }
+        return TOKEN_CACHE.compute(key, (k, current) ->
+                current != null && current.refreshAt > now ? current : new CachedToken(
+                        createToken(new HashMap<>(k.claims), k.subject, now),
+                        now + EXPIRATION_TIME - REFRESH_AHEAD_TIME));
+    }
+
+    private static final class TokenKey {
+        private final String subject;
+        private final Map<String, Object> claims;
+
+        private TokenKey(String subject, Map<String, Object> claims) {
+            this.subject = subject;
+            this.claims = claims.isEmpty() ? Collections.emptyMap() : Map.copyOf(claims);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TokenKey)) {
+                return false;
+            }
+            TokenKey other = (TokenKey) o;
+            return subject.equals(other.subject) && claims.equals(other.claims);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(subject, claims);
+        }
+    }
+
+    private static final class CachedToken {
+        private final String token;
+        private final String authorizationHeader;
+        private final long refreshAt;
+
+        private CachedToken(String token, long refreshAt) {
+            this.token = token;
+            this.authorizationHeader = "Bearer " + token;
+            this.refreshAt = refreshAt;
+        }
     }
 }
@@ -0,0 +1,70 @@
+package com.selimhorri.app.e2e.util;
+
+/**
+ * Latency limits (in milliseconds) that an endpoint must stay within
+ * Defaults can be overridden per endpoint with system properties, e.g.
+ * -De2e.latency.budget.users.p99=800 -De2e.latency.budget.orders.max=3000
+ */
+public class LatencyBudget {
+
+    private static final String PROPERTY_PREFIX = "e2e.latency.budget.";
+
+    private final double p50Millis;
+    private final double p95Millis;
+    private final double p99Millis;
+    private final double p999Millis;
+    private final double maxMillis;
+
+    public LatencyBudget(double p50Millis, double p95Millis, double p99Millis, double p999Millis, double maxMillis) {
+        this.p50Millis = p50Millis;
+        this.p95Millis = p95Millis;
+        this.p99Millis = p99Millis;
+        this.p999Millis = p999Millis;
+        this.maxMillis = maxMillis;
+    }
+
+    /**
+     * Budget for an endpoint, taking each limit from system properties when present
+     * @param endpoint Short endpoint name used in the property keys (users, products, orders)
+     * @param defaults Limits used when no property is set
+     */
+    public static LatencyBudget forEndpoint(String endpoint, LatencyBudget defaults) {
+        return new LatencyBudget(
+                limit(endpoint, "p50", defaults.p50Millis),
+                limit(endpoint, "p95", defaults.p95Millis),
+                limit(endpoint, "p99", defaults.p99Millis),
+                limit(endpoint, "p999", defaults.p999Millis),
+                limit(endpoint, "max", defaults.maxMillis));
+    }
+
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    public double getP95Millis() {
+        return p95Millis;
+    }
+
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    public double getP999Millis() {
+        return p999Millis;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("p50<=%.0fms, p95<=%.0fms, p99<=%.0fms, p99.9<=%.0fms, max<=%.0fms",
+                p50Millis, p95Millis, p99Millis, p999Millis, maxMillis);
+    }
+
+    private static double limit(String endpoint, String percentile, double defaultMillis) {
+        String value = System.getProperty(PROPERTY_PREFIX + endpoint + "." + percentile);
+        return value == null ? defaultMillis : Double.parseDouble(value);
+    }
+}
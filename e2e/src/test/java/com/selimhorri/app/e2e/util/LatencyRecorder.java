@@ -0,0 +1,88 @@
+package com.selimhorri.app.e2e.util;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Records call latencies with System.nanoTime() into an HdrHistogram (microsecond resolution)
+ * so tests can assert on percentiles and tail latency instead of a single timing
+ * Recording is thread-safe.
+ */
+public class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final String name;
+    private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+
+    public LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Time a single call and record its latency
+     * @return Result of the call
+     */
+    public <T> T record(Callable<T> call) throws Exception {
+        long start = System.nanoTime();
+        T result = call.call();
+        recordNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    public void recordNanos(long durationNanos) {
+        long micros = Math.max(1, Math.min(TimeUnit.NANOSECONDS.toMicros(durationNanos), HIGHEST_TRACKABLE_MICROS));
+        histogram.recordValue(micros);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return histogram.getTotalCount();
+    }
+
+    public double getPercentileMillis(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public double getMaxMillis() {
+        return histogram.getMaxValue() / 1000.0;
+    }
+
+    public double getMeanMillis() {
+        return histogram.getMean() / 1000.0;
+    }
+
+    /**
+     * @return Copy of the recorded latencies in microseconds
+     */
+    public Histogram getHistogram() {
+        return histogram.copy();
+    }
+
+    /**
+     * Assert every percentile of the recorded latencies is within the budget
+     */
+    public void assertWithin(LatencyBudget budget) {
+        assertThat(getCount()).as(name + " should have recorded samples").isPositive();
+        assertThat(getPercentileMillis(50.0)).as(name + " p50 (ms)").isLessThanOrEqualTo(budget.getP50Millis());
+        assertThat(getPercentileMillis(95.0)).as(name + " p95 (ms)").isLessThanOrEqualTo(budget.getP95Millis());
+        assertThat(getPercentileMillis(99.0)).as(name + " p99 (ms)").isLessThanOrEqualTo(budget.getP99Millis());
+        assertThat(getPercentileMillis(99.9)).as(name + " p99.9 (ms)").isLessThanOrEqualTo(budget.getP999Millis());
+        assertThat(getMaxMillis()).as(name + " max (ms)").isLessThanOrEqualTo(budget.getMaxMillis());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: n=%d, mean=%.2fms, p50=%.2fms, p95=%.2fms, p99=%.2fms, p99.9=%.2fms, max=%.2fms",
+                name, getCount(), getMeanMillis(), getPercentileMillis(50.0), getPercentileMillis(95.0),
+                getPercentileMillis(99.0), getPercentileMillis(99.9), getMaxMillis());
+    }
+}
@@ -0,0 +1,63 @@
+package com.selimhorri.app.e2e.util;
+
+import com.selimhorri.app.e2e.model.CartDto;
+import com.selimhorri.app.e2e.model.OrderDto;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Helper class for creating a cart and an order through the gateway
+ * Tests that time or load a single order use it to get a response whose size does not depend
+ * on what the rest of the suite has created.
+ */
+public class OrderDataHelper {
+
+    private static final String CARTS = "/order-service/api/carts";
+    private static final String ORDERS = "/order-service/api/orders";
+    private static final DateTimeFormatter ORDER_DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy__HH:mm:ss:SSSSSS");
+
+    /**
+     * Creates a cart owned by userId and an order on it
+     *
+     * @param baseUrl Gateway URL
+     * @param userId Owner of the cart
+     * @return Id of the created order
+     */
+    public static int createOrder(TestRestTemplate restTemplate, String baseUrl, Integer userId) {
+        CartDto cart = post(restTemplate, baseUrl + CARTS, CartDto.forUser(userId), CartDto.class);
+
+        OrderDto order = new OrderDto();
+        order.setOrderDate(LocalDateTime.now().format(ORDER_DATE_FORMAT));
+        order.setOrderDesc("E2E order for cart " + cart.getCartId());
+        order.setOrderFee(34.99);
+        order.setCart(CartDto.withId(cart.getCartId()));
+        return post(restTemplate, baseUrl + ORDERS, order, OrderDto.class).getOrderId();
+    }
+
+    private static <T> T post(TestRestTemplate restTemplate, String url, Object body, Class<T> responseType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("Authorization", JwtTestHelper.getAuthorizationHeader("testuser"));
+        try {
+            String json = JsonCodecs.writerFor(body.getClass()).writeValueAsString(body);
+            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST,
+                    new HttpEntity<>(json, headers), String.class);
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                throw new IllegalStateException("POST " + url + " returned " + response.getStatusCodeValue()
+                        + ": " + response.getBody());
+            }
+            return JsonCodecs.readerFor(responseType).readValue(response.getBody());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map " + url, e);
+        }
+    }
+}
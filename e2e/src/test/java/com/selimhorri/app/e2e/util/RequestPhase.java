@@ -0,0 +1,28 @@
+package com.selimhorri.app.e2e.util;
+
+/**
+ * Consecutive phases of one request through the shared HTTP client, see RequestPhaseStats
+ */
+public enum RequestPhase {
+
+    /** Waiting for a connection from the pool, including the stale check of idle ones */
+    ACQUIRE("Acquire"),
+    /** Opening a new TCP connection; skipped when a kept-alive connection is reused */
+    CONNECT("Connect"),
+    /** Writing the request line, headers and body to the socket */
+    WRITE("Write"),
+    /** From the request written to the response headers read: mostly server processing time */
+    TTFB("TTFB"),
+    /** From the response headers to the response closed, i.e. reading and parsing the body */
+    BODY("Body");
+
+    private final String label;
+
+    RequestPhase(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,123 @@
+package com.selimhorri.app.e2e.util;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Where the time of each request went, per endpoint: pool acquire, TCP connect, request write,
+ * time to first byte and body read, see RequestPhase
+ * A slow endpoint with a high TTFB is slow on the server; high acquire times point at pool
+ * starvation and high connect times at the network or at connections not being kept alive.
+ * Phases are recorded in microseconds into one HdrHistogram Recorder each, with 2 significant
+ * digits to keep five histograms per endpoint small; recording is lock-free.
+ */
+public class RequestPhaseStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final RequestPhase[] PHASES = RequestPhase.values();
+
+    private final ConcurrentMap<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Record the phases of one completed request
+     * @param phaseNanos Nanoseconds spent in each phase, indexed by RequestPhase ordinal
+     * @param connected Whether a new connection was opened; if not, CONNECT is not recorded
+     */
+    public void record(String method, String name, long[] phaseNanos, boolean connected) {
+        String key = method + " " + name;
+        Endpoint endpoint = endpoints.get(key);
+        if (endpoint == null) {
+            endpoint = endpoints.computeIfAbsent(key, k -> new Endpoint(method, name));
+        }
+        endpoint.record(phaseNanos, connected);
+    }
+
+    /**
+     * @return Phase latencies of every endpoint seen so far, ordered by name then method
+     */
+    public List<RequestPhaseSummary> summaries() {
+        List<RequestPhaseSummary> summaries = new ArrayList<>();
+        for (Endpoint endpoint : endpoints.values()) {
+            summaries.add(endpoint.summary());
+        }
+        summaries.sort(Comparator.comparing(RequestPhaseSummary::getName).thenComparing(RequestPhaseSummary::getMethod));
+        return summaries;
+    }
+
+    public void print(PrintStream out) {
+        out.println("\n⏱️ REQUEST PHASES");
+        out.println("=====================================");
+        out.printf("%-7s %-38s %7s %6s", "Method", "Name", "Reqs", "Conns");
+        for (RequestPhase phase : PHASES) {
+            out.printf(" %15s", phase.getLabel());
+        }
+        out.println();
+        for (RequestPhaseSummary summary : summaries()) {
+            out.printf("%-7s %-38s %7d %6d", summary.getMethod(), summary.getName(), summary.getRequests(),
+                    summary.getConnections());
+            for (RequestPhase phase : PHASES) {
+                out.printf(" %15s", String.format("%.2f/%.2f", summary.getP50Millis(phase), summary.getP95Millis(phase)));
+            }
+            out.println();
+        }
+        out.println("(p50/p95 in ms; Connect only over requests that opened a connection)");
+        out.println("=====================================");
+    }
+
+    private static final class Endpoint {
+
+        private final String method;
+        private final String name;
+        private final Recorder[] recorders = new Recorder[PHASES.length];
+        private final Histogram[] accumulated = new Histogram[PHASES.length];
+        // Recorders only recycle interval histograms they produced themselves
+        private final Histogram[] intervals = new Histogram[PHASES.length];
+        private final LongAdder requests = new LongAdder();
+
+        private Endpoint(String method, String name) {
+            this.method = method;
+            this.name = name;
+            for (int i = 0; i < PHASES.length; i++) {
+                recorders[i] = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+                accumulated[i] = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+            }
+        }
+
+        private void record(long[] phaseNanos, boolean connected) {
+            for (int i = 0; i < PHASES.length; i++) {
+                if (i != RequestPhase.CONNECT.ordinal() || connected) {
+                    recorders[i].recordValue(Math.max(0,
+                            Math.min(TimeUnit.NANOSECONDS.toMicros(phaseNanos[i]), HIGHEST_TRACKABLE_MICROS)));
+                }
+            }
+            requests.increment();
+        }
+
+        private synchronized RequestPhaseSummary summary() {
+            double[] mean = new double[PHASES.length];
+            double[] p50 = new double[PHASES.length];
+            double[] p95 = new double[PHASES.length];
+            double[] p99 = new double[PHASES.length];
+            for (int i = 0; i < PHASES.length; i++) {
+                intervals[i] = recorders[i].getIntervalHistogram(intervals[i]);
+                accumulated[i].add(intervals[i]);
+                mean[i] = accumulated[i].getMean() / 1000.0;
+                p50[i] = accumulated[i].getValueAtPercentile(50.0) / 1000.0;
+                p95[i] = accumulated[i].getValueAtPercentile(95.0) / 1000.0;
+                p99[i] = accumulated[i].getValueAtPercentile(99.0) / 1000.0;
+            }
+            return new RequestPhaseSummary(method, name, requests.sum(),
+                    accumulated[RequestPhase.CONNECT.ordinal()].getTotalCount(), mean, p50, p95, p99);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.selimhorri.app.e2e.util;
+
+/**
+ * Per-phase latencies of one endpoint, see RequestPhaseStats
+ */
+public class RequestPhaseSummary {
+
+    private final String method;
+    private final String name;
+    private final long requests;
+    private final long connections;
+    private final double[] meanMillis;
+    private final double[] p50Millis;
+    private final double[] p95Millis;
+    private final double[] p99Millis;
+
+    public RequestPhaseSummary(String method, String name, long requests, long connections, double[] meanMillis,
+                               double[] p50Millis, double[] p95Millis, double[] p99Millis) {
+        this.method = method;
+        this.name = name;
+        this.requests = requests;
+        this.connections = connections;
+        this.meanMillis = meanMillis;
+        this.p50Millis = p50Millis;
+        this.p95Millis = p95Millis;
+        this.p99Millis = p99Millis;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    /**
+     * @return Requests that had to open a new connection; CONNECT percentiles only cover these
+     */
+    public long getConnections() {
+        return connections;
+    }
+
+    public double getMeanMillis(RequestPhase phase) {
+        return meanMillis[phase.ordinal()];
+    }
+
+    public double getP50Millis(RequestPhase phase) {
+        return p50Millis[phase.ordinal()];
+    }
+
+    public double getP95Millis(RequestPhase phase) {
+        return p95Millis[phase.ordinal()];
+    }
+
+    public double getP99Millis(RequestPhase phase) {
+        return p99Millis[phase.ordinal()];
+    }
+}
@@ -0,0 +1,488 @@
+package com.selimhorri.app.e2e.util;
+
+import com.selimhorri.app.e2e.cleanup.CreatedResources;
+import com.selimhorri.app.e2e.cleanup.ResourceType;
+import com.selimhorri.app.e2e.load.StatsRegistry;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.HttpConnectionFactory;
+import org.apache.http.conn.ManagedHttpClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.ManagedHttpClientConnectionFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Suite-wide HTTP client shared by all E2E test classes
+ * Backed by one pooled Apache HttpClient with keep-alive so tests reuse TCP connections
+ * instead of opening a new one per request. Pool sizes and per-service limits are read
+ * from system properties:
+ *   e2e.http.maxTotal              total connections (default 200)
+ *   e2e.http.maxPerRoute           connections per host:port (default 100)
+ *   e2e.http.keepAliveMs           idle keep-alive when the server sends none (default 30000)
+ *   e2e.http.acquireTimeoutMs      wait for a free connection (default 10000)
+ *   e2e.http.route.[service].max   concurrent requests to /user-service, /product-service
+ *                                  or /order-service (default maxPerRoute)
+ * Every request is also timed per endpoint into SuiteStats, which exports the totals when the
+ * JVM exits. Completed requests are also split into pool acquire, connect, write, TTFB and
+ * body read per endpoint, see phaseStats().
+ * Entities created by successful POSTs are recorded in CreatedResources for the final cleanup.
+ */
+public final class SharedHttpClient {
+
+    private static final int MAX_TOTAL = Integer.getInteger("e2e.http.maxTotal", 200);
+    private static final int MAX_PER_ROUTE = Integer.getInteger("e2e.http.maxPerRoute", 100);
+    private static final long KEEP_ALIVE_MILLIS = Long.getLong("e2e.http.keepAliveMs", 30_000L);
+    private static final int ACQUIRE_TIMEOUT_MILLIS = Integer.getInteger("e2e.http.acquireTimeoutMs", 10_000);
+    private static final int CONNECT_TIMEOUT_MILLIS = 10_000;
+    private static final int READ_TIMEOUT_MILLIS = 30_000;
+
+    private static final String[] SERVICES = {"user-service", "product-service", "order-service"};
+    private static final String[] SERVICE_URL_PROPERTIES = {"user.service.url", "product.service.url", "order.service.url"};
+
+    private static final AtomicLong CREATED = new AtomicLong();
+    private static final LongAdder REQUESTS = new LongAdder();
+    private static final StatsRegistry STATS = SuiteStats.requests();
+    private static final RequestPhaseStats PHASES = SuiteStats.phases();
+    private static final ThreadLocal<PhaseClock> PHASE_CLOCK = ThreadLocal.withInitial(PhaseClock::new);
+    private static final PoolingHttpClientConnectionManager CONNECTION_MANAGER = createConnectionManager();
+    private static final HttpComponentsClientHttpRequestFactory REQUEST_FACTORY = createRequestFactory();
+    private static final ServiceLimitInterceptor SERVICE_LIMITS = new ServiceLimitInterceptor();
+    private static final StatsInterceptor STATS_RECORDER = new StatsInterceptor();
+    private static final CreatedResourceInterceptor CREATED_RESOURCES = new CreatedResourceInterceptor();
+    private static final RestTemplate REST_TEMPLATE = builder().build();
+    private static final TestRestTemplate TEST_REST_TEMPLATE = createTestRestTemplate();
+
+    private SharedHttpClient() {
+    }
+
+    /**
+     * @return Shared RestTemplate; 4xx/5xx responses raise HttpStatusCodeException
+     */
+    public static RestTemplate restTemplate() {
+        return REST_TEMPLATE;
+    }
+
+    /**
+     * @return Shared TestRestTemplate; 4xx/5xx responses are returned, not thrown
+     */
+    public static TestRestTemplate testRestTemplate() {
+        return TEST_REST_TEMPLATE;
+    }
+
+    /**
+     * @return Builder preconfigured with the shared pool, for callers needing extra customization
+     */
+    public static RestTemplateBuilder builder() {
+        return new RestTemplateBuilder()
+                .requestFactory(() -> REQUEST_FACTORY)
+                .additionalInterceptors(CREATED_RESOURCES, SERVICE_LIMITS, STATS_RECORDER);
+    }
+
+    /**
+     * @return Per-endpoint latency and failures of every request sent through the shared pool
+     */
+    public static StatsRegistry stats() {
+        return STATS;
+    }
+
+    /**
+     * @return Per-endpoint time spent in each RequestPhase by the responses closed so far
+     */
+    public static RequestPhaseStats phaseStats() {
+        return PHASES;
+    }
+
+    public static HttpPoolStats poolStats() {
+        PoolStats stats = CONNECTION_MANAGER.getTotalStats();
+        return new HttpPoolStats(
+                stats.getLeased(),
+                stats.getPending(),
+                stats.getAvailable(),
+                stats.getMax(),
+                CREATED.get(),
+                REQUESTS.sum());
+    }
+
+    private static PoolingHttpClientConnectionManager createConnectionManager() {
+        PoolingHttpClientConnectionManager manager = new PhaseTimingConnectionManager(
+                (route, config) -> {
+                    CREATED.incrementAndGet();
+                    return ManagedHttpClientConnectionFactory.INSTANCE.create(route, config);
+                });
+        manager.setMaxTotal(MAX_TOTAL);
+        manager.setDefaultMaxPerRoute(MAX_PER_ROUTE);
+        manager.setValidateAfterInactivity(1_000);
+
+        // Direct service URLs are separate hosts, so the pool can limit them per route
+        for (int i = 0; i < SERVICES.length; i++) {
+            String url = System.getProperty(SERVICE_URL_PROPERTIES[i]);
+            if (url != null && !url.isEmpty()) {
+                manager.setMaxPerRoute(new HttpRoute(HttpHost.create(url)), serviceLimit(SERVICES[i]));
+            }
+        }
+        return manager;
+    }
+
+    private static HttpComponentsClientHttpRequestFactory createRequestFactory() {
+        ConnectionKeepAliveStrategy keepAlive = (response, context) -> {
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? Math.min(serverKeepAlive, KEEP_ALIVE_MILLIS) : KEEP_ALIVE_MILLIS;
+        };
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(CONNECTION_MANAGER)
+                .setRequestExecutor(new PhaseTimingRequestExecutor())
+                .setKeepAliveStrategy(keepAlive)
+                .evictExpiredConnections()
+                .evictIdleConnections(KEEP_ALIVE_MILLIS, TimeUnit.MILLISECONDS)
+                .disableCookieManagement()
+                .disableAutomaticRetries()
+                .build();
+
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        factory.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+        factory.setReadTimeout(READ_TIMEOUT_MILLIS);
+        factory.setConnectionRequestTimeout(ACQUIRE_TIMEOUT_MILLIS);
+        return factory;
+    }
+
+    private static TestRestTemplate createTestRestTemplate() {
+        TestRestTemplate testRestTemplate = new TestRestTemplate(builder());
+        // TestRestTemplate swaps in its own HttpClient factory, so point it back at the shared pool
+        testRestTemplate.getRestTemplate().setRequestFactory(REQUEST_FACTORY);
+        return testRestTemplate;
+    }
+
+    private static int serviceLimit(String service) {
+        return Integer.getInteger("e2e.http.route." + service + ".max", MAX_PER_ROUTE);
+    }
+
+    /**
+     * Bounds concurrent requests per service path prefix
+     * Through the gateway all services share one host:port route, so the pool alone cannot
+     * tell them apart. A permit is held until the response is closed.
+     */
+    private static final class ServiceLimitInterceptor implements ClientHttpRequestInterceptor {
+
+        private final Map<String, Semaphore> permits = new HashMap<>();
+
+        private ServiceLimitInterceptor() {
+            for (String service : SERVICES) {
+                permits.put(service, new Semaphore(serviceLimit(service), true));
+            }
+        }
+
+        @Override
+        public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+                throws IOException {
+            REQUESTS.increment();
+            String service = serviceOf(request.getURI().getPath());
+            Semaphore semaphore = service == null ? null : permits.get(service);
+            if (semaphore == null) {
+                return execution.execute(request, body);
+            }
+
+            try {
+                if (!semaphore.tryAcquire(ACQUIRE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    throw new IOException("Timed out waiting for a " + service + " connection slot");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted waiting for a " + service + " connection slot", e);
+            }
+
+            try {
+                return new PermitReleasingResponse(execution.execute(request, body), semaphore);
+            } catch (IOException | RuntimeException e) {
+                semaphore.release();
+                throw e;
+            }
+        }
+
+        private static String serviceOf(String path) {
+            if (path == null || path.length() < 2) {
+                return null;
+            }
+            int end = path.indexOf('/', 1);
+            return end < 0 ? path.substring(1) : path.substring(1, end);
+        }
+    }
+
+    /**
+     * Times each request until its response is closed, i.e. including the body read
+     * Numeric path segments are folded into [id] so each API is one endpoint row, and
+     * 4xx/5xx responses count as failures, as in Locust. The request's phases are timed
+     * by the hooks below on a per-thread PhaseClock, started here.
+     */
+    private static final class StatsInterceptor implements ClientHttpRequestInterceptor {
+
+        @Override
+        public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+                throws IOException {
+            String method = request.getMethodValue();
+            String name = endpointName(request.getURI().getPath());
+            PhaseClock clock = PHASE_CLOCK.get();
+            clock.start();
+            long start = System.nanoTime();
+            ClientHttpResponse response;
+            try {
+                response = execution.execute(request, body);
+            } catch (IOException | RuntimeException e) {
+                STATS.record(method, name, System.nanoTime() - start, false);
+                throw e;
+            }
+            return new RecordingResponse(response, method, name, start, clock);
+        }
+
+        static String endpointName(String path) {
+            if (path == null) {
+                return "";
+            }
+            StringBuilder name = new StringBuilder(path.length());
+            for (String segment : path.split("/", -1)) {
+                if (name.length() > 0 || !segment.isEmpty()) {
+                    name.append('/');
+                }
+                name.append(!segment.isEmpty() && segment.chars().allMatch(Character::isDigit) ? "[id]" : segment);
+            }
+            return name.toString();
+        }
+    }
+
+    private static final class RecordingResponse extends DelegatingResponse {
+
+        private final String method;
+        private final String name;
+        private final long startNanos;
+        // Copied off the thread's clock, which the next request on this thread restarts
+        private final long[] phaseNanos;
+        private final boolean connected;
+        private final long headersNanos;
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        private RecordingResponse(ClientHttpResponse delegate, String method, String name, long startNanos,
+                                  PhaseClock clock) {
+            super(delegate);
+            this.method = method;
+            this.name = name;
+            this.startNanos = startNanos;
+            this.phaseNanos = clock.phaseNanos.clone();
+            this.connected = clock.connected;
+            this.headersNanos = clock.headersNanos;
+        }
+
+        @Override
+        public void close() {
+            if (recorded.compareAndSet(false, true)) {
+                boolean success;
+                try {
+                    success = delegate.getRawStatusCode() < 400;
+                } catch (IOException e) {
+                    success = false;
+                }
+                long now = System.nanoTime();
+                STATS.record(method, name, now - startNanos, success);
+                if (headersNanos != 0) {
+                    phaseNanos[RequestPhase.BODY.ordinal()] = now - headersNanos;
+                    PHASES.record(method, name, phaseNanos, connected);
+                }
+            }
+            delegate.close();
+        }
+    }
+
+    /**
+     * Phase timings of the request in flight on the current thread
+     * The Apache client runs a request entirely on the calling thread, so the connection
+     * manager and request executor hooks find it without any lookup. A few nanoTime calls
+     * per request keep the overhead far below a microsecond.
+     */
+    private static final class PhaseClock {
+
+        private final long[] phaseNanos = new long[RequestPhase.values().length];
+        private boolean connected;
+        private long headersNanos;
+
+        private void start() {
+            Arrays.fill(phaseNanos, 0L);
+            connected = false;
+            headersNanos = 0L;
+        }
+
+        private void add(RequestPhase phase, long startNanos) {
+            phaseNanos[phase.ordinal()] += System.nanoTime() - startNanos;
+        }
+    }
+
+    /**
+     * Times pool leases (ACQUIRE) and the opening of new connections (CONNECT)
+     */
+    private static final class PhaseTimingConnectionManager extends PoolingHttpClientConnectionManager {
+
+        private PhaseTimingConnectionManager(HttpConnectionFactory<HttpRoute, ManagedHttpClientConnection> connections) {
+            super(connections);
+        }
+
+        @Override
+        public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+            ConnectionRequest request = super.requestConnection(route, state);
+            return new ConnectionRequest() {
+                @Override
+                public HttpClientConnection get(long timeout, TimeUnit unit)
+                        throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+                    long start = System.nanoTime();
+                    try {
+                        return request.get(timeout, unit);
+                    } finally {
+                        PHASE_CLOCK.get().add(RequestPhase.ACQUIRE, start);
+                    }
+                }
+
+                @Override
+                public boolean cancel() {
+                    return request.cancel();
+                }
+            };
+        }
+
+        @Override
+        public void connect(HttpClientConnection connection, HttpRoute route, int connectTimeout, HttpContext context)
+                throws IOException {
+            long start = System.nanoTime();
+            PhaseClock clock = PHASE_CLOCK.get();
+            try {
+                super.connect(connection, route, connectTimeout, context);
+            } finally {
+                clock.add(RequestPhase.CONNECT, start);
+                clock.connected = true;
+            }
+        }
+    }
+
+    /**
+     * Times the request write (WRITE) and the wait for the response headers (TTFB)
+     * The response entity is streamed, so the body is still unread when the headers return.
+     */
+    private static final class PhaseTimingRequestExecutor extends HttpRequestExecutor {
+
+        @Override
+        protected HttpResponse doSendRequest(org.apache.http.HttpRequest request, HttpClientConnection connection,
+                                             HttpContext context) throws IOException, HttpException {
+            long start = System.nanoTime();
+            try {
+                return super.doSendRequest(request, connection, context);
+            } finally {
+                PHASE_CLOCK.get().add(RequestPhase.WRITE, start);
+            }
+        }
+
+        @Override
+        protected HttpResponse doReceiveResponse(org.apache.http.HttpRequest request, HttpClientConnection connection,
+                                                 HttpContext context) throws HttpException, IOException {
+            long start = System.nanoTime();
+            try {
+                return super.doReceiveResponse(request, connection, context);
+            } finally {
+                PhaseClock clock = PHASE_CLOCK.get();
+                clock.add(RequestPhase.TTFB, start);
+                clock.headersNanos = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * Records the id of every entity created through the shared client in CreatedResources
+     * Only successful POSTs to a tracked collection are touched: their (small) body is read here
+     * and handed on from memory, everything else passes straight through.
+     */
+    private static final class CreatedResourceInterceptor implements ClientHttpRequestInterceptor {
+
+        @Override
+        public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+                throws IOException {
+            ClientHttpResponse response = execution.execute(request, body);
+            String path = request.getURI().getPath();
+            if (!CreatedResources.isEnabled() || !"POST".equals(request.getMethodValue())
+                    || ResourceType.forCollectionPath(path) == null || response.getRawStatusCode() / 100 != 2) {
+                return response;
+            }
+            byte[] content;
+            try (InputStream in = response.getBody()) {
+                content = in.readAllBytes();
+            } catch (IOException | RuntimeException e) {
+                response.close();
+                throw e;
+            }
+            CreatedResources.recordCreated(request.getURI(), content);
+            return new BufferedResponse(response, content);
+        }
+    }
+
+    private static final class BufferedResponse extends DelegatingResponse {
+
+        private final byte[] content;
+
+        private BufferedResponse(ClientHttpResponse delegate, byte[] content) {
+            super(delegate);
+            this.content = content;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(content);
+        }
+    }
+
+    private static final class PermitReleasingResponse extends DelegatingResponse {
+
+        private final Semaphore semaphore;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PermitReleasingResponse(ClientHttpResponse delegate, Semaphore semaphore) {
+            super(delegate);
+            this.semaphore = semaphore;
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    semaphore.release();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.selimhorri.app.e2e.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Decides when a measurement has left warm-up (cold JIT, empty connection pools, cold caches)
+ * Fed one value per metric for each completed window, e.g. the window's median latency and its
+ * throughput. Steady state is reached when every metric of the last N windows stays within
+ * the tolerance of its mean: max - min <= tolerance * mean + slack. It then holds for the rest
+ * of the measurement, starting at the first of those N windows. Defaults can be overridden with
+ *   -De2e.steady.windows=4 -De2e.steady.tolerance=0.15 -De2e.steady.slack=0.5
+ * The slack, in the metrics' own units, keeps near-zero values (sub-millisecond latencies)
+ * from never looking stable.
+ */
+public class SteadyStateDetector {
+
+    private final int windows;
+    private final double tolerance;
+    private final double slack;
+    private final Deque<double[]> recent = new ArrayDeque<>();
+    private boolean steady;
+
+    public SteadyStateDetector(int windows, double tolerance, double slack) {
+        if (windows < 2) {
+            throw new IllegalArgumentException("At least 2 windows are needed to judge stability, got " + windows);
+        }
+        this.windows = windows;
+        this.tolerance = tolerance;
+        this.slack = slack;
+    }
+
+    public static SteadyStateDetector fromSystemProperties() {
+        return new SteadyStateDetector(
+                Integer.getInteger("e2e.steady.windows", 4),
+                Double.parseDouble(System.getProperty("e2e.steady.tolerance", "0.15")),
+                Double.parseDouble(System.getProperty("e2e.steady.slack", "0.5")));
+    }
+
+    /**
+     * @param metrics Values of the window just completed, always in the same order
+     * @return Whether steady state has been reached, now or earlier
+     */
+    public synchronized boolean offer(double... metrics) {
+        if (steady) {
+            return true;
+        }
+        recent.addLast(metrics.clone());
+        if (recent.size() > windows) {
+            recent.removeFirst();
+        }
+        steady = recent.size() == windows && isStable();
+        return steady;
+    }
+
+    /**
+     * Forget the windows offered so far, e.g. after an idle window that no stable run can span
+     */
+    public synchronized void reset() {
+        recent.clear();
+    }
+
+    public synchronized boolean isSteady() {
+        return steady;
+    }
+
+    /**
+     * @return Consecutive stable windows required
+     */
+    public int getWindows() {
+        return windows;
+    }
+
+    private boolean isStable() {
+        int metrics = recent.peekFirst().length;
+        for (int m = 0; m < metrics; m++) {
+            double min = Double.MAX_VALUE;
+            double max = -Double.MAX_VALUE;
+            double sum = 0.0;
+            for (double[] window : recent) {
+                min = Math.min(min, window[m]);
+                max = Math.max(max, window[m]);
+                sum += window[m];
+            }
+            if (max - min > tolerance * (sum / windows) + slack) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
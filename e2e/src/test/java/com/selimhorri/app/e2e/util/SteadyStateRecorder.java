@@ -0,0 +1,196 @@
+package com.selimhorri.app.e2e.util;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.function.ToLongFunction;
+
+/**
+ * LatencyRecorder that finds the end of warm-up by itself instead of skipping a fixed number of
+ * calls: latencies are grouped in windows of consecutive samples and the window medians are fed
+ * to a SteadyStateDetector. Warm-up and steady-state samples land in separate recorders, and the
+ * warm-up length is kept as a metric of its own, a proxy for the services' cold-start cost.
+ * Window size defaults to 5 samples, see -De2e.steady.windowSize and SteadyStateDetector.
+ * Recording is thread-safe, though detection is only meaningful for sequential calls.
+ * measure and repeat run a call until iterations steady-state samples are recorded, spending at
+ * most maxWarmup extra calls waiting for steady state.
+ */
+public class SteadyStateRecorder {
+
+    private final String name;
+    private final SteadyStateDetector detector;
+    private final int windowSize;
+    private final LatencyRecorder all;
+    private final LatencyRecorder warmup;
+    private final LatencyRecorder steady;
+    // Completed windows that may still turn out to be the start of steady state
+    private final Deque<long[]> pending = new ArrayDeque<>();
+    private final Deque<Long> pendingStarts = new ArrayDeque<>();
+    private long[] window;
+    private int filled;
+    private long windowStartNanos;
+    private long firstNanos = -1;
+    private long warmupNanos = -1;
+
+    public SteadyStateRecorder(String name, SteadyStateDetector detector, int windowSize) {
+        this.name = name;
+        this.detector = detector;
+        this.windowSize = windowSize;
+        this.window = new long[windowSize];
+        this.all = new LatencyRecorder(name);
+        this.warmup = new LatencyRecorder(name + " warm-up");
+        this.steady = new LatencyRecorder(name);
+    }
+
+    public static SteadyStateRecorder fromSystemProperties(String name) {
+        return new SteadyStateRecorder(name, SteadyStateDetector.fromSystemProperties(),
+                Integer.getInteger("e2e.steady.windowSize", 5));
+    }
+
+    /**
+     * Repeat a call until steady state is reached and iterations calls are recorded in it, timing
+     * each call with System.nanoTime()
+     * @param name Label used in reports and assertion messages
+     * @param maxWarmup Most calls spent waiting for steady state on top of iterations
+     * @param iterations Steady-state calls to record
+     * @param call Call to time; exceptions abort the measurement
+     * @return Recorder holding the warm-up and steady-state latencies, see measured()
+     */
+    public static SteadyStateRecorder measure(String name, int maxWarmup, int iterations, Callable<?> call)
+            throws Exception {
+        SteadyStateRecorder recorder = fromSystemProperties(name);
+        recorder.repeat(maxWarmup, iterations, () -> {
+            long start = System.nanoTime();
+            call.call();
+            return System.nanoTime() - start;
+        }, Long::longValue);
+        return recorder;
+    }
+
+    /**
+     * Repeat a call like measure, recording the duration the call reports about itself, e.g.
+     * the time to the last element of a streamed response
+     * @param durationNanos Duration to record for a call's result
+     * @return Result of the last call
+     */
+    public <T> T repeat(int maxWarmup, int iterations, Callable<T> call, ToLongFunction<T> durationNanos)
+            throws Exception {
+        T result = null;
+        for (int i = 0; i < maxWarmup + iterations && steady.getCount() < iterations; i++) {
+            result = call.call();
+            recordNanos(durationNanos.applyAsLong(result));
+        }
+        return result;
+    }
+
+    /**
+     * Record one call that just completed
+     */
+    public synchronized void recordNanos(long durationNanos) {
+        long now = System.nanoTime();
+        all.recordNanos(durationNanos);
+        if (warmupNanos >= 0) {
+            steady.recordNanos(durationNanos);
+            return;
+        }
+        if (filled == 0) {
+            windowStartNanos = now - durationNanos;
+            if (firstNanos < 0) {
+                firstNanos = windowStartNanos;
+            }
+        }
+        window[filled++] = durationNanos;
+        if (filled < windowSize) {
+            return;
+        }
+
+        pending.addLast(window);
+        pendingStarts.addLast(windowStartNanos);
+        long[] completed = window;
+        window = new long[windowSize];
+        filled = 0;
+        if (detector.offer(median(completed) / 1_000_000.0)) {
+            warmupNanos = pendingStarts.getFirst() - firstNanos;
+            for (long[] stable : pending) {
+                for (long nanos : stable) {
+                    steady.recordNanos(nanos);
+                }
+            }
+            pending.clear();
+            pendingStarts.clear();
+        } else if (pending.size() == detector.getWindows()) {
+            // Not stable together with the newer windows, so the oldest can only be warm-up
+            for (long nanos : pending.removeFirst()) {
+                warmup.recordNanos(nanos);
+            }
+            pendingStarts.removeFirst();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized boolean isSteady() {
+        return warmupNanos >= 0;
+    }
+
+    /**
+     * @return Time from the first call to the start of steady state, or null if not reached
+     */
+    public synchronized Duration getWarmupDuration() {
+        return warmupNanos >= 0 ? Duration.ofNanos(warmupNanos) : null;
+    }
+
+    /**
+     * @return Calls classified as warm-up; before steady state, only those already ruled out
+     */
+    public LatencyRecorder getWarmup() {
+        return warmup;
+    }
+
+    public LatencyRecorder getSteady() {
+        return steady;
+    }
+
+    public LatencyRecorder getAll() {
+        return all;
+    }
+
+    /**
+     * @return Steady-state latencies to assert on, or every latency if steady state was never
+     * reached, in which case the percentiles still include warm-up
+     */
+    public synchronized LatencyRecorder measured() {
+        if (!isSteady()) {
+            System.out.println("⚠️ " + name + " did not reach steady state after " + all.getCount()
+                    + " calls; reporting all of them");
+            return all;
+        }
+        return steady;
+    }
+
+    /**
+     * @return Warm-up summary, e.g. "users warm-up: 15 calls over 2.31s, p50 48.20ms vs 12.10ms steady"
+     */
+    @Override
+    public synchronized String toString() {
+        if (!isSteady()) {
+            return String.format("%s warm-up: steady state not reached after %d calls", name, all.getCount());
+        }
+        if (warmup.getCount() == 0) {
+            return String.format("%s warm-up: none, steady from the first call", name);
+        }
+        return String.format("%s warm-up: %d calls over %.2fs, p50 %.2fms vs %.2fms steady", name, warmup.getCount(),
+                warmupNanos / 1_000_000_000.0, warmup.getPercentileMillis(50.0), steady.getPercentileMillis(50.0));
+    }
+
+    private static double median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+    }
+}
@@ -0,0 +1,352 @@
+package com.selimhorri.app.e2e.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Walks a list response token by token with Jackson's JsonParser instead of materializing it,
+ * so large collections are counted, validated and aggregated in constant memory
+ * Accepts the wrapped {"collection": [...]} shape returned by the services as well as a bare array.
+ * Only top-level fields of each element are inspected; nested objects are skipped.
+ */
+public class StreamingCollectionReader {
+
+    private static final String COLLECTION_FIELD = "collection";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final String[] requiredFields;
+    private final String[] numericFields;
+
+    private StreamingCollectionReader(String[] requiredFields, String[] numericFields) {
+        this.requiredFields = requiredFields;
+        this.numericFields = numericFields;
+    }
+
+    /**
+     * @param requiredFields Top-level fields every element must have with a non-null value
+     */
+    public static StreamingCollectionReader requiring(String... requiredFields) {
+        return new StreamingCollectionReader(requiredFields.clone(), new String[0]);
+    }
+
+    /**
+     * @param numericFields Top-level numeric fields to aggregate (count, min, max, sum)
+     */
+    public StreamingCollectionReader aggregating(String... numericFields) {
+        return new StreamingCollectionReader(requiredFields, numericFields.clone());
+    }
+
+    /**
+     * GET the url and scan the response body as it arrives
+     * Time to first byte is taken when the status line and headers have been received,
+     * time to last element when the closing bracket of the collection has been parsed.
+     */
+    public CollectionScan fetch(RestTemplate restTemplate, String url, HttpHeaders headers) {
+        long startNanos = System.nanoTime();
+        return restTemplate.execute(url, HttpMethod.GET,
+                request -> request.getHeaders().putAll(headers),
+                response -> {
+                    long firstByteNanos = System.nanoTime() - startNanos;
+                    if (!response.getStatusCode().is2xxSuccessful()) {
+                        throw new IllegalStateException("GET " + url + " returned " + response.getStatusCode());
+                    }
+                    return read(response.getBody(), startNanos, firstByteNanos);
+                });
+    }
+
+    /**
+     * Scan a response body that is already open
+     * @param startNanos System.nanoTime() when the request was sent
+     * @param firstByteNanos Time from startNanos until the response started arriving
+     */
+    public CollectionScan read(InputStream body, long startNanos, long firstByteNanos) throws IOException {
+        CollectionScan.Builder scan = new CollectionScan.Builder(requiredFields, numericFields);
+        scan.timeToFirstByteNanos(firstByteNanos);
+
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (!moveToCollection(parser)) {
+                throw new IOException("Response does not contain a collection array");
+            }
+            boolean[] seen = new boolean[requiredFields.length];
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IOException("Unexpected end of input inside collection");
+                }
+                if (scan.isEmpty()) {
+                    scan.timeToFirstElementNanos(System.nanoTime() - startNanos);
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    scan.element(false);
+                    continue;
+                }
+                Arrays.fill(seen, false);
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.getCurrentName();
+                    JsonToken value = parser.nextToken();
+                    int required = indexOf(requiredFields, field);
+                    if (required >= 0 && value != JsonToken.VALUE_NULL) {
+                        seen[required] = true;
+                    }
+                    int numeric = indexOf(numericFields, field);
+                    if (numeric >= 0 && value.isNumeric()) {
+                        scan.value(numeric, parser.getDoubleValue());
+                    }
+                    parser.skipChildren();
+                }
+                scan.element(allSeen(seen), seen);
+            }
+            scan.timeToLastElementNanos(System.nanoTime() - startNanos);
+            scan.bytes(parser.getCurrentLocation().getByteOffset());
+        }
+        return scan.build();
+    }
+
+    /**
+     * Advance to the START_ARRAY of the collection: either the root array or the "collection" field
+     */
+    private static boolean moveToCollection(JsonParser parser) throws IOException {
+        JsonToken root = parser.nextToken();
+        if (root == JsonToken.START_ARRAY) {
+            return true;
+        }
+        if (root != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (COLLECTION_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private static int indexOf(String[] fields, String field) {
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i].equals(field)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean allSeen(boolean[] seen) {
+        for (boolean s : seen) {
+            if (!s) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Result of scanning one collection response
+     */
+    public static class CollectionScan {
+
+        private final long elementCount;
+        private final long invalidCount;
+        private final Map<String, Long> missingByField;
+        private final Map<String, FieldAggregate> aggregates;
+        private final long bytes;
+        private final long timeToFirstByteNanos;
+        private final long timeToFirstElementNanos;
+        private final long timeToLastElementNanos;
+
+        private CollectionScan(Builder builder) {
+            this.elementCount = builder.elementCount;
+            this.invalidCount = builder.invalidCount;
+            this.missingByField = new LinkedHashMap<>();
+            for (int i = 0; i < builder.requiredFields.length; i++) {
+                missingByField.put(builder.requiredFields[i], builder.missing[i]);
+            }
+            this.aggregates = new LinkedHashMap<>();
+            for (int i = 0; i < builder.numericFields.length; i++) {
+                aggregates.put(builder.numericFields[i], builder.aggregates[i]);
+            }
+            this.bytes = builder.bytes;
+            this.timeToFirstByteNanos = builder.timeToFirstByteNanos;
+            this.timeToFirstElementNanos = builder.timeToFirstElementNanos;
+            this.timeToLastElementNanos = builder.timeToLastElementNanos;
+        }
+
+        public long getElementCount() {
+            return elementCount;
+        }
+
+        /**
+         * @return Elements that were not objects or lacked a required field
+         */
+        public long getInvalidCount() {
+            return invalidCount;
+        }
+
+        /**
+         * @return Per required field, how many elements lacked it
+         */
+        public Map<String, Long> getMissingByField() {
+            return missingByField;
+        }
+
+        public FieldAggregate getAggregate(String field) {
+            return aggregates.get(field);
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        public long getTimeToFirstByteNanos() {
+            return timeToFirstByteNanos;
+        }
+
+        /**
+         * @return Time until the first element started, or -1 for an empty collection
+         */
+        public long getTimeToFirstElementNanos() {
+            return timeToFirstElementNanos;
+        }
+
+        public long getTimeToLastElementNanos() {
+            return timeToLastElementNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d elements (%d invalid, missing %s), %d bytes, TTFB=%.2fms, last element=%.2fms %s",
+                    elementCount, invalidCount, missingByField, bytes, timeToFirstByteNanos / 1e6,
+                    timeToLastElementNanos / 1e6, aggregates.isEmpty() ? "" : aggregates.toString());
+        }
+
+        private static final class Builder {
+
+            private final String[] requiredFields;
+            private final String[] numericFields;
+            private final long[] missing;
+            private final FieldAggregate[] aggregates;
+            private long elementCount;
+            private long invalidCount;
+            private long bytes;
+            private long timeToFirstByteNanos;
+            private long timeToFirstElementNanos = -1;
+            private long timeToLastElementNanos;
+
+            private Builder(String[] requiredFields, String[] numericFields) {
+                this.requiredFields = requiredFields;
+                this.numericFields = numericFields;
+                this.missing = new long[requiredFields.length];
+                this.aggregates = new FieldAggregate[numericFields.length];
+                for (int i = 0; i < numericFields.length; i++) {
+                    aggregates[i] = new FieldAggregate();
+                }
+            }
+
+            private boolean isEmpty() {
+                return elementCount == 0;
+            }
+
+            private void element(boolean valid) {
+                elementCount++;
+                if (!valid) {
+                    invalidCount++;
+                    for (int i = 0; i < missing.length; i++) {
+                        missing[i]++;
+                    }
+                }
+            }
+
+            private void element(boolean valid, boolean[] seen) {
+                elementCount++;
+                if (!valid) {
+                    invalidCount++;
+                    for (int i = 0; i < seen.length; i++) {
+                        if (!seen[i]) {
+                            missing[i]++;
+                        }
+                    }
+                }
+            }
+
+            private void value(int field, double value) {
+                aggregates[field].add(value);
+            }
+
+            private void bytes(long bytes) {
+                this.bytes = bytes;
+            }
+
+            private void timeToFirstByteNanos(long nanos) {
+                this.timeToFirstByteNanos = nanos;
+            }
+
+            private void timeToFirstElementNanos(long nanos) {
+                this.timeToFirstElementNanos = nanos;
+            }
+
+            private void timeToLastElementNanos(long nanos) {
+                this.timeToLastElementNanos = nanos;
+            }
+
+            private CollectionScan build() {
+                return new CollectionScan(this);
+            }
+        }
+    }
+
+    /**
+     * Running count, min, max and sum of one numeric field
+     */
+    public static class FieldAggregate {
+
+        private long count;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+        private double sum;
+
+        private void add(double value) {
+            count++;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            sum += value;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getMin() {
+            return count == 0 ? Double.NaN : min;
+        }
+
+        public double getMax() {
+            return count == 0 ? Double.NaN : max;
+        }
+
+        public double getSum() {
+            return sum;
+        }
+
+        public double getMean() {
+            return count == 0 ? Double.NaN : sum / count;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("n=%d, min=%.2f, max=%.2f, mean=%.2f", count, getMin(), getMax(), getMean());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.selimhorri.app.e2e.util;
+
+import com.selimhorri.app.e2e.baseline.BaselineStore;
+import com.selimhorri.app.e2e.load.IntervalHistogramLogger;
+import com.selimhorri.app.e2e.load.LocustStatsExporter;
+import com.selimhorri.app.e2e.load.StatsRegistry;
+
+import java.time.Duration;
+
+/**
+ * Suite-wide request statistics and their export when the JVM exits
+ * SharedHttpClient records every request it sends into requests() and phases(); at the end
+ * of the run they are exported as configured:
+ *   -De2e.locustStats.dir      e2e_suite_stats.json in Locust's format
+ *   -De2e.histogramLog.dir     interval histograms logged to e2e_suite.hlog while the suite runs
+ *   -De2e.baseline.dir         a baseline run for the perf-gate profile
+ *   -De2e.http.printPhases     the per-endpoint phase table printed to stdout
+ */
+public final class SuiteStats {
+
+    private static final boolean PRINT_PHASES = Boolean.getBoolean("e2e.http.printPhases");
+
+    private static final StatsRegistry REQUESTS = new StatsRegistry();
+    private static final RequestPhaseStats PHASES = new RequestPhaseStats();
+    private static final long STARTED_NANOS = System.nanoTime();
+
+    static {
+        IntervalHistogramLogger histogramLog = IntervalHistogramLogger.startIfConfigured("e2e_suite.hlog", REQUESTS);
+        if (histogramLog != null || PRINT_PHASES || System.getProperty(LocustStatsExporter.DIR_PROPERTY) != null
+                || System.getProperty(BaselineStore.DIR_PROPERTY) != null) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                if (histogramLog != null) {
+                    histogramLog.close();
+                }
+                export();
+            }, "e2e-stats-export"));
+        }
+    }
+
+    private SuiteStats() {
+    }
+
+    /**
+     * @return Per-endpoint latency and failures of every request sent through the shared pool
+     */
+    public static StatsRegistry requests() {
+        return REQUESTS;
+    }
+
+    /**
+     * @return Per-endpoint time spent in each RequestPhase by the responses closed so far
+     */
+    public static RequestPhaseStats phases() {
+        return PHASES;
+    }
+
+    private static void export() {
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - STARTED_NANOS);
+        LocustStatsExporter.writeIfConfigured("e2e_suite_stats.json", REQUESTS, elapsed, 1);
+        // Gated afterwards with -Pperf-gate, a shutdown hook cannot fail the build
+        BaselineStore.recordIfConfigured("e2e_suite", REQUESTS, elapsed, 1);
+        if (PRINT_PHASES) {
+            PHASES.print(System.out);
+        }
+    }
+}
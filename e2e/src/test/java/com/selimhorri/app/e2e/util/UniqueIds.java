@@ -0,0 +1,110 @@
+package com.selimhorri.app.e2e.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Contention-free unique suffixes for emails, usernames, SKUs and titles of test entities
+ * An id is [run][worker][counter] in lowercase base 36:
+ *   run      10 chars: JVM start time in ms (8) + process id mod 1296 (2), or -De2e.runId
+ *   worker   4 chars, assigned once per thread
+ *   counter  per-thread sequence, as many chars as needed
+ * The run and worker parts are fixed-width, so ids never collide across the threads of a JVM,
+ * nor across JVMs with different run ids. The default run id only differs between JVMs that
+ * start in different milliseconds or whose pids differ mod 1296; JVMs launched together on
+ * several hosts need distinct -De2e.runId values, which LoadCoordinator hands its workers.
+ * Each thread only touches its own shard, so nothing is shared on the hot path (unlike
+ * UUID.randomUUID, which locks SecureRandom).
+ */
+public final class UniqueIds {
+
+    public static final String RUN_ID_PROPERTY = "e2e.runId";
+
+    private static final int RUN_CHARS = 10;
+    private static final int RUN_DISCRIMINATORS = 36 * 36;
+    private static final int WORKER_CHARS = 4;
+    private static final int MAX_WORKERS = 36 * 36 * 36 * 36;
+    private static final int PHONE_SPACE = 10_000_000;
+
+    private static final String RUN_ID = resolveRunId();
+    private static final int PHONE_SALT = Math.floorMod(RUN_ID.hashCode(), PHONE_SPACE);
+    private static final AtomicInteger WORKERS = new AtomicInteger();
+    private static final ThreadLocal<Shard> SHARDS = ThreadLocal.withInitial(Shard::new);
+
+    private UniqueIds() {
+    }
+
+    /**
+     * @return Id unique among those of every JVM with the same run id, e.g. "lz3k9a1bx40003a"
+     */
+    public static String next() {
+        Shard shard = SHARDS.get();
+        return shard.prefix + Long.toString(shard.counter++, 36);
+    }
+
+    /**
+     * Phone number of prefix plus seven digits, e.g. "+1555" + "0412337"
+     * Seven digits cannot be unique at scale; numbers are spread per worker so they only
+     * repeat after 10 million entities, which the services accept since phones are not keys.
+     */
+    public static String phone(String prefix) {
+        Shard shard = SHARDS.get();
+        int number = (int) Math.floorMod(PHONE_SALT + shard.worker * 1_000_003L + shard.phoneCounter++, (long) PHONE_SPACE);
+        char[] digits = {'0', '0', '0', '0', '0', '0', '0'};
+        for (int i = digits.length - 1; number > 0; i--, number /= 10) {
+            digits[i] = (char) ('0' + number % 10);
+        }
+        return prefix + new String(digits);
+    }
+
+    /**
+     * @return Fixed-width identifier of this JVM's run, shared by every id it generates
+     */
+    public static String runId() {
+        return RUN_ID;
+    }
+
+    /**
+     * Run id in the default format, for handing distinct ones to JVMs that start together
+     * @param epochMillis Time part, shared by the JVMs started together
+     * @param discriminator Tells those JVMs apart, 0 to 1295
+     */
+    public static String runId(long epochMillis, int discriminator) {
+        if (discriminator < 0 || discriminator >= RUN_DISCRIMINATORS) {
+            throw new IllegalArgumentException("Run id discriminator must be 0 to " + (RUN_DISCRIMINATORS - 1));
+        }
+        return pad(Long.toString(epochMillis, 36), 8) + pad(Integer.toString(discriminator, 36), 2);
+    }
+
+    private static String resolveRunId() {
+        String configured = System.getProperty(RUN_ID_PROPERTY);
+        if (configured != null) {
+            if (!configured.matches("[0-9a-z]{" + RUN_CHARS + "}")) {
+                throw new IllegalArgumentException(RUN_ID_PROPERTY + " must be " + RUN_CHARS + " lowercase base-36 characters");
+            }
+            return configured;
+        }
+        return runId(System.currentTimeMillis(), (int) (ProcessHandle.current().pid() % RUN_DISCRIMINATORS));
+    }
+
+    private static String pad(String value, int width) {
+        if (value.length() >= width) {
+            return value.substring(value.length() - width);
+        }
+        return "0".repeat(width - value.length()) + value;
+    }
+
+    private static final class Shard {
+
+        private final int worker = WORKERS.getAndIncrement();
+        private final String prefix;
+        private long counter;
+        private long phoneCounter;
+
+        private Shard() {
+            if (worker >= MAX_WORKERS) {
+                throw new IllegalStateException("More than " + MAX_WORKERS + " threads generated unique ids");
+            }
+            prefix = RUN_ID + pad(Integer.toString(worker, 36), WORKER_CHARS);
+        }
+    }
+}
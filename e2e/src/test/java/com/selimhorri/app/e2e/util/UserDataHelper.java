@@ -1,5 +1,9 @@
 package com.selimhorri.app.e2e.util;
 
+import com.selimhorri.app.e2e.corpus.TestDataCorpus;
+import com.selimhorri.app.e2e.model.CredentialDto;
+import com.selimhorri.app.e2e.model.UserDto;
+
 import java.util.HashMap;
 import java.util.Map;
 
@@ -63,4 +67,86 @@ public class UserDataHelper {
             String password) {
         return createUserRequest(firstName, lastName, email, phone, username, password, "https://example.com/default.jpg");
     }
+    
+    /**
+     * Creates a typed user request with the same fields as createUserRequest
+     * Serialized through JsonCodecs it produces the same JSON without building maps.
+     */
+    public static UserDto createUser(
+            String firstName,
+            String lastName,
+            String email,
+            String phone,
+            String username,
+            String password,
+            String imageUrl) {
+        
+        UserDto user = new UserDto();
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setEmail(email);
+        user.setPhone(phone);
+        
+        if (imageUrl != null && !imageUrl.isEmpty()) {
+            user.setImageUrl(imageUrl);
+        }
+        
+        user.setCredential(new CredentialDto(username, password, "ROLE_USER"));
+        return user;
+    }
+    
+    /**
+     * Creates a typed user request whose email, phone and username are made unique with UniqueIds
+     * 
+     * @param namePrefix First name, also used (lowercased) as the email and username prefix
+     */
+    public static UserDto createUniqueUser(String namePrefix) {
+        String handle = namePrefix.toLowerCase() + UniqueIds.next();
+        return createUser(
+                namePrefix,
+                "TestUser",
+                handle + "@example.com",
+                UniqueIds.phone("+1555"),
+                handle,
+                "TestSecure123!",
+                "https://example.com/default.jpg");
+    }
+    
+    /**
+     * Map form of createUniqueUser for tests that still post maps
+     */
+    public static Map<String, Object> createUniqueUserRequest(String namePrefix) {
+        String handle = namePrefix.toLowerCase() + UniqueIds.next();
+        return createUserRequest(
+                namePrefix,
+                "TestUser",
+                handle + "@example.com",
+                UniqueIds.phone("+1555"),
+                handle,
+                "TestSecure123!");
+    }
+    
+    /**
+     * Takes the next user from the pre-generated test data corpus (-De2e.corpus)
+     * Nothing is synthesized: names, email, phone and credential are read from the mapped file.
+     */
+    public static UserDto nextCorpusUser() {
+        TestDataCorpus corpus = TestDataCorpus.shared();
+        return corpus.user(corpus.next());
+    }
+    
+    /**
+     * Map form of nextCorpusUser for tests that still post maps
+     */
+    public static Map<String, Object> nextCorpusUserRequest() {
+        TestDataCorpus corpus = TestDataCorpus.shared();
+        long index = corpus.next();
+        return createUserRequest(
+                corpus.firstName(index),
+                corpus.lastName(index),
+                corpus.email(index),
+                corpus.phone(index),
+                corpus.username(index),
+                corpus.password(index));
+    }
 }
@@ -0,0 +1,282 @@
+package com.selimhorri.app.e2e.verify;
+
+import com.selimhorri.app.e2e.load.EndpointStats;
+import com.selimhorri.app.e2e.load.LoadHttpClient;
+import com.selimhorri.app.e2e.load.LoadRequestException;
+import com.selimhorri.app.e2e.load.StatsRegistry;
+import com.selimhorri.app.e2e.model.CartDto;
+import com.selimhorri.app.e2e.model.OrderDto;
+import com.selimhorri.app.e2e.model.ProductDto;
+import com.selimhorri.app.e2e.model.UserDto;
+import com.selimhorri.app.e2e.verify.VerificationReport.EntityCounts;
+import com.selimhorri.app.e2e.verify.VerificationReport.MismatchKind;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Verifies that created users, products, carts and orders can still be read and that their
+ * cross-service references resolve: every cart's user and every order's cart must exist
+ * GETs run on the non-blocking LoadHttpClient with at most maxInFlight checks outstanding
+ * (a check issues one GET plus at most one for its reference). With a sample rate below 1
+ * each id is checked with that probability, drawn from a seeded generator so the same
+ * sample can be re-checked, and the report estimates the population mismatch rate.
+ * Which users and carts exist is remembered, so references already seen cost no request.
+ */
+public class ConsistencyVerifier implements AutoCloseable {
+
+    public static final String USER_BY_ID = "/user-service/api/users/[id]";
+    public static final String PRODUCT_BY_ID = "/product-service/api/products/[id]";
+    public static final String CART_BY_ID = "/order-service/api/carts/[id]";
+    public static final String ORDER_BY_ID = "/order-service/api/orders/[id]";
+
+    private static final int MAX_EXAMPLES = 20;
+
+    private final int maxInFlight;
+    private final StatsRegistry stats = new StatsRegistry();
+    private final LoadHttpClient client;
+
+    private final ConcurrentMap<Integer, Boolean> userExists = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, Boolean> cartExists = new ConcurrentHashMap<>();
+    private final Map<MismatchKind, LongAdder> mismatchesByKind = new EnumMap<>(MismatchKind.class);
+    private final List<String> examples = new ArrayList<>();
+
+    /**
+     * @param baseUrl Gateway URL
+     * @param maxInFlight Maximum checks outstanding at any moment
+     */
+    public ConsistencyVerifier(String baseUrl, int maxInFlight) {
+        this.maxInFlight = Math.max(1, maxInFlight);
+        int ioThreads = Runtime.getRuntime().availableProcessors();
+        this.client = LoadHttpClient.withDaemonExecutor(baseUrl, stats, "verify", ioThreads, 1, true);
+        for (MismatchKind kind : MismatchKind.values()) {
+            mismatchesByKind.put(kind, new LongAdder());
+        }
+    }
+
+    /**
+     * Check every id (sampleRate 1.0) or a seeded random sample of them
+     * @param sampleRate Fraction of ids to check, in (0, 1]
+     * @param seed Seed of the sample, so a run can be repeated on the same ids
+     */
+    public VerificationReport verify(int[] userIds, int[] productIds, int[] cartIds, int[] orderIds,
+                                     double sampleRate, long seed) throws InterruptedException {
+        if (!(sampleRate > 0 && sampleRate <= 1)) {
+            throw new IllegalArgumentException("sampleRate must be in (0, 1]: " + sampleRate);
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        Map<String, EntityCounts> entities = new TreeMap<>();
+        long startNanos = System.nanoTime();
+
+        // Users and carts first, so the reference checks of carts and orders hit the existence caches
+        entities.put("users", run(userIds, sampleRate, random, inFlight, this::checkUser));
+        entities.put("products", run(productIds, sampleRate, random, inFlight, this::checkProduct));
+        entities.put("carts", run(cartIds, sampleRate, random, inFlight, this::checkCart));
+        entities.put("orders", run(orderIds, sampleRate, random, inFlight, this::checkOrder));
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        Map<MismatchKind, Long> byKind = new EnumMap<>(MismatchKind.class);
+        mismatchesByKind.forEach((kind, count) -> {
+            if (count.sum() > 0) {
+                byKind.put(kind, count.sum());
+            }
+        });
+        long requests = stats.all().stream().mapToLong(EndpointStats::getRequests).sum();
+        synchronized (examples) {
+            return new VerificationReport(sampleRate, elapsed, requests, entities, byKind, examples);
+        }
+    }
+
+    /**
+     * @return Per-endpoint latency of the verification requests
+     */
+    public StatsRegistry getStats() {
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+
+    private EntityCounts run(int[] ids, double sampleRate, SplittableRandom random, Semaphore inFlight,
+                             IntFunction<CompletableFuture<Boolean>> check) throws InterruptedException {
+        LongAdder checked = new LongAdder();
+        LongAdder mismatches = new LongAdder();
+        for (int id : ids) {
+            if (sampleRate < 1 && random.nextDouble() >= sampleRate) {
+                continue;
+            }
+            inFlight.acquire();
+            CompletableFuture<Boolean> future;
+            try {
+                future = check.apply(id);
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            future.whenComplete((consistent, error) -> {
+                checked.increment();
+                if (error != null) {
+                    mismatch(MismatchKind.ERROR, "check of " + id + " failed: " + error);
+                    mismatches.increment();
+                } else if (!consistent) {
+                    mismatches.increment();
+                }
+                inFlight.release();
+            });
+        }
+        // Every permit back means every check of this entity type has completed
+        inFlight.acquire(maxInFlight);
+        inFlight.release(maxInFlight);
+        return new EntityCounts(ids.length, checked.sum(), mismatches.sum());
+    }
+
+    private CompletableFuture<Boolean> checkUser(int userId) {
+        return fetch(USER_BY_ID, "/user-service/api/users/" + userId, UserDto.class, UserDto::getUserId, userId)
+                .thenApply(lookup -> {
+                    if (lookup.failure != MismatchKind.ERROR) {
+                        userExists.put(userId, lookup.failure != MismatchKind.MISSING);
+                    }
+                    return report("user", userId, lookup);
+                });
+    }
+
+    private CompletableFuture<Boolean> checkProduct(int productId) {
+        return fetch(PRODUCT_BY_ID, "/product-service/api/products/" + productId, ProductDto.class,
+                ProductDto::getProductId, productId)
+                .thenApply(lookup -> report("product", productId, lookup));
+    }
+
+    private CompletableFuture<Boolean> checkCart(int cartId) {
+        return fetch(CART_BY_ID, "/order-service/api/carts/" + cartId, CartDto.class, CartDto::getCartId, cartId)
+                .thenCompose(lookup -> {
+                    if (lookup.failure != MismatchKind.ERROR) {
+                        cartExists.put(cartId, lookup.failure != MismatchKind.MISSING);
+                    }
+                    if (!report("cart", cartId, lookup)) {
+                        return CompletableFuture.completedFuture(false);
+                    }
+                    Integer userId = lookup.value.getUserId();
+                    if (userId == null) {
+                        return CompletableFuture.completedFuture(
+                                mismatch(MismatchKind.MISSING_REFERENCE, "cart " + cartId + " has no userId"));
+                    }
+                    return exists(userExists, userId, this::checkUserExists)
+                            .thenApply(found -> found
+                                    || mismatch(MismatchKind.DANGLING_REFERENCE, "cart " + cartId + " -> missing user " + userId));
+                });
+    }
+
+    private CompletableFuture<Boolean> checkOrder(int orderId) {
+        return fetch(ORDER_BY_ID, "/order-service/api/orders/" + orderId, OrderDto.class, OrderDto::getOrderId, orderId)
+                .thenCompose(lookup -> {
+                    if (!report("order", orderId, lookup)) {
+                        return CompletableFuture.completedFuture(false);
+                    }
+                    Integer cartId = lookup.value.getCart() == null ? null : lookup.value.getCart().getCartId();
+                    if (cartId == null) {
+                        return CompletableFuture.completedFuture(
+                                mismatch(MismatchKind.MISSING_REFERENCE, "order " + orderId + " has no cart.cartId"));
+                    }
+                    return exists(cartExists, cartId, this::checkCartExists)
+                            .thenApply(found -> found
+                                    || mismatch(MismatchKind.DANGLING_REFERENCE, "order " + orderId + " -> missing cart " + cartId));
+                });
+    }
+
+    private CompletableFuture<Boolean> checkUserExists(int userId) {
+        return fetch(USER_BY_ID, "/user-service/api/users/" + userId, UserDto.class, UserDto::getUserId, userId)
+                .thenApply(lookup -> existence(lookup, "user " + userId));
+    }
+
+    private CompletableFuture<Boolean> checkCartExists(int cartId) {
+        return fetch(CART_BY_ID, "/order-service/api/carts/" + cartId, CartDto.class, CartDto::getCartId, cartId)
+                .thenApply(lookup -> existence(lookup, "cart " + cartId));
+    }
+
+    private CompletableFuture<Boolean> exists(ConcurrentMap<Integer, Boolean> cache, int id,
+                                              IntFunction<CompletableFuture<Boolean>> lookup) {
+        Boolean known = cache.get(id);
+        if (known != null) {
+            return CompletableFuture.completedFuture(known);
+        }
+        return lookup.apply(id).thenApply(found -> {
+            cache.put(id, found);
+            return found;
+        });
+    }
+
+    /**
+     * A reference that cannot be read for other reasons than 404 is surfaced as an error
+     */
+    private static boolean existence(Lookup<?> lookup, String reference) {
+        if (lookup.failure == MismatchKind.ERROR) {
+            throw new LoadRequestException("Could not read " + reference + ": " + lookup.detail, -1);
+        }
+        return lookup.failure != MismatchKind.MISSING;
+    }
+
+    private <T> CompletableFuture<Lookup<T>> fetch(String name, String path, Class<T> type,
+                                                   Function<T, Integer> idGetter, int id) {
+        return client.get(id, name, path, type).handle((value, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                boolean notFound = cause instanceof LoadRequestException
+                        && ((LoadRequestException) cause).getStatusCode() == 404;
+                return new Lookup<>(null, notFound ? MismatchKind.MISSING : MismatchKind.ERROR, cause.getMessage());
+            }
+            Integer actual = value == null ? null : idGetter.apply(value);
+            if (actual == null || actual != id) {
+                return new Lookup<>(value, MismatchKind.ID_MISMATCH, "returned id " + actual);
+            }
+            return new Lookup<>(value, null, null);
+        });
+    }
+
+    /**
+     * @return Whether the entity itself is consistent; records a mismatch otherwise
+     */
+    private boolean report(String entity, int id, Lookup<?> lookup) {
+        return lookup.failure == null || mismatch(lookup.failure, entity + " " + id + ": " + lookup.detail);
+    }
+
+    /**
+     * @return Always false, so callers can return it as the check outcome
+     */
+    private boolean mismatch(MismatchKind kind, String description) {
+        mismatchesByKind.get(kind).increment();
+        synchronized (examples) {
+            if (examples.size() < MAX_EXAMPLES) {
+                examples.add(kind + " " + description);
+            }
+        }
+        return false;
+    }
+
+    private static final class Lookup<T> {
+
+        private final T value;
+        private final MismatchKind failure;
+        private final String detail;
+
+        private Lookup(T value, MismatchKind failure, String detail) {
+            this.value = value;
+            this.failure = failure;
+            this.detail = detail;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.selimhorri.app.e2e.verify;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a consistency verification: what was checked, how fast, and what did not match
+ */
+public class VerificationReport {
+
+    /**
+     * Kinds of inconsistency the verifier can find
+     */
+    public enum MismatchKind {
+        /** The entity itself returned 404 */
+        MISSING,
+        /** The entity could not be read (connection error, 5xx, unreadable body) */
+        ERROR,
+        /** The entity came back with a different id than requested */
+        ID_MISMATCH,
+        /** A cart without userId or an order without cart.cartId */
+        MISSING_REFERENCE,
+        /** The referenced user or cart does not exist */
+        DANGLING_REFERENCE
+    }
+
+    private final double sampleRate;
+    private final Duration elapsed;
+    private final long requests;
+    private final Map<String, EntityCounts> entities;
+    private final Map<MismatchKind, Long> mismatchesByKind;
+    private final List<String> examples;
+
+    public VerificationReport(double sampleRate, Duration elapsed, long requests, Map<String, EntityCounts> entities,
+                              Map<MismatchKind, Long> mismatchesByKind, List<String> examples) {
+        this.sampleRate = sampleRate;
+        this.elapsed = elapsed;
+        this.requests = requests;
+        this.entities = Map.copyOf(entities);
+        this.mismatchesByKind = Map.copyOf(mismatchesByKind);
+        this.examples = List.copyOf(examples);
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * @return Checked and mismatching entities per entity type (users, products, carts, orders)
+     */
+    public Map<String, EntityCounts> getEntities() {
+        return entities;
+    }
+
+    public long getChecked() {
+        return entities.values().stream().mapToLong(EntityCounts::getChecked).sum();
+    }
+
+    public long getMismatches() {
+        return entities.values().stream().mapToLong(EntityCounts::getMismatches).sum();
+    }
+
+    public Map<MismatchKind, Long> getMismatchesByKind() {
+        return mismatchesByKind;
+    }
+
+    /**
+     * @return Descriptions of the first mismatches found, for diagnosis
+     */
+    public List<String> getExamples() {
+        return examples;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public double getThroughput() {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        return seconds > 0 ? getChecked() / seconds : 0.0;
+    }
+
+    public void print(PrintStream out) {
+        out.println("\n🔍 CONSISTENCY VERIFICATION SUMMARY");
+        out.println("=====================================");
+        out.printf("Mode: %s, duration: %.1fs%n",
+                sampleRate >= 1.0 ? "full" : String.format("sampled (%.2f%%)", sampleRate * 100), elapsed.toMillis() / 1000.0);
+        out.printf("Checked: %d entities (%.1f/s), %d requests%n", getChecked(), getThroughput(), requests);
+        out.printf("%-10s %9s %9s %9s %21s%n", "Entity", "Total", "Checked", "Mismatch", "Est. mismatch (95%)");
+        entities.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> {
+            EntityCounts counts = entry.getValue();
+            double[] interval = counts.mismatchRateInterval();
+            out.printf("%-10s %9d %9d %9d %9.3f%%-%.3f%%%n", entry.getKey(), counts.getTotal(), counts.getChecked(),
+                    counts.getMismatches(), interval[0] * 100, interval[1] * 100);
+        });
+        mismatchesByKind.forEach((kind, count) -> out.printf("  %s: %d%n", kind, count));
+        examples.forEach(example -> out.println("  ✗ " + example));
+        out.println("=====================================");
+    }
+
+    /**
+     * Counters for one entity type
+     */
+    public static class EntityCounts {
+
+        private final long total;
+        private final long checked;
+        private final long mismatches;
+
+        public EntityCounts(long total, long checked, long mismatches) {
+            this.total = total;
+            this.checked = checked;
+            this.mismatches = mismatches;
+        }
+
+        /**
+         * @return Ids known for the entity type, whether or not they were sampled
+         */
+        public long getTotal() {
+            return total;
+        }
+
+        public long getChecked() {
+            return checked;
+        }
+
+        public long getMismatches() {
+            return mismatches;
+        }
+
+        /**
+         * Wilson score interval of the population mismatch rate at 95% confidence
+         * With a full check the interval collapses to the observed rate.
+         * @return {low, high} as fractions
+         */
+        public double[] mismatchRateInterval() {
+            if (checked == 0) {
+                return new double[] {0.0, 1.0};
+            }
+            double observed = (double) mismatches / checked;
+            if (checked >= total) {
+                return new double[] {observed, observed};
+            }
+            double z = 1.96;
+            double z2 = z * z;
+            double denominator = 1 + z2 / checked;
+            double center = (observed + z2 / (2 * checked)) / denominator;
+            double margin = z * Math.sqrt(observed * (1 - observed) / checked + z2 / (4.0 * checked * checked)) / denominator;
+            return new double[] {Math.max(0.0, center - margin), Math.min(1.0, center + margin)};
+        }
+    }
+}
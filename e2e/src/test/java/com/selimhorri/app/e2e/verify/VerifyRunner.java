@@ -0,0 +1,57 @@
+package com.selimhorri.app.e2e.verify;
+
+import com.selimhorri.app.e2e.seed.IdFile;
+import com.selimhorri.app.e2e.util.E2EEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Command-line entry point for verifying a seeded dataset
+ * Usage: mvn -Pverify test-compile exec:java -Dapi.gateway.url=http://localhost:8100 \
+ *            -Dverify.sample=0.01 -Dverify.concurrency=64 -Dverify.seed=42
+ * Reads users.ids, products.ids, carts.ids and orders.ids from seed.dir (default target/seed), as
+ * written by SeedRunner, skipping files that do not exist. Exits with status 1 when a mismatch is found.
+ */
+public class VerifyRunner {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String baseUrl = E2EEnvironment.isStubMode()
+                ? E2EEnvironment.gatewayUrl()
+                : System.getProperty("api.gateway.url", "http://localhost:8100");
+        double sampleRate = Double.parseDouble(System.getProperty("verify.sample", "1.0"));
+        int concurrency = Integer.getInteger("verify.concurrency", 64);
+        long seed = Long.getLong("verify.seed", System.nanoTime());
+        Path dir = Paths.get(System.getProperty("seed.dir", "target/seed"));
+
+        VerificationReport report = verify(baseUrl, dir, sampleRate, concurrency, seed);
+        report.print(System.out);
+        if (report.getMismatches() > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Verify the entities listed in the id files of dir, as written by SeedRunner
+     */
+    public static VerificationReport verify(String baseUrl, Path dir, double sampleRate, int concurrency, long seed)
+            throws IOException, InterruptedException {
+        int[] users = ids(dir.resolve("users.ids"));
+        int[] products = ids(dir.resolve("products.ids"));
+        int[] carts = ids(dir.resolve("carts.ids"));
+        int[] orders = ids(dir.resolve("orders.ids"));
+        System.out.println("🔍 Verifying " + users.length + " users, " + products.length + " products, "
+                + carts.length + " carts and " + orders.length + " orders against " + baseUrl
+                + " (sample " + sampleRate + ", seed " + seed + ", concurrency " + concurrency + ")");
+
+        try (ConsistencyVerifier verifier = new ConsistencyVerifier(baseUrl, concurrency)) {
+            return verifier.verify(users, products, carts, orders, sampleRate, seed);
+        }
+    }
+
+    private static int[] ids(Path path) throws IOException {
+        return Files.exists(path) ? IdFile.read(path) : new int[0];
+    }
+}